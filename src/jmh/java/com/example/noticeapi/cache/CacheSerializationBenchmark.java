@@ -0,0 +1,103 @@
+package com.example.noticeapi.cache;
+
+import com.example.noticeapi.config.CacheCodecProperties;
+import com.example.noticeapi.config.RedisCacheConfig;
+import com.example.noticeapi.dto.FileDto;
+import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Redis 캐시 값 직렬화기로 NoticeDetailResponseDto 를 본문 1KB~1MB 크기별로 직렬화/역직렬화한다. JSON 은
+ * 기존 GenericJackson2JsonRedisSerializer, COMPACT 는 CompactCacheSerializer 이다. 항목당 바이트 수는
+ * setUp 에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheSerializationBenchmark {
+
+  private static final int ATTACHMENTS = 5;
+
+  @Param({"JSON", "COMPACT"})
+  public CacheCodecProperties.Type codec;
+
+  @Param({"1024", "16384", "131072", "1048576"})
+  public int contentBytes;
+
+  private RedisSerializer<Object> serializer;
+
+  private NoticeDetailResponseDto notice;
+
+  private byte[] serialized;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    CacheCodecProperties properties = new CacheCodecProperties();
+    properties.setType(codec);
+    serializer = RedisCacheConfig.cacheValueCodec(properties);
+    List<FileDto> files = new ArrayList<>(ATTACHMENTS);
+    for (int i = 0; i < ATTACHMENTS; i++) {
+      files.add(FileDto.builder()
+          .id((long) i + 1)
+          .originalFileName("attachment-" + i + ".pdf")
+          .storedFileName("3f/a1/" + i)
+          .filePath("/data/files/3f/a1/" + i)
+          .size(1024L * (i + 1))
+          .build());
+    }
+    // 한글 1자는 UTF-8 로 3바이트이므로 ASCII 와 섞어 실제 본문에 가깝게 만든다
+    String unit = "공지 본문 content ";
+    StringBuilder content = new StringBuilder(contentBytes);
+    while (content.length() < contentBytes) {
+      content.append(unit);
+    }
+    notice = NoticeDetailResponseDto.builder()
+        .id(1L)
+        .title("시스템 정기 점검 안내")
+        .content(content.substring(0, contentBytes))
+        .startDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .endDate(LocalDateTime.of(2024, 12, 31, 23, 59))
+        .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+        .viewCount(1234)
+        .author("운영팀")
+        .attachments(files)
+        .build();
+    serialized = serializer.serialize(notice);
+    System.out.printf("%ncodec=%s contentBytes=%d serializedBytes=%d%n", codec, contentBytes,
+        serialized.length);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return serializer.serialize(notice);
+  }
+
+  @Benchmark
+  public Object deserialize() {
+    return serializer.deserialize(serialized);
+  }
+
+  @Benchmark
+  public Object roundTrip() {
+    return serializer.deserialize(serializer.serialize(notice));
+  }
+}
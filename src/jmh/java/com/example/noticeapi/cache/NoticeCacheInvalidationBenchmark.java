@@ -0,0 +1,137 @@
+package com.example.noticeapi.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+/**
+ * GET /notices/{id} 캐시 경로를 읽기/쓰기 혼합 부하로 측정한다. ALL_ENTRIES 는 기존
+ * allEntries = true 무효화, TARGETED 는 수정된 공지 키만 삭제하는 방식이다. p99 는
+ * mixedWorkloadLatency 의 백분위, 적중률은 mixedWorkloadHitRatio 의 hits / (hits + misses) 로 본다.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+public class NoticeCacheInvalidationBenchmark {
+
+  private static final int NOTICE_COUNT = 10_000;
+
+  // 슬레이브 DB 조회 비용 대역
+  private static final long LOAD_COST_TOKENS = 20_000;
+
+  public enum Invalidation {
+    ALL_ENTRIES, TARGETED
+  }
+
+  @State(Scope.Benchmark)
+  public static class CacheState {
+
+    @Param({"ALL_ENTRIES", "TARGETED"})
+    public Invalidation invalidation;
+
+    @Param({"0.01", "0.05"})
+    public double writeRatio;
+
+    Cache cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      CacheInvalidationBus noOpBus = new CacheInvalidationBus() {
+        @Override
+        public void publish(String cacheName, String key) {
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        }
+      };
+      cache = new TwoLevelCache("notices",
+          Caffeine.newBuilder().maximumSize(NOTICE_COUNT)
+              .expireAfterWrite(Duration.ofMinutes(1)).build(),
+          new ConcurrentMapCache("notices", false), noOpBus);
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Workload {
+
+    public long hits;
+    public long misses;
+
+    private final SplittableRandom random = new SplittableRandom();
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      hits = 0;
+      misses = 0;
+    }
+
+    // 20% 의 공지가 80% 의 조회를 받는 분포
+    long nextNoticeId() {
+      if (random.nextDouble() < 0.8) {
+        return random.nextLong(NOTICE_COUNT / 5);
+      }
+      return random.nextLong(NOTICE_COUNT);
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Object mixedWorkloadLatency(CacheState state, Workload workload) {
+    return execute(state, workload);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  public Object mixedWorkloadHitRatio(CacheState state, Workload workload) {
+    return execute(state, workload);
+  }
+
+  private Object execute(CacheState state, Workload workload) {
+    long noticeId = workload.nextNoticeId();
+    if (workload.random.nextDouble() < state.writeRatio) {
+      if (state.invalidation == Invalidation.ALL_ENTRIES) {
+        state.cache.clear();
+      } else {
+        state.cache.evict(noticeId);
+      }
+      return null;
+    }
+
+    boolean[] loaded = new boolean[1];
+    Object value = state.cache.get(noticeId, () -> {
+      loaded[0] = true;
+      Blackhole.consumeCPU(LOAD_COST_TOKENS);
+      return "notice-" + noticeId;
+    });
+    if (loaded[0]) {
+      workload.misses++;
+    } else {
+      workload.hits++;
+    }
+    return value;
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.noticeapi.download;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 내장 Tomcat 에서 200MB 첨부파일을 100개 스레드가 동시에 내려받을 때의 처리량을 비교한다.
+ *
+ * <p>STREAM 은 기존 Resource 응답처럼 8KB 힙 버퍼로 복사하고, TRANSFER_TO 는 sendfile 을 끈 커넥터에서
+ * {@link FileRangeSender}의 transferTo 경로를, SENDFILE 은 Tomcat sendfile 경로를 사용한다.
+ * {@code bytes} 보조 카운터가 초당 전송 바이트 수를 보여준다.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+@Threads(100)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 20)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileDownloadThroughputBenchmark {
+
+  private static final long FILE_SIZE = 200L * 1024 * 1024;
+
+  public enum TransferMode {
+    STREAM, TRANSFER_TO, SENDFILE
+  }
+
+  @Param({"STREAM", "TRANSFER_TO", "SENDFILE"})
+  public TransferMode mode;
+
+  private Path baseDir;
+
+  private Path file;
+
+  private Tomcat tomcat;
+
+  private HttpClient client;
+
+  private HttpRequest request;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class TransferCounters {
+
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+    }
+  }
+
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    baseDir = Files.createTempDirectory("download-benchmark");
+    file = baseDir.resolve("attachment.bin");
+    byte[] chunk = new byte[1024 * 1024];
+    new Random(42).nextBytes(chunk);
+    try (OutputStream out = Files.newOutputStream(file)) {
+      for (long written = 0; written < FILE_SIZE; written += chunk.length) {
+        out.write(chunk);
+      }
+    }
+
+    FileRangeSender sender = new FileRangeSender(48 * 1024);
+    tomcat = new Tomcat();
+    tomcat.setBaseDir(baseDir.toString());
+    tomcat.setPort(0);
+    Connector connector = tomcat.getConnector();
+    connector.setProperty("useSendfile", String.valueOf(mode == TransferMode.SENDFILE));
+    connector.setProperty("maxThreads", "200");
+
+    Context context = tomcat.addContext("", null);
+    Tomcat.addServlet(context, "download", new HttpServlet() {
+      @Override
+      protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        if (mode == TransferMode.STREAM) {
+          resp.setContentType("application/octet-stream");
+          resp.setContentLengthLong(FILE_SIZE);
+          Files.copy(file, resp.getOutputStream());
+        } else {
+          sender.send(file, "attachment.bin", null, req, resp);
+        }
+      }
+    });
+    context.addServletMappingDecoded("/download", "download");
+    tomcat.start();
+
+    client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    request = HttpRequest.newBuilder(
+        URI.create("http://localhost:" + connector.getLocalPort() + "/download")).build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    tomcat.stop();
+    tomcat.destroy();
+    try (Stream<Path> paths = Files.walk(baseDir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public int download(TransferCounters counters) throws Exception {
+    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Unexpected status " + response.statusCode());
+    }
+    counters.bytes += response.headers().firstValueAsLong("Content-Length").orElse(0);
+    return response.statusCode();
+  }
+}
@@ -0,0 +1,75 @@
+package com.example.noticeapi.mapper;
+
+import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeResponseDto;
+import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 조회 응답마다 호출되는 NoticeMapper.toDto / toDetailDto 를 첨부파일 0~50 개 공지로 측정한다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NoticeMapperBenchmark {
+
+  @Param({"0", "1", "5", "20", "50"})
+  public int attachments;
+
+  private Notice notice;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<File> files = new ArrayList<>(attachments);
+    for (int i = 0; i < attachments; i++) {
+      files.add(File.builder()
+          .id((long) i + 1)
+          .originalFileName("attachment-" + i + ".pdf")
+          .storedFileName("3f/a1/" + Integer.toHexString(i) + "e4b0c44298fc1c149afbf4c8996fb924")
+          .filePath("/data/files/3f/a1/" + i)
+          .contentHash(Integer.toHexString(i) + "e4b0c44298fc1c149afbf4c8996fb924")
+          .size(1024L * (i + 1))
+          .build());
+    }
+    notice = Notice.builder()
+        .id(1L)
+        .title("시스템 정기 점검 안내")
+        .content("점검 시간 동안 서비스 이용이 제한됩니다. ".repeat(20))
+        .startDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .endDate(LocalDateTime.of(2024, 12, 31, 23, 59))
+        .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+        .viewCount(1234)
+        .author("운영팀")
+        .attachments(files)
+        .build();
+  }
+
+  @Benchmark
+  public NoticeResponseDto toDto() {
+    return NoticeMapper.toDto(notice);
+  }
+
+  @Benchmark
+  public NoticeDetailResponseDto toDetailDto() {
+    return NoticeMapper.toDetailDto(notice);
+  }
+}
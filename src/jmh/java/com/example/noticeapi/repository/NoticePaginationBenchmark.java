@@ -0,0 +1,166 @@
+package com.example.noticeapi.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * GET /notices 의 OFFSET + COUNT(*) 방식과 (created_at, id) 커서 방식이 실행하는 SQL 을 H2(MySQL 모드)에서
+ * 1 페이지와 10,000 페이지로 비교한다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoticePaginationBenchmark {
+
+  private static final int PAGE_SIZE = 10;
+
+  private static final int ROW_COUNT = 200_000;
+
+  private static final String COUNT_SQL = "SELECT COUNT(*) FROM notice WHERE is_deleted = false";
+
+  private static final String OFFSET_SQL = "SELECT id, title, created_at FROM notice "
+      + "WHERE is_deleted = false ORDER BY created_at DESC, id DESC LIMIT ? OFFSET ?";
+
+  private static final String FIRST_SLICE_SQL = "SELECT id, title, created_at FROM notice "
+      + "WHERE is_deleted = false ORDER BY created_at DESC, id DESC LIMIT ?";
+
+  private static final String NEXT_SLICE_SQL = "SELECT id, title, created_at FROM notice "
+      + "WHERE is_deleted = false AND (created_at < ? OR (created_at = ? AND id < ?)) "
+      + "ORDER BY created_at DESC, id DESC LIMIT ?";
+
+  public enum PaginationMode {
+    OFFSET, KEYSET
+  }
+
+  @Param({"OFFSET", "KEYSET"})
+  public PaginationMode mode;
+
+  @Param({"1", "10000"})
+  public int page;
+
+  private Connection connection;
+
+  private Timestamp cursorCreatedAt;
+
+  private long cursorId;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    connection = DriverManager.getConnection(
+        "jdbc:h2:mem:pagination;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    try (Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS notice");
+      statement.execute("CREATE TABLE notice (id BIGINT PRIMARY KEY, title VARCHAR(255), "
+          + "created_at TIMESTAMP, is_deleted BOOLEAN)");
+      statement.execute("CREATE INDEX idx_notice_deleted_created_at_id "
+          + "ON notice (is_deleted, created_at, id)");
+    }
+    seed();
+    resolveCursor();
+  }
+
+  private void seed() throws SQLException {
+    LocalDateTime base = LocalDateTime.of(2020, 1, 1, 0, 0);
+    connection.setAutoCommit(false);
+    try (PreparedStatement insert = connection.prepareStatement(
+        "INSERT INTO notice (id, title, created_at, is_deleted) VALUES (?, ?, ?, false)")) {
+      for (int i = 1; i <= ROW_COUNT; i++) {
+        insert.setLong(1, i);
+        insert.setString(2, "notice " + i);
+        // 같은 created_at 을 가진 행이 섞이도록 2건씩 같은 시각을 준다
+        insert.setTimestamp(3, Timestamp.valueOf(base.plusSeconds(i / 2)));
+        insert.addBatch();
+        if (i % 1_000 == 0) {
+          insert.executeBatch();
+        }
+      }
+      insert.executeBatch();
+    }
+    connection.commit();
+    connection.setAutoCommit(true);
+  }
+
+  // page 번째 페이지 직전 행의 (created_at, id) 를 커서로 준비한다
+  private void resolveCursor() throws SQLException {
+    if (page == 1) {
+      return;
+    }
+    try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+      statement.setInt(1, 1);
+      statement.setInt(2, (page - 1) * PAGE_SIZE - 1);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        cursorId = resultSet.getLong("id");
+        cursorCreatedAt = resultSet.getTimestamp("created_at");
+      }
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    connection.close();
+  }
+
+  @Benchmark
+  public void fetchPage(Blackhole blackhole) throws SQLException {
+    if (mode == PaginationMode.OFFSET) {
+      try (PreparedStatement count = connection.prepareStatement(COUNT_SQL);
+          ResultSet resultSet = count.executeQuery()) {
+        resultSet.next();
+        blackhole.consume(resultSet.getLong(1));
+      }
+      try (PreparedStatement statement = connection.prepareStatement(OFFSET_SQL)) {
+        statement.setInt(1, PAGE_SIZE);
+        statement.setInt(2, (page - 1) * PAGE_SIZE);
+        consume(statement, blackhole);
+      }
+    } else if (page == 1) {
+      try (PreparedStatement statement = connection.prepareStatement(FIRST_SLICE_SQL)) {
+        statement.setInt(1, PAGE_SIZE + 1);
+        consume(statement, blackhole);
+      }
+    } else {
+      try (PreparedStatement statement = connection.prepareStatement(NEXT_SLICE_SQL)) {
+        statement.setTimestamp(1, cursorCreatedAt);
+        statement.setTimestamp(2, cursorCreatedAt);
+        statement.setLong(3, cursorId);
+        statement.setInt(4, PAGE_SIZE + 1);
+        consume(statement, blackhole);
+      }
+    }
+  }
+
+  private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+    try (ResultSet resultSet = statement.executeQuery()) {
+      while (resultSet.next()) {
+        blackhole.consume(resultSet.getLong("id"));
+        blackhole.consume(resultSet.getString("title"));
+        blackhole.consume(resultSet.getTimestamp("created_at"));
+      }
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 첨부파일 수에 따른 공지사항 등록 트랜잭션의 지연 시간을 비교한다. (H2, MySQL 모드)
+ *
+ * <p>PER_ROW 는 기존처럼 첨부파일마다 개별 저장(INSERT 왕복)하고, BATCHED 는 공지사항과 함께 cascade 로
+ * 저장하여 {@code hibernate.jdbc.batch_size} 단위로 묶는다. 디스크 쓰기는 측정에서 제외한다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NoticeCreateBenchmark {
+
+  public enum PersistMode {
+    PER_ROW, BATCHED
+  }
+
+  @Param({"PER_ROW", "BATCHED"})
+  public PersistMode mode;
+
+  @Param({"0", "5", "20", "50"})
+  public int attachments;
+
+  private SessionFactory sessionFactory;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    sessionFactory = new Configuration()
+        .addAnnotatedClass(Notice.class)
+        .addAnnotatedClass(File.class)
+        .setProperty("hibernate.connection.url",
+            "jdbc:h2:mem:create-notice;MODE=MySQL;DB_CLOSE_DELAY=-1")
+        .setProperty("hibernate.connection.username", "sa")
+        .setProperty("hibernate.connection.password", "")
+        .setProperty("hibernate.hbm2ddl.auto", "create-drop")
+        .setProperty("hibernate.jdbc.batch_size", mode == PersistMode.BATCHED ? "50" : "1")
+        .setProperty("hibernate.order_inserts", "true")
+        .setProperty("hibernate.id.optimizer.pooled.preferred", "pooled-lo")
+        .buildSessionFactory();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    sessionFactory.close();
+  }
+
+  @Benchmark
+  public Long createNotice() {
+    try (Session session = sessionFactory.openSession()) {
+      Transaction transaction = session.beginTransaction();
+      Notice notice = Notice.builder()
+          .title("Title")
+          .content("Content")
+          .author("Author")
+          .createdAt(LocalDateTime.now())
+          .isDeleted(false)
+          .build();
+      if (mode == PersistMode.PER_ROW) {
+        session.persist(notice);
+        session.flush();
+      }
+      for (int i = 0; i < attachments; i++) {
+        File attachment = File.builder()
+            .originalFileName("file" + i + ".pdf")
+            .storedFileName("stored-" + i + ".pdf")
+            .filePath("/tmp/stored-" + i + ".pdf")
+            .notice(notice)
+            .build();
+        if (mode == PersistMode.PER_ROW) {
+          session.persist(attachment);
+          session.flush();
+        } else {
+          notice.getAttachments().add(attachment);
+        }
+      }
+      if (mode == PersistMode.BATCHED) {
+        session.persist(notice);
+      }
+      transaction.commit();
+      return notice.getId();
+    }
+  }
+}
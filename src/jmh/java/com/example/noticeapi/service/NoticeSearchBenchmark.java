@@ -0,0 +1,109 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.search.NoticeSearchIndex;
+import com.example.noticeapi.search.NoticeTokenizer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * NoticeService.searchNotices 가 DB 조회 전에 수행하는 CPU 경로를 측정한다. prepareQuery 는 검색어
+ * 정규화와 gram 분해, indexSearch 는 공지 10,000 건 색인에서 후보를 구하고 원문 부분 일치까지 확인해 첫
+ * 페이지 id 를 얻는 비용이다.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NoticeSearchBenchmark {
+
+  private static final int NOTICE_COUNT = 10_000;
+
+  private static final String[] WORDS = {"공지", "점검", "서비스", "안내", "변경", "이벤트", "system",
+      "update", "보안", "정책", "결제", "배송", "회원", "notice", "장애", "복구"};
+
+  public enum Query {
+    // 2글자 한 단어라 gram 후보가 곧 결과인 질의
+    SHORT_EXACT,
+    // 여러 단어라 후보 중 원문 확인에서 걸러지는 공지가 있는 질의
+    MULTI_WORD,
+    // 제목, 본문, 작성자를 모두 지정한 질의
+    ALL_FIELDS
+  }
+
+  @Param({"SHORT_EXACT", "MULTI_WORD", "ALL_FIELDS"})
+  public Query query;
+
+  private NoticeSearchIndex index;
+
+  private NoticeSearchDto criteria;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    index = new NoticeSearchIndex();
+    LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 1; i <= NOTICE_COUNT; i++) {
+      Notice notice = Notice.builder()
+          .id((long) i)
+          .title(sentence(random, 4))
+          .content(sentence(random, 60))
+          .author("작성자" + random.nextInt(50))
+          .createdAt(base.plusMinutes(i))
+          .build();
+      index.index(notice);
+    }
+    index.markReady();
+
+    criteria = switch (query) {
+      case SHORT_EXACT -> NoticeSearchDto.builder().title("공지").build();
+      case MULTI_WORD -> NoticeSearchDto.builder().title("서비스 점검 안내").build();
+      case ALL_FIELDS -> NoticeSearchDto.builder().title("보안 정책")
+          .content("Update 변경").author("작성자1").build();
+    };
+  }
+
+  private static String sentence(SplittableRandom random, int words) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return sentence.toString();
+  }
+
+  @Benchmark
+  public void prepareQuery(Blackhole blackhole) {
+    for (String value : new String[] {criteria.getTitle(), criteria.getContent(),
+        criteria.getAuthor()}) {
+      if (value != null) {
+        blackhole.consume(NoticeTokenizer.queryGrams(value));
+      }
+    }
+  }
+
+  @Benchmark
+  public List<Long> indexSearch() {
+    return index.search(criteria, 0, 10);
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.noticeapi.loadtest;
+
+/**
+ * 부하 혼합 비율에 쓰는 엔드포인트 이름. --mix 의 키와 보고서의 행 이름이 된다.
+ */
+enum Endpoint {
+  LIST("GET /notices"),
+  DETAIL("GET /notices/{id}"),
+  SEARCH("GET /notices/search"),
+  CREATE("POST /notices"),
+  DOWNLOAD("GET /files/download/{id}");
+
+  private final String label;
+
+  Endpoint(String label) {
+    this.label = label;
+  }
+
+  String getLabel() {
+    return label;
+  }
+}
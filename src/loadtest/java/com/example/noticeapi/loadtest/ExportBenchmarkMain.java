@@ -0,0 +1,192 @@
+package com.example.noticeapi.loadtest;
+
+import com.example.noticeapi.NoticeapiApplication;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 공지 내보내기 벤치마크. 파일 기반 H2 에 공지를 시드한 뒤 {@code GET /notices/export}를 끝까지 읽으면서
+ * 처리량과 힙 사용량을 잰다. 테이블 데이터가 힙에 올라가지 않도록 인메모리 H2 대신 파일 DB 를 쓴다.
+ *
+ * <p>실행: {@code ./gradlew exportBenchmark --args="--rows=1000000 --format=csv"}
+ */
+public final class ExportBenchmarkMain {
+
+  private static final int SEED_BATCH_SIZE = 5_000;
+
+  private static final long HEAP_SAMPLE_INTERVAL_MILLIS = 10;
+
+  private ExportBenchmarkMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    Map<String, String> options = parse(args);
+    int rows = Integer.parseInt(options.getOrDefault("rows", "1000000"));
+    String format = options.getOrDefault("format", "ndjson");
+    int contentBytes = Integer.parseInt(options.getOrDefault("content-bytes", "200"));
+
+    Path directory = Files.createTempDirectory("notice-export-benchmark");
+    String url = "jdbc:h2:file:" + directory.resolve("notice").toAbsolutePath()
+        + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+    try (InMemoryRedisServer redis = new InMemoryRedisServer();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+            NoticeapiApplication.class)
+            .profiles("loadtest")
+            .run("--server.port=0",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redis.getPort(),
+                "--spring.datasource.master.url=" + url,
+                "--spring.datasource.replicas[0].url=" + url,
+                "--file.storage.location=" + directory.resolve("files"))) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+      long seedStart = System.nanoTime();
+      seed(context.getBean(JdbcTemplate.class), rows, contentBytes);
+      System.out.printf(Locale.ROOT, "Seeded %d notices in %.1fs%n", rows,
+          (System.nanoTime() - seedStart) / 1e9);
+
+      System.gc();
+      long baseline = heapUsed();
+      List<MemoryPoolMXBean> heapPools = heapPools();
+      heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+      HeapSampler sampler = new HeapSampler();
+      sampler.start();
+      long exportStart = System.nanoTime();
+      long[] counts = export(URI.create("http://localhost:" + port + "/notices/export?format="
+          + format));
+      double seconds = (System.nanoTime() - exportStart) / 1e9;
+      sampler.interrupt();
+      sampler.join();
+
+      System.out.println();
+      System.out.printf(Locale.ROOT, "Exported %d lines / %.1f MiB as %s in %.1fs "
+              + "(%.0f rows/s, %.1f MiB/s)%n", counts[1], counts[0] / 1048576.0, format, seconds,
+          rows / seconds, counts[0] / 1048576.0 / seconds);
+      System.out.printf(Locale.ROOT, "Max heap: %.1f MiB%n",
+          Runtime.getRuntime().maxMemory() / 1048576.0);
+      System.out.printf(Locale.ROOT, "Heap used before export (after GC): %.1f MiB%n",
+          baseline / 1048576.0);
+      System.out.printf(Locale.ROOT, "Peak heap used during export (sampled): %.1f MiB%n",
+          sampler.peak.get() / 1048576.0);
+      // GC 직후 사용량이 곧 살아 있는 객체 크기다. 전체 건수에 비례해 늘면 어딘가에서 결과를 쌓고 있다
+      for (MemoryPoolMXBean pool : heapPools) {
+        MemoryUsage collection = pool.getCollectionUsage();
+        System.out.printf(Locale.ROOT, "  %-28s peak %8.1f MiB, after last GC %8.1f MiB%n",
+            pool.getName(), pool.getPeakUsage().getUsed() / 1048576.0,
+            collection == null ? 0 : collection.getUsed() / 1048576.0);
+      }
+    }
+  }
+
+  private static void seed(JdbcTemplate jdbcTemplate, int rows, int contentBytes) {
+    String content = "x".repeat(contentBytes);
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+    for (int i = 1; i <= rows; i++) {
+      Timestamp created = Timestamp.valueOf(createdAt.plusSeconds(i));
+      batch.add(new Object[]{(long) i, "Notice " + i, content, "Author " + (i % 100), created,
+          Timestamp.valueOf(createdAt.plusSeconds(i).plusDays(30)), created, created});
+      if (batch.size() == SEED_BATCH_SIZE || i == rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO notice (id, title, content, author, start_date, "
+            + "end_date, created_at, updated_at, view_count, is_deleted, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, FALSE, 0)", batch);
+        batch.clear();
+      }
+    }
+  }
+
+  // 응답을 버리면서 바이트 수와 줄 수만 센다
+  private static long[] export(URI uri) throws Exception {
+    HttpClient client = HttpClient.newHttpClient();
+    HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri).GET().build(),
+        HttpResponse.BodyHandlers.ofInputStream());
+    if (response.statusCode() != 200) {
+      throw new IllegalStateException("Export failed with status " + response.statusCode());
+    }
+    long bytes = 0;
+    long lines = 0;
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream body = response.body()) {
+      int read;
+      while ((read = body.read(buffer)) != -1) {
+        bytes += read;
+        for (int i = 0; i < read; i++) {
+          if (buffer[i] == '\n') {
+            lines++;
+          }
+        }
+      }
+    }
+    return new long[]{bytes, lines};
+  }
+
+  private static List<MemoryPoolMXBean> heapPools() {
+    List<MemoryPoolMXBean> pools = new ArrayList<>();
+    for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+      if (pool.getType() == MemoryType.HEAP) {
+        pools.add(pool);
+      }
+    }
+    return pools;
+  }
+
+  private static long heapUsed() {
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+
+  private static Map<String, String> parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --key=value but got " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    return values;
+  }
+
+  private static final class HeapSampler extends Thread {
+
+    private final AtomicLong peak = new AtomicLong();
+
+    HeapSampler() {
+      super("heap-sampler");
+      setDaemon(true);
+    }
+
+    @Override
+    public void run() {
+      while (!isInterrupted()) {
+        peak.accumulateAndGet(heapUsed(), Math::max);
+        try {
+          Thread.sleep(HEAP_SAMPLE_INTERVAL_MILLIS);
+        } catch (InterruptedException ex) {
+          return;
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,544 @@
+package com.example.noticeapi.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 부하 테스트용 인프로세스 Redis 대역. 실제 Lettuce 클라이언트가 그대로 붙을 수 있도록 RESP2 로 동작하며,
+ * 캐시(GET/SET/DEL/KEYS)와 무효화 버스(PUBLISH/SUBSCRIBE)가 쓰는 명령만 구현한다. 키는 바이트를 그대로 보존하기
+ * 위해 ISO-8859-1 문자열로 다룬다.
+ */
+final class InMemoryRedisServer implements AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(InMemoryRedisServer.class);
+
+  private static final byte[] CRLF = {'\r', '\n'};
+
+  private final ServerSocket serverSocket;
+
+  private final Map<String, Entry> values = new ConcurrentHashMap<>();
+
+  private final Map<String, Set<Client>> channelSubscribers = new ConcurrentHashMap<>();
+
+  private final Map<String, Set<Client>> patternSubscribers = new ConcurrentHashMap<>();
+
+  private final ExecutorService connections = Executors.newCachedThreadPool(runnable -> {
+    Thread thread = new Thread(runnable, "redis-stand-in");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private volatile boolean running = true;
+
+  InMemoryRedisServer() throws IOException {
+    serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::acceptLoop, "redis-stand-in-acceptor");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  @Override
+  public void close() throws IOException {
+    running = false;
+    serverSocket.close();
+    connections.shutdownNow();
+  }
+
+  private void acceptLoop() {
+    while (running) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        connections.execute(() -> serve(socket));
+      } catch (IOException ex) {
+        if (running) {
+          logger.warn("Redis stand-in accept failed", ex);
+        }
+      }
+    }
+  }
+
+  private void serve(Socket socket) {
+    Client client = null;
+    try (socket) {
+      client = new Client(new BufferedOutputStream(socket.getOutputStream()));
+      InputStream in = new BufferedInputStream(socket.getInputStream());
+      List<byte[]> command;
+      while ((command = readCommand(in)) != null) {
+        if (!handle(client, command)) {
+          break;
+        }
+      }
+    } catch (IOException ignored) {
+      // 클라이언트가 연결을 끊은 경우
+    } finally {
+      if (client != null) {
+        unsubscribeAll(client);
+      }
+    }
+  }
+
+  private boolean handle(Client client, List<byte[]> command) throws IOException {
+    String name = text(command.get(0)).toUpperCase(Locale.ROOT);
+    List<byte[]> args = command.subList(1, command.size());
+    Reply reply = new Reply();
+    switch (name) {
+      // HELLO 를 거절하면 Lettuce 는 RESP2 로 내려와 접속한다
+      case "HELLO" -> reply.error("ERR unknown command 'HELLO'");
+      case "PING" -> {
+        if (args.isEmpty()) {
+          reply.simple("PONG");
+        } else {
+          reply.bulk(args.get(0));
+        }
+      }
+      case "ECHO" -> reply.bulk(args.get(0));
+      case "AUTH", "CLIENT", "SELECT", "READONLY", "READWRITE" -> reply.simple("OK");
+      case "INFO" -> reply.bulk(("# Server\r\nredis_version:7.2.0\r\nredis_mode:standalone\r\n")
+          .getBytes(StandardCharsets.US_ASCII));
+      case "QUIT" -> {
+        reply.simple("OK");
+        client.write(reply);
+        return false;
+      }
+      case "GET" -> reply.bulk(valueOf(key(args, 0)));
+      case "MGET" -> {
+        reply.arrayHeader(args.size());
+        for (int i = 0; i < args.size(); i++) {
+          reply.bulk(valueOf(key(args, i)));
+        }
+      }
+      case "SET" -> set(args, reply);
+      case "SETEX" -> {
+        put(key(args, 0), args.get(2), expiresAfter(Long.parseLong(text(args.get(1))) * 1000));
+        reply.simple("OK");
+      }
+      case "PSETEX" -> {
+        put(key(args, 0), args.get(2), expiresAfter(Long.parseLong(text(args.get(1)))));
+        reply.simple("OK");
+      }
+      case "SETNX" -> reply.integer(putIfAbsent(key(args, 0), args.get(1), 0) ? 1 : 0);
+      case "GETDEL" -> {
+        Entry removed = values.remove(key(args, 0));
+        reply.bulk(removed == null || removed.isExpired() ? null : removed.value());
+      }
+      case "DEL", "UNLINK" -> {
+        long removed = 0;
+        for (int i = 0; i < args.size(); i++) {
+          Entry entry = values.remove(key(args, i));
+          if (entry != null && !entry.isExpired()) {
+            removed++;
+          }
+        }
+        reply.integer(removed);
+      }
+      case "EXISTS" -> {
+        long found = 0;
+        for (int i = 0; i < args.size(); i++) {
+          if (valueOf(key(args, i)) != null) {
+            found++;
+          }
+        }
+        reply.integer(found);
+      }
+      case "KEYS" -> {
+        List<String> keys = matchingKeys(text(args.get(0)));
+        reply.arrayHeader(keys.size());
+        keys.forEach(key -> reply.bulk(key.getBytes(StandardCharsets.ISO_8859_1)));
+      }
+      case "SCAN" -> {
+        // 한 번에 전부 돌려주고 커서 0 으로 끝낸다
+        String pattern = "*";
+        for (int i = 1; i + 1 < args.size(); i += 2) {
+          if ("MATCH".equalsIgnoreCase(text(args.get(i)))) {
+            pattern = text(args.get(i + 1));
+          }
+        }
+        List<String> keys = matchingKeys(pattern);
+        reply.arrayHeader(2);
+        reply.bulk("0".getBytes(StandardCharsets.US_ASCII));
+        reply.arrayHeader(keys.size());
+        keys.forEach(key -> reply.bulk(key.getBytes(StandardCharsets.ISO_8859_1)));
+      }
+      case "EXPIRE" -> reply.integer(
+          expire(key(args, 0), Long.parseLong(text(args.get(1))) * 1000) ? 1 : 0);
+      case "PEXPIRE" -> reply.integer(
+          expire(key(args, 0), Long.parseLong(text(args.get(1)))) ? 1 : 0);
+      case "TTL" -> reply.integer(ttlMillis(key(args, 0), 1000));
+      case "PTTL" -> reply.integer(ttlMillis(key(args, 0), 1));
+      case "INCR" -> increment(key(args, 0), 1, reply);
+      case "INCRBY" -> increment(key(args, 0), Long.parseLong(text(args.get(1))), reply);
+      case "DECR" -> increment(key(args, 0), -1, reply);
+      case "DECRBY" -> increment(key(args, 0), -Long.parseLong(text(args.get(1))), reply);
+      case "FLUSHDB", "FLUSHALL" -> {
+        values.clear();
+        reply.simple("OK");
+      }
+      case "PUBLISH" -> reply.integer(publish(text(args.get(0)), args.get(1)));
+      case "SUBSCRIBE" -> subscribe(client, args, channelSubscribers, client.channels,
+          "subscribe", reply);
+      case "PSUBSCRIBE" -> subscribe(client, args, patternSubscribers, client.patterns,
+          "psubscribe", reply);
+      case "UNSUBSCRIBE" -> unsubscribe(client, args, channelSubscribers, client.channels,
+          "unsubscribe", reply);
+      case "PUNSUBSCRIBE" -> unsubscribe(client, args, patternSubscribers, client.patterns,
+          "punsubscribe", reply);
+      default -> reply.error("ERR unknown command '" + name + "'");
+    }
+    client.write(reply);
+    return true;
+  }
+
+  private void set(List<byte[]> args, Reply reply) {
+    String key = key(args, 0);
+    byte[] value = args.get(1);
+    long expiresAt = 0;
+    boolean onlyIfAbsent = false;
+    boolean onlyIfPresent = false;
+    boolean returnOld = false;
+    for (int i = 2; i < args.size(); i++) {
+      String option = text(args.get(i)).toUpperCase(Locale.ROOT);
+      switch (option) {
+        case "EX" -> expiresAt = expiresAfter(Long.parseLong(text(args.get(++i))) * 1000);
+        case "PX" -> expiresAt = expiresAfter(Long.parseLong(text(args.get(++i))));
+        case "EXAT" -> expiresAt = Long.parseLong(text(args.get(++i))) * 1000;
+        case "PXAT" -> expiresAt = Long.parseLong(text(args.get(++i)));
+        case "NX" -> onlyIfAbsent = true;
+        case "XX" -> onlyIfPresent = true;
+        case "GET" -> returnOld = true;
+        case "KEEPTTL" -> {
+          Entry current = values.get(key);
+          expiresAt = current == null ? 0 : current.expiresAt();
+        }
+        default -> {
+          reply.error("ERR syntax error");
+          return;
+        }
+      }
+    }
+    byte[] old = valueOf(key);
+    boolean written;
+    if (onlyIfAbsent) {
+      written = putIfAbsent(key, value, expiresAt);
+    } else if (onlyIfPresent) {
+      written = old != null;
+      if (written) {
+        put(key, value, expiresAt);
+      }
+    } else {
+      put(key, value, expiresAt);
+      written = true;
+    }
+    if (returnOld) {
+      reply.bulk(old);
+    } else if (written) {
+      reply.simple("OK");
+    } else {
+      reply.bulk(null);
+    }
+  }
+
+  private byte[] valueOf(String key) {
+    Entry entry = values.get(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired()) {
+      values.remove(key, entry);
+      return null;
+    }
+    return entry.value();
+  }
+
+  private void put(String key, byte[] value, long expiresAt) {
+    values.put(key, new Entry(value, expiresAt));
+  }
+
+  private boolean putIfAbsent(String key, byte[] value, long expiresAt) {
+    Entry created = new Entry(value, expiresAt);
+    return values.compute(key, (k, current) ->
+        current == null || current.isExpired() ? created : current) == created;
+  }
+
+  private boolean expire(String key, long millis) {
+    return values.computeIfPresent(key, (k, current) -> current.isExpired()
+        ? null : new Entry(current.value(), expiresAfter(millis))) != null;
+  }
+
+  private long ttlMillis(String key, long unit) {
+    Entry entry = values.get(key);
+    if (entry == null || entry.isExpired()) {
+      return -2;
+    }
+    if (entry.expiresAt() == 0) {
+      return -1;
+    }
+    return (entry.expiresAt() - System.currentTimeMillis()) / unit;
+  }
+
+  private void increment(String key, long delta, Reply reply) {
+    long[] result = new long[1];
+    try {
+      values.compute(key, (k, current) -> {
+        long base = current == null || current.isExpired() ? 0
+            : Long.parseLong(text(current.value()));
+        result[0] = base + delta;
+        return new Entry(Long.toString(result[0]).getBytes(StandardCharsets.US_ASCII),
+            current == null || current.isExpired() ? 0 : current.expiresAt());
+      });
+      reply.integer(result[0]);
+    } catch (NumberFormatException ex) {
+      reply.error("ERR value is not an integer or out of range");
+    }
+  }
+
+  private List<String> matchingKeys(String glob) {
+    Pattern pattern = globToPattern(glob);
+    List<String> keys = new ArrayList<>();
+    values.forEach((key, entry) -> {
+      if (!entry.isExpired() && pattern.matcher(key).matches()) {
+        keys.add(key);
+      }
+    });
+    return keys;
+  }
+
+  private long publish(String channel, byte[] message) {
+    long receivers = 0;
+    for (Client subscriber : channelSubscribers.getOrDefault(channel, Set.of())) {
+      Reply push = new Reply();
+      push.arrayHeader(3);
+      push.bulk("message".getBytes(StandardCharsets.US_ASCII));
+      push.bulk(channel.getBytes(StandardCharsets.ISO_8859_1));
+      push.bulk(message);
+      receivers += subscriber.tryWrite(push) ? 1 : 0;
+    }
+    for (Map.Entry<String, Set<Client>> subscription : patternSubscribers.entrySet()) {
+      if (!globToPattern(subscription.getKey()).matcher(channel).matches()) {
+        continue;
+      }
+      for (Client subscriber : subscription.getValue()) {
+        Reply push = new Reply();
+        push.arrayHeader(4);
+        push.bulk("pmessage".getBytes(StandardCharsets.US_ASCII));
+        push.bulk(subscription.getKey().getBytes(StandardCharsets.ISO_8859_1));
+        push.bulk(channel.getBytes(StandardCharsets.ISO_8859_1));
+        push.bulk(message);
+        receivers += subscriber.tryWrite(push) ? 1 : 0;
+      }
+    }
+    return receivers;
+  }
+
+  private void subscribe(Client client, List<byte[]> args, Map<String, Set<Client>> registry,
+      Set<String> own, String kind, Reply reply) {
+    for (int i = 0; i < args.size(); i++) {
+      String name = key(args, i);
+      registry.computeIfAbsent(name, n -> ConcurrentHashMap.newKeySet()).add(client);
+      own.add(name);
+      reply.arrayHeader(3);
+      reply.bulk(kind.getBytes(StandardCharsets.US_ASCII));
+      reply.bulk(args.get(i));
+      reply.integer(client.channels.size() + client.patterns.size());
+    }
+  }
+
+  private void unsubscribe(Client client, List<byte[]> args, Map<String, Set<Client>> registry,
+      Set<String> own, String kind, Reply reply) {
+    List<String> names = new ArrayList<>();
+    for (int i = 0; i < args.size(); i++) {
+      names.add(key(args, i));
+    }
+    if (names.isEmpty()) {
+      names.addAll(own);
+    }
+    if (names.isEmpty()) {
+      reply.arrayHeader(3);
+      reply.bulk(kind.getBytes(StandardCharsets.US_ASCII));
+      reply.bulk(null);
+      reply.integer(client.channels.size() + client.patterns.size());
+      return;
+    }
+    for (String name : names) {
+      Set<Client> subscribers = registry.get(name);
+      if (subscribers != null) {
+        subscribers.remove(client);
+      }
+      own.remove(name);
+      reply.arrayHeader(3);
+      reply.bulk(kind.getBytes(StandardCharsets.US_ASCII));
+      reply.bulk(name.getBytes(StandardCharsets.ISO_8859_1));
+      reply.integer(client.channels.size() + client.patterns.size());
+    }
+  }
+
+  private void unsubscribeAll(Client client) {
+    client.channels.forEach(channel -> channelSubscribers.getOrDefault(channel, Set.of())
+        .remove(client));
+    client.patterns.forEach(pattern -> patternSubscribers.getOrDefault(pattern, Set.of())
+        .remove(client));
+  }
+
+  private static List<byte[]> readCommand(InputStream in) throws IOException {
+    int type = in.read();
+    if (type == -1) {
+      return null;
+    }
+    if (type != '*') {
+      throw new IOException("Inline commands are not supported");
+    }
+    int count = Integer.parseInt(readLine(in));
+    List<byte[]> parts = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      if (in.read() != '$') {
+        throw new IOException("Expected bulk string");
+      }
+      int length = Integer.parseInt(readLine(in));
+      byte[] part = in.readNBytes(length);
+      if (part.length != length || in.read() != '\r' || in.read() != '\n') {
+        throw new EOFException();
+      }
+      parts.add(part);
+    }
+    return parts;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int b;
+    while ((b = in.read()) != '\r') {
+      if (b == -1) {
+        throw new EOFException();
+      }
+      line.append((char) b);
+    }
+    if (in.read() != '\n') {
+      throw new IOException("Malformed line");
+    }
+    return line.toString();
+  }
+
+  private static Pattern globToPattern(String glob) {
+    StringBuilder regex = new StringBuilder();
+    for (char c : glob.toCharArray()) {
+      switch (c) {
+        case '*' -> regex.append(".*");
+        case '?' -> regex.append('.');
+        default -> regex.append(Pattern.quote(String.valueOf(c)));
+      }
+    }
+    return Pattern.compile(regex.toString(), Pattern.DOTALL);
+  }
+
+  private static long expiresAfter(long millis) {
+    return System.currentTimeMillis() + millis;
+  }
+
+  private static String key(List<byte[]> args, int index) {
+    return new String(args.get(index), StandardCharsets.ISO_8859_1);
+  }
+
+  private static String text(byte[] bytes) {
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private record Entry(byte[] value, long expiresAt) {
+
+    boolean isExpired() {
+      return expiresAt != 0 && System.currentTimeMillis() >= expiresAt;
+    }
+  }
+
+  private static final class Client {
+
+    private final OutputStream out;
+
+    private final Set<String> channels = ConcurrentHashMap.newKeySet();
+
+    private final Set<String> patterns = ConcurrentHashMap.newKeySet();
+
+    private Client(OutputStream out) {
+      this.out = out;
+    }
+
+    // 구독 메시지는 다른 연결의 스레드가 쓰므로 응답과 섞이지 않게 직렬화한다
+    synchronized void write(Reply reply) throws IOException {
+      reply.writeTo(out);
+      out.flush();
+    }
+
+    boolean tryWrite(Reply reply) {
+      try {
+        write(reply);
+        return true;
+      } catch (IOException ex) {
+        return false;
+      }
+    }
+  }
+
+  private static final class Reply {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    void simple(String value) {
+      line('+', value);
+    }
+
+    void error(String message) {
+      line('-', message);
+    }
+
+    void integer(long value) {
+      line(':', Long.toString(value));
+    }
+
+    void arrayHeader(int size) {
+      line('*', Integer.toString(size));
+    }
+
+    void bulk(byte[] value) {
+      if (value == null) {
+        line('$', "-1");
+        return;
+      }
+      line('$', Integer.toString(value.length));
+      buffer.writeBytes(value);
+      buffer.writeBytes(CRLF);
+    }
+
+    private void line(char type, String value) {
+      buffer.write(type);
+      buffer.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+      buffer.writeBytes(CRLF);
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+      buffer.writeTo(out);
+    }
+  }
+}
@@ -0,0 +1,142 @@
+package com.example.noticeapi.loadtest;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 목표 RPS 로 요청을 일정 간격에 내보내는 open-loop 부하 발생기. 지연 시간은 요청을 보냈어야 할 시각부터
+ * 응답 완료까지로 재므로, 서버가 밀려 클라이언트가 대기한 시간도 그대로 지연에 포함된다(coordinated
+ * omission 보정).
+ */
+final class LoadGenerator {
+
+  private final NoticeApiClient client;
+
+  private final LoadTestOptions options;
+
+  private final List<Long> noticeIds;
+
+  private final List<Long> fileIds;
+
+  private final Endpoint[] schedule;
+
+  private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+  private final AtomicLong inFlight = new AtomicLong();
+
+  private final AtomicLong maxInFlight = new AtomicLong();
+
+  LoadGenerator(NoticeApiClient client, LoadTestOptions options, List<Long> noticeIds,
+      List<Long> fileIds) {
+    this.client = client;
+    this.options = options;
+    this.noticeIds = noticeIds;
+    this.fileIds = fileIds;
+    // 비율 가중치만큼 엔드포인트를 펼쳐 두고 균등 추첨한다
+    int total = options.mix.values().stream().mapToInt(Integer::intValue).sum();
+    schedule = new Endpoint[total];
+    int index = 0;
+    for (Map.Entry<Endpoint, Integer> weight : options.mix.entrySet()) {
+      for (int i = 0; i < weight.getValue(); i++) {
+        schedule[index++] = weight.getKey();
+      }
+      if (weight.getValue() > 0) {
+        stats.put(weight.getKey(), new EndpointStats());
+      }
+    }
+  }
+
+  Map<Endpoint, EndpointStats> run() throws InterruptedException {
+    AtomicInteger threadNumber = new AtomicInteger();
+    ExecutorService workers = Executors.newFixedThreadPool(options.clients, runnable -> {
+      Thread thread = new Thread(runnable, "load-client-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rps;
+    long start = System.nanoTime();
+    long measureFrom = start + options.warmup.toNanos();
+    long end = measureFrom + options.duration.toNanos();
+    try {
+      for (long i = 0; ; i++) {
+        long intended = start + i * intervalNanos;
+        if (intended >= end) {
+          break;
+        }
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+          LockSupport.parkNanos(wait);
+        }
+        Endpoint endpoint = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+        boolean measured = intended >= measureFrom;
+        long current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        workers.execute(() -> execute(endpoint, intended, measured));
+      }
+    } finally {
+      workers.shutdown();
+    }
+    if (!workers.awaitTermination(1, TimeUnit.MINUTES)) {
+      workers.shutdownNow();
+    }
+    return stats;
+  }
+
+  long getMaxInFlight() {
+    return maxInFlight.get();
+  }
+
+  private void execute(Endpoint endpoint, long intended, boolean measured) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    int status;
+    try {
+      status = switch (endpoint) {
+        case LIST -> client.list(random.nextInt(options.listPages));
+        case DETAIL -> client.detail(noticeIds.get(random.nextInt(noticeIds.size())));
+        case SEARCH -> client.search(NoticeApiClient.randomWords(random, 1 + random.nextInt(2)));
+        case CREATE -> client.create(random);
+        case DOWNLOAD -> client.download(fileIds.get(random.nextInt(fileIds.size())));
+      };
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      status = -1;
+    } catch (Exception ex) {
+      status = -1;
+    } finally {
+      inFlight.decrementAndGet();
+    }
+    if (measured) {
+      stats.get(endpoint).record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended),
+          status);
+    }
+  }
+
+  static final class EndpointStats {
+
+    // 마이크로초 단위, 유효숫자 3자리로 자동 확장한다
+    final Histogram latencyMicros = new ConcurrentHistogram(3);
+
+    final AtomicLong errors = new AtomicLong();
+
+    final Map<Integer, AtomicLong> errorStatuses = new ConcurrentHashMap<>();
+
+    void record(long micros, int status) {
+      latencyMicros.recordValue(Math.max(1, micros));
+      if (status < 200 || status >= 300) {
+        errors.incrementAndGet();
+        errorStatuses.computeIfAbsent(status, s -> new AtomicLong()).incrementAndGet();
+      }
+    }
+  }
+}
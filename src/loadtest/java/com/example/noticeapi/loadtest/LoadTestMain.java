@@ -0,0 +1,141 @@
+package com.example.noticeapi.loadtest;
+
+import com.example.noticeapi.NoticeapiApplication;
+import com.example.noticeapi.loadtest.LoadGenerator.EndpointStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * MySQL, Redis 없이 노트북에서 돌리는 부하 테스트. H2(MySQL 모드)와 인프로세스 Redis 대역으로 애플리케이션을
+ * 띄우고, 공지를 시드한 뒤 설정한 혼합 비율과 RPS 로 요청을 보내 엔드포인트별 처리량과 지연 분포를 출력한다.
+ *
+ * <p>실행: {@code ./gradlew loadTest --args="--rps=500 --clients=128 --duration=2m"}
+ */
+public final class LoadTestMain {
+
+  private static final int SEED_THREADS = 16;
+
+  private LoadTestMain() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    Path storage = Files.createTempDirectory("notice-loadtest-files");
+    try (InMemoryRedisServer redis = new InMemoryRedisServer();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(
+            NoticeapiApplication.class)
+            .profiles("loadtest")
+            .run("--server.port=0",
+                "--spring.data.redis.host=localhost",
+                "--spring.data.redis.port=" + redis.getPort(),
+                "--file.storage.location=" + storage)) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      NoticeApiClient client = new NoticeApiClient(URI.create("http://localhost:" + port),
+          options.attachments, options.attachmentBytes);
+
+      System.out.println("Load test: " + options);
+      List<Long> noticeIds = Collections.synchronizedList(new ArrayList<>());
+      List<Long> fileIds = Collections.synchronizedList(new ArrayList<>());
+      long seedStart = System.nanoTime();
+      seed(client, options.notices, noticeIds, fileIds);
+      System.out.printf(Locale.ROOT, "Seeded %d notices / %d files in %.1fs%n",
+          noticeIds.size(), fileIds.size(), (System.nanoTime() - seedStart) / 1e9);
+
+      LoadGenerator generator = new LoadGenerator(client, options, List.copyOf(noticeIds),
+          List.copyOf(fileIds));
+      Map<Endpoint, EndpointStats> stats = generator.run();
+      report(System.out, stats, options);
+      System.out.println("Max requests in flight: " + generator.getMaxInFlight());
+      writeHistograms(options.output, stats);
+    }
+  }
+
+  private static void seed(NoticeApiClient client, int notices, List<Long> noticeIds,
+      List<Long> fileIds) throws Exception {
+    ExecutorService seeders = Executors.newFixedThreadPool(SEED_THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>(notices);
+      for (int i = 0; i < notices; i++) {
+        long seed = i;
+        futures.add(seeders.submit(() -> {
+          JsonNode notice = client.createAndRead(new SplittableRandom(seed));
+          noticeIds.add(notice.get("id").asLong());
+          notice.get("attachments").forEach(file -> fileIds.add(file.get("id").asLong()));
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      seeders.shutdownNow();
+    }
+  }
+
+  private static void report(PrintStream out, Map<Endpoint, EndpointStats> stats,
+      LoadTestOptions options) {
+    double seconds = options.duration.toMillis() / 1000.0;
+    out.println();
+    out.printf(Locale.ROOT, "%-26s %9s %8s %9s %9s %9s %9s %9s %9s%n", "endpoint", "requests",
+        "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+    Histogram total = new Histogram(3);
+    long totalErrors = 0;
+    for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+      Histogram histogram = entry.getValue().latencyMicros;
+      long errors = entry.getValue().errors.get();
+      total.add(histogram);
+      totalErrors += errors;
+      printRow(out, entry.getKey().getLabel(), histogram, errors, seconds);
+    }
+    printRow(out, "total", total, totalErrors, seconds);
+    stats.forEach((endpoint, endpointStats) -> {
+      if (!endpointStats.errorStatuses.isEmpty()) {
+        // -1 은 연결 실패나 타임아웃
+        out.println(endpoint.getLabel() + " error statuses: " + endpointStats.errorStatuses);
+      }
+    });
+  }
+
+  private static void printRow(PrintStream out, String label, Histogram histogram, long errors,
+      double seconds) {
+    out.printf(Locale.ROOT, "%-26s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", label,
+        histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+        millis(histogram.getValueAtPercentile(50)), millis(histogram.getValueAtPercentile(90)),
+        millis(histogram.getValueAtPercentile(99)), millis(histogram.getValueAtPercentile(99.9)),
+        millis(histogram.getMaxValue()));
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+
+  // HdrHistogram 플로터로 커밋 간 분포를 겹쳐 볼 수 있도록 엔드포인트별 .hgrm 파일을 남긴다
+  private static void writeHistograms(Path output, Map<Endpoint, EndpointStats> stats)
+      throws IOException {
+    Files.createDirectories(output);
+    for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+      Path file = output.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+      try (PrintStream out = new PrintStream(Files.newOutputStream(file), true, "UTF-8")) {
+        entry.getValue().latencyMicros.outputPercentileDistribution(out, 1000.0);
+      }
+    }
+    System.out.println("Latency distributions (ms) written to " + output.toAbsolutePath());
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.noticeapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * --key=value 형식의 실행 인자. 지정하지 않은 값은 노트북에서 1분 안에 끝나는 기본값을 쓴다.
+ */
+final class LoadTestOptions {
+
+  final int notices;
+  final int attachments;
+  final int attachmentBytes;
+  final int rps;
+  final int clients;
+  final Duration warmup;
+  final Duration duration;
+  final int listPages;
+  final Map<Endpoint, Integer> mix;
+  final Path output;
+
+  private LoadTestOptions(Map<String, String> values) {
+    notices = Integer.parseInt(values.getOrDefault("notices", "1000"));
+    attachments = Integer.parseInt(values.getOrDefault("attachments", "2"));
+    attachmentBytes = Integer.parseInt(values.getOrDefault("attachment-bytes", "16384"));
+    rps = Integer.parseInt(values.getOrDefault("rps", "200"));
+    clients = Integer.parseInt(values.getOrDefault("clients", "64"));
+    warmup = DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s"));
+    duration = DurationStyle.detectAndParse(values.getOrDefault("duration", "60s"));
+    listPages = Integer.parseInt(values.getOrDefault("list-pages", "10"));
+    mix = parseMix(values.getOrDefault("mix",
+        "list=40,detail=35,search=15,create=5,download=5"));
+    output = Path.of(values.getOrDefault("output", "build/loadtest"));
+
+    // POST /notices 는 files 파트가 필수이므로 첨부 없는 공지는 만들 수 없다
+    require(attachments >= 1, "attachments must be at least 1");
+    require(notices >= 1, "notices must be at least 1");
+    require(rps >= 1, "rps must be at least 1");
+    require(clients >= 1, "clients must be at least 1");
+    require(mix.values().stream().mapToInt(Integer::intValue).sum() > 0,
+        "mix must have at least one positive weight");
+  }
+
+  static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new HashMap<>();
+    for (String arg : args) {
+      if (!arg.startsWith("--") || !arg.contains("=")) {
+        throw new IllegalArgumentException("Expected --key=value but got " + arg);
+      }
+      int separator = arg.indexOf('=');
+      values.put(arg.substring(2, separator), arg.substring(separator + 1));
+    }
+    return new LoadTestOptions(values);
+  }
+
+  private static Map<Endpoint, Integer> parseMix(String spec) {
+    Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+    for (String entry : spec.split(",")) {
+      String[] pair = entry.trim().split("=");
+      if (pair.length != 2) {
+        throw new IllegalArgumentException("Invalid mix entry " + entry);
+      }
+      int weight = Integer.parseInt(pair[1].trim());
+      require(weight >= 0, "mix weight must not be negative: " + entry);
+      mix.put(Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+    }
+    return mix;
+  }
+
+  private static void require(boolean condition, String message) {
+    if (!condition) {
+      throw new IllegalArgumentException(message);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "notices=" + notices + ", attachments=" + attachments + " x " + attachmentBytes
+        + "B, rps=" + rps + ", clients=" + clients + ", warmup=" + warmup + ", duration="
+        + duration + ", mix=" + mix;
+  }
+}
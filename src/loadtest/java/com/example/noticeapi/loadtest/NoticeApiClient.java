@@ -0,0 +1,142 @@
+package com.example.noticeapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+/**
+ * 부하 테스트가 호출하는 공지 API 요청을 만든다. 응답 본문은 시드 단계에서만 읽고, 측정 중에는 끝까지
+ * 받아 버린다.
+ */
+final class NoticeApiClient {
+
+  static final String[] WORDS = {"공지", "점검", "서비스", "안내", "변경", "이벤트", "system",
+      "update", "보안", "정책", "결제", "배송", "회원", "notice", "장애", "복구"};
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+  private final HttpClient httpClient = HttpClient.newBuilder()
+      .version(HttpClient.Version.HTTP_1_1)
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  private final URI baseUri;
+
+  private final int attachments;
+
+  private final int attachmentBytes;
+
+  NoticeApiClient(URI baseUri, int attachments, int attachmentBytes) {
+    this.baseUri = baseUri;
+    this.attachments = attachments;
+    this.attachmentBytes = attachmentBytes;
+  }
+
+  int list(int page) throws IOException, InterruptedException {
+    return discard(get("/notices?page=" + page + "&size=10"));
+  }
+
+  int detail(long noticeId) throws IOException, InterruptedException {
+    return discard(get("/notices/" + noticeId));
+  }
+
+  int search(String title) throws IOException, InterruptedException {
+    return discard(get("/notices/search?title=" + URLEncoder.encode(title, StandardCharsets.UTF_8)));
+  }
+
+  int download(long fileId) throws IOException, InterruptedException {
+    return discard(get("/files/download/" + fileId));
+  }
+
+  int create(RandomGenerator random) throws IOException, InterruptedException {
+    return discard(createRequest(random));
+  }
+
+  /**
+   * 공지를 하나 만들고 응답 본문을 돌려준다. 시드 단계에서 공지와 첨부파일 id 를 모으는 데 쓴다.
+   */
+  JsonNode createAndRead(RandomGenerator random) throws IOException, InterruptedException {
+    HttpResponse<String> response = httpClient.send(createRequest(random),
+        BodyHandlers.ofString());
+    if (response.statusCode() != 201) {
+      throw new IOException("POST /notices returned " + response.statusCode() + ": "
+          + response.body());
+    }
+    return objectMapper.readTree(response.body());
+  }
+
+  static String randomWords(RandomGenerator random, int count) {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        text.append(' ');
+      }
+      text.append(WORDS[random.nextInt(WORDS.length)]);
+    }
+    return text.toString();
+  }
+
+  private HttpRequest get(String path) {
+    return HttpRequest.newBuilder(baseUri.resolve(path))
+        .timeout(REQUEST_TIMEOUT)
+        .GET()
+        .build();
+  }
+
+  private HttpRequest createRequest(RandomGenerator random) throws IOException {
+    ObjectNode notice = objectMapper.createObjectNode();
+    LocalDateTime now = LocalDateTime.now().withNano(0);
+    notice.put("title", randomWords(random, 4));
+    notice.put("content", randomWords(random, 60));
+    notice.put("startDate", now.toString());
+    notice.put("endDate", now.plusDays(30).toString());
+    notice.put("author", "작성자" + random.nextInt(50));
+
+    String boundary = "loadtest-" + UUID.randomUUID();
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    writePart(body, boundary, "Content-Disposition: form-data; name=\"notice\"",
+        "application/json", objectMapper.writeValueAsBytes(notice));
+    for (int i = 0; i < attachments; i++) {
+      // 내용 주소 저장에서 중복 제거되지 않도록 매번 다른 내용을 만든다
+      byte[] content = new byte[attachmentBytes];
+      random.nextBytes(content);
+      writePart(body, boundary,
+          "Content-Disposition: form-data; name=\"files\"; filename=\"attachment-" + i + ".bin\"",
+          "application/octet-stream", content);
+    }
+    body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+
+    return HttpRequest.newBuilder(baseUri.resolve("/notices"))
+        .timeout(REQUEST_TIMEOUT)
+        .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+        .build();
+  }
+
+  private static void writePart(ByteArrayOutputStream body, String boundary, String disposition,
+      String contentType, byte[] content) {
+    body.writeBytes(("--" + boundary + "\r\n" + disposition + "\r\nContent-Type: " + contentType
+        + "\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+    body.writeBytes(content);
+    body.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private int discard(HttpRequest request) throws IOException, InterruptedException {
+    return httpClient.send(request, BodyHandlers.discarding()).statusCode();
+  }
+}
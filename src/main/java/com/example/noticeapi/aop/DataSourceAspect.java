@@ -1,6 +1,11 @@
 package com.example.noticeapi.aop;
 
 import com.example.noticeapi.config.DataSourceContextHolder;
+import com.example.noticeapi.config.ReplicationRoutingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.atomic.LongAdder;
 import org.aspectj.lang.annotation.After;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -9,14 +14,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Aspect
 @Component
-public class DataSourceAspect {
+public class DataSourceAspect implements MeterBinder {
+
+  private final LongAdder masterTransactions = new LongAdder();
+
+  private final LongAdder slaveTransactions = new LongAdder();
 
   @Before("@annotation(transactional) && execution(* com.example.noticeapi.service..*(..))")
   public void beforeTransactionalMethod(Transactional transactional) {
     if (transactional.readOnly()) {
-      DataSourceContextHolder.setDataSourceType("slave");
+      DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+      slaveTransactions.increment();
     } else {
-      DataSourceContextHolder.setDataSourceType("master");
+      DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.MASTER);
+      masterTransactions.increment();
     }
   }
 
@@ -24,4 +35,15 @@ public class DataSourceAspect {
   public void afterTransactionalMethod(Transactional transactional) {
     DataSourceContextHolder.clearDataSourceType();
   }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    // 요청된 라우팅 키 기준이다. 실제로 어느 복제본에서 처리됐는지는 datasource.routing.reads 로 본다
+    FunctionCounter.builder("datasource.routing.transactions", masterTransactions, LongAdder::sum)
+        .tag("target", ReplicationRoutingDataSource.MASTER)
+        .register(registry);
+    FunctionCounter.builder("datasource.routing.transactions", slaveTransactions, LongAdder::sum)
+        .tag("target", ReplicationRoutingDataSource.SLAVE)
+        .register(registry);
+  }
 }
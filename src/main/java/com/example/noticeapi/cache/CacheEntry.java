@@ -0,0 +1,30 @@
+package com.example.noticeapi.cache;
+
+import java.time.Duration;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 값과 조기 갱신에 필요한 정보를 함께 담는다. L2 항목의 TTL 은 {@link #timeToLive()}로 이 만료
+ * 시각에 맞춰지므로, 노드마다 같은 만료 시각을 보고 갱신 여부를 판단한다.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheEntry {
+
+  private Object value;
+  // epoch millis, TTL 지터가 적용된 값
+  private long expiresAt;
+  // 값을 계산하는 데 걸린 시간(ms). 0 이면 만료 전에 미리 갱신하지 않는다
+  private long computeMillis;
+
+  public Duration timeToLive() {
+    return Duration.ofMillis(Math.max(1, expiresAt - System.currentTimeMillis()));
+  }
+
+  static Object unwrap(Object cached) {
+    return cached instanceof CacheEntry entry ? entry.value : cached;
+  }
+}
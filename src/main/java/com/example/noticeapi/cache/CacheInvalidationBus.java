@@ -0,0 +1,10 @@
+package com.example.noticeapi.cache;
+
+import java.util.function.Consumer;
+
+public interface CacheInvalidationBus {
+
+  void publish(String cacheName, String key);
+
+  void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
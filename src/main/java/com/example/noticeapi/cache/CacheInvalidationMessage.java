@@ -0,0 +1,16 @@
+package com.example.noticeapi.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidationMessage {
+
+  private String origin;
+  private String cacheName;
+  // null 이면 캐시 전체 무효화
+  private String key;
+}
@@ -0,0 +1,27 @@
+package com.example.noticeapi.cache;
+
+/**
+ * 같은 키를 여러 노드가 동시에 적재하지 않도록 잠깐 빌려 두는 임대. 노드 안의 동시 미스는
+ * {@link TwoLevelCache}가 키 단위로 묶으므로, 임대는 노드마다 한 번씩만 요청된다.
+ */
+public interface CacheLease {
+
+  // 임대 없이 항상 적재한다
+  CacheLease NONE = new CacheLease() {
+    @Override
+    public String tryAcquire(String cacheName, String key) {
+      return "";
+    }
+
+    @Override
+    public void release(String cacheName, String key, String token) {
+    }
+  };
+
+  /**
+   * @return 임대를 얻으면 반납할 때 쓸 토큰, 다른 노드가 이미 가지고 있으면 null
+   */
+  String tryAcquire(String cacheName, String key);
+
+  void release(String cacheName, String key, String token);
+}
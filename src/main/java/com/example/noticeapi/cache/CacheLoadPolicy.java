@@ -0,0 +1,67 @@
+package com.example.noticeapi.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 항목의 TTL 과 조기 갱신 시점을 정한다.
+ *
+ * <p>TTL 은 {@code ttl * (1 ± ttlJitter)} 범위에서 무작위로 정해 함께 적재된 항목이 한꺼번에 만료되지
+ * 않게 한다. 조기 갱신은 XFetch 방식으로, {@code now - computeMillis * beta * ln(rand) >= expiresAt}
+ * 이면 만료 전에 미리 다시 계산한다. 계산이 오래 걸리는 값일수록, 만료가 가까울수록 갱신 확률이 커진다.
+ */
+public class CacheLoadPolicy {
+
+  // 값을 감싸지 않고 그대로 저장한다. 만료 시각을 모르므로 조기 갱신도 하지 않는다
+  public static final CacheLoadPolicy NONE = new CacheLoadPolicy(null, 0, 0, Duration.ZERO);
+
+  private final Duration ttl;
+
+  private final double ttlJitter;
+
+  private final double earlyRefreshBeta;
+
+  private final Duration leaseWait;
+
+  public CacheLoadPolicy(Duration ttl, double ttlJitter, double earlyRefreshBeta,
+      Duration leaseWait) {
+    if (ttlJitter < 0 || ttlJitter >= 1) {
+      throw new IllegalArgumentException("ttlJitter must be in [0, 1): " + ttlJitter);
+    }
+    this.ttl = ttl;
+    this.ttlJitter = ttlJitter;
+    this.earlyRefreshBeta = earlyRefreshBeta;
+    this.leaseWait = leaseWait;
+  }
+
+  Object wrap(Object value, long computeMillis) {
+    if (ttl == null || value == null) {
+      return value;
+    }
+    return new CacheEntry(value, System.currentTimeMillis() + jitteredTtlMillis(),
+        computeMillis);
+  }
+
+  long jitteredTtlMillis() {
+    long base = ttl.toMillis();
+    if (ttlJitter == 0) {
+      return base;
+    }
+    double factor = 1 + ttlJitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    return Math.max(1, Math.round(base * factor));
+  }
+
+  boolean shouldRefreshEarly(Object cached) {
+    if (!(cached instanceof CacheEntry entry) || earlyRefreshBeta <= 0) {
+      return false;
+    }
+    // nextDouble() 은 0 을 포함하므로 (0, 1] 로 바꿔 ln(0) 을 피한다
+    double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+    double gap = -entry.getComputeMillis() * earlyRefreshBeta * Math.log(random);
+    return System.currentTimeMillis() + gap >= entry.getExpiresAt();
+  }
+
+  Duration getLeaseWait() {
+    return leaseWait;
+  }
+}
@@ -0,0 +1,25 @@
+package com.example.noticeapi.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class CacheTierStats {
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  void recordHit() {
+    hits.increment();
+  }
+
+  void recordMiss() {
+    misses.increment();
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,430 @@
+package com.example.noticeapi.cache;
+
+import com.example.noticeapi.dto.FileDto;
+import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeResponseDto;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * 캐시 값을 필드 순서대로 적는 바이너리 형식. 클래스 이름 같은 타입 정보 대신 1바이트 태그를 쓰고, 인코딩
+ * 결과가 임계값보다 크면 Deflate(BEST_SPEED)로 압축한다.
+ *
+ * <pre>
+ * [version:1][flags:1][원본 길이:varint, 압축 시][body]
+ * body = [tag:1][필드...]
+ * </pre>
+ *
+ * <p>첫 바이트가 JSON 으로 시작하면 이전 직렬화기로 저장된 값으로 보고 fallback 으로 읽으므로, 배포 중에
+ * 두 형식이 섞여 있어도 읽을 수 있다. 알 수 없는 버전은 캐시 미스로 처리한다. 태그가 없는 타입은 fallback
+ * 직렬화기의 결과를 그대로 담는다. {@code writeCompact}가 꺼져 있으면 쓰기는 fallback(JSON)으로 하고 읽기만
+ * 두 형식을 받는다.
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+  private static final Logger logger = LoggerFactory.getLogger(CompactCacheSerializer.class);
+
+  // 2: 공지에 version, updatedAt 추가
+  static final byte VERSION = 2;
+
+  private static final int FLAG_DEFLATED = 1;
+
+  private static final byte TAG_NOTICE_DETAIL = 1;
+  private static final byte TAG_NOTICE = 2;
+  private static final byte TAG_FILE = 3;
+  private static final byte TAG_LIST = 4;
+  private static final byte TAG_ENTRY = 5;
+  private static final byte TAG_FALLBACK = 127;
+
+  private static final ThreadLocal<Deflater> DEFLATER =
+      ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED, true));
+
+  private static final ThreadLocal<Inflater> INFLATER =
+      ThreadLocal.withInitial(() -> new Inflater(true));
+
+  private final RedisSerializer<Object> fallback;
+
+  private final int compressionThreshold;
+
+  private final boolean writeCompact;
+
+  public CompactCacheSerializer(RedisSerializer<Object> fallback, int compressionThreshold) {
+    this(fallback, compressionThreshold, true);
+  }
+
+  public CompactCacheSerializer(RedisSerializer<Object> fallback, int compressionThreshold,
+      boolean writeCompact) {
+    this.fallback = fallback;
+    this.compressionThreshold = compressionThreshold;
+    this.writeCompact = writeCompact;
+  }
+
+  @Override
+  public byte[] serialize(Object value) throws SerializationException {
+    if (value == null) {
+      return new byte[0];
+    }
+    if (!writeCompact) {
+      return fallback.serialize(value);
+    }
+    Output body = new Output();
+    writeValue(body, value);
+    byte[] encoded = body.toByteArray();
+
+    if (encoded.length > compressionThreshold) {
+      byte[] deflated = deflate(encoded);
+      if (deflated != null) {
+        Output output = new Output();
+        output.write(VERSION);
+        output.write(FLAG_DEFLATED);
+        output.writeVarInt(encoded.length);
+        output.write(deflated, 0, deflated.length);
+        return output.toByteArray();
+      }
+    }
+    byte[] result = new byte[encoded.length + 2];
+    result[0] = VERSION;
+    result[1] = 0;
+    System.arraycopy(encoded, 0, result, 2, encoded.length);
+    return result;
+  }
+
+  @Override
+  public Object deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] == '{' || bytes[0] == '[') {
+      return fallback.deserialize(bytes);
+    }
+    if (bytes[0] != VERSION || bytes.length < 2) {
+      logger.debug("Ignoring cache entry written with codec version {}", bytes[0]);
+      return null;
+    }
+    Input input = new Input(bytes, 2);
+    if ((bytes[1] & FLAG_DEFLATED) != 0) {
+      int length = input.readVarInt();
+      input = new Input(inflate(bytes, input.position, length), 0);
+    }
+    return readValue(input);
+  }
+
+  private void writeValue(Output out, Object value) {
+    if (value instanceof CacheEntry entry) {
+      out.write(TAG_ENTRY);
+      out.writeVarLong(entry.getExpiresAt());
+      out.writeVarLong(entry.getComputeMillis());
+      writeValue(out, entry.getValue());
+    } else if (value instanceof NoticeDetailResponseDto notice) {
+      out.write(TAG_NOTICE_DETAIL);
+      writeNotice(out, notice.getId(), notice.getTitle(), notice.getContent(),
+          notice.getStartDate(), notice.getEndDate(), notice.getCreatedAt(),
+          notice.getViewCount(), notice.getAuthor(), notice.getAttachments(),
+          notice.getVersion(), notice.getUpdatedAt());
+    } else if (value instanceof NoticeResponseDto notice) {
+      out.write(TAG_NOTICE);
+      writeNotice(out, notice.getId(), notice.getTitle(), notice.getContent(),
+          notice.getStartDate(), notice.getEndDate(), notice.getCreatedAt(),
+          notice.getViewCount(), notice.getAuthor(), notice.getAttachments(),
+          notice.getVersion(), notice.getUpdatedAt());
+    } else if (value instanceof FileDto file) {
+      out.write(TAG_FILE);
+      writeFile(out, file);
+    } else if (value instanceof List<?> list) {
+      out.write(TAG_LIST);
+      out.writeVarInt(list.size());
+      for (Object element : list) {
+        writeValue(out, element);
+      }
+    } else {
+      byte[] json = fallback.serialize(value);
+      out.write(TAG_FALLBACK);
+      out.writeVarInt(json.length);
+      out.write(json, 0, json.length);
+    }
+  }
+
+  private Object readValue(Input in) {
+    byte tag = in.readByte();
+    switch (tag) {
+      case TAG_NOTICE_DETAIL:
+        return NoticeDetailResponseDto.builder()
+            .id(in.readNullableLong())
+            .title(in.readString())
+            .content(in.readString())
+            .startDate(in.readDateTime())
+            .endDate(in.readDateTime())
+            .createdAt(in.readDateTime())
+            .viewCount(in.readVarInt())
+            .author(in.readString())
+            .attachments(readFiles(in))
+            .version(in.readVarLong())
+            .updatedAt(in.readDateTime())
+            .build();
+      case TAG_NOTICE:
+        return NoticeResponseDto.builder()
+            .id(in.readNullableLong())
+            .title(in.readString())
+            .content(in.readString())
+            .startDate(in.readDateTime())
+            .endDate(in.readDateTime())
+            .createdAt(in.readDateTime())
+            .viewCount(in.readVarInt())
+            .author(in.readString())
+            .attachments(readFiles(in))
+            .version(in.readVarLong())
+            .updatedAt(in.readDateTime())
+            .build();
+      case TAG_FILE:
+        return readFile(in);
+      case TAG_LIST:
+        int size = in.readVarInt();
+        List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+          list.add(readValue(in));
+        }
+        return list;
+      case TAG_ENTRY:
+        long expiresAt = in.readVarLong();
+        long computeMillis = in.readVarLong();
+        return new CacheEntry(readValue(in), expiresAt, computeMillis);
+      case TAG_FALLBACK:
+        return fallback.deserialize(in.readBytes(in.readVarInt()));
+      default:
+        throw new SerializationException("Unknown cache value tag " + tag);
+    }
+  }
+
+  private static void writeNotice(Output out, Long id, String title, String content,
+      LocalDateTime startDate, LocalDateTime endDate, LocalDateTime createdAt, int viewCount,
+      String author, List<FileDto> attachments, long version, LocalDateTime updatedAt) {
+    out.writeNullableLong(id);
+    out.writeString(title);
+    out.writeString(content);
+    out.writeDateTime(startDate);
+    out.writeDateTime(endDate);
+    out.writeDateTime(createdAt);
+    out.writeVarInt(viewCount);
+    out.writeString(author);
+    if (attachments == null) {
+      out.writeVarInt(0);
+    } else {
+      // 0 은 null 목록, n + 1 은 n 개
+      out.writeVarInt(attachments.size() + 1);
+      for (FileDto file : attachments) {
+        writeFile(out, file);
+      }
+    }
+    out.writeVarLong(version);
+    out.writeDateTime(updatedAt);
+  }
+
+  private static List<FileDto> readFiles(Input in) {
+    int count = in.readVarInt();
+    if (count == 0) {
+      return null;
+    }
+    List<FileDto> files = new ArrayList<>(count - 1);
+    for (int i = 0; i < count - 1; i++) {
+      files.add(readFile(in));
+    }
+    return files;
+  }
+
+  private static void writeFile(Output out, FileDto file) {
+    out.writeNullableLong(file.getId());
+    out.writeString(file.getOriginalFileName());
+    out.writeString(file.getStoredFileName());
+    out.writeString(file.getFilePath());
+    out.writeString(file.getContentHash());
+    out.writeNullableLong(file.getSize());
+  }
+
+  private static FileDto readFile(Input in) {
+    return FileDto.builder()
+        .id(in.readNullableLong())
+        .originalFileName(in.readString())
+        .storedFileName(in.readString())
+        .filePath(in.readString())
+        .contentHash(in.readString())
+        .size(in.readNullableLong())
+        .build();
+  }
+
+  // 압축해도 줄지 않으면 null 을 돌려 원본 그대로 저장하게 한다
+  private static byte[] deflate(byte[] input) {
+    Deflater deflater = DEFLATER.get();
+    deflater.reset();
+    deflater.setInput(input);
+    deflater.finish();
+    byte[] buffer = new byte[input.length];
+    int length = 0;
+    while (!deflater.finished()) {
+      if (length == buffer.length) {
+        return null;
+      }
+      length += deflater.deflate(buffer, length, buffer.length - length);
+    }
+    return length < input.length ? Arrays.copyOf(buffer, length) : null;
+  }
+
+  private static byte[] inflate(byte[] input, int offset, int length) {
+    Inflater inflater = INFLATER.get();
+    inflater.reset();
+    inflater.setInput(input, offset, input.length - offset);
+    byte[] output = new byte[length];
+    try {
+      int read = 0;
+      while (read < length) {
+        int n = inflater.inflate(output, read, length - read);
+        if (n == 0 && (inflater.finished() || inflater.needsInput())) {
+          break;
+        }
+        read += n;
+      }
+      if (read != length) {
+        throw new SerializationException("Truncated compressed cache value");
+      }
+      return output;
+    } catch (DataFormatException ex) {
+      throw new SerializationException("Corrupt compressed cache value", ex);
+    }
+  }
+
+  private static final class Output extends ByteArrayOutputStream {
+
+    Output() {
+      super(256);
+    }
+
+    void writeVarInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        write((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      write(value);
+    }
+
+    void writeVarLong(long value) {
+      while ((value & ~0x7FL) != 0) {
+        write((int) (value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      write((int) value);
+    }
+
+    void writeNullableLong(Long value) {
+      if (value == null) {
+        write(0);
+        return;
+      }
+      write(1);
+      writeVarLong(value);
+    }
+
+    // 0 은 null, n + 1 은 UTF-8 n 바이트
+    void writeString(String value) {
+      if (value == null) {
+        writeVarInt(0);
+        return;
+      }
+      byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(utf8.length + 1);
+      write(utf8, 0, utf8.length);
+    }
+
+    void writeDateTime(LocalDateTime value) {
+      if (value == null) {
+        write(0);
+        return;
+      }
+      write(1);
+      writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+      writeVarInt(value.getNano());
+    }
+  }
+
+  private static final class Input {
+
+    private final byte[] bytes;
+
+    private int position;
+
+    Input(byte[] bytes, int position) {
+      this.bytes = bytes;
+      this.position = position;
+    }
+
+    byte readByte() {
+      if (position >= bytes.length) {
+        throw new SerializationException("Truncated cache value");
+      }
+      return bytes[position++];
+    }
+
+    int readVarInt() {
+      int value = 0;
+      for (int shift = 0; shift < 35; shift += 7) {
+        byte b = readByte();
+        value |= (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new SerializationException("Malformed varint in cache value");
+    }
+
+    long readVarLong() {
+      long value = 0;
+      for (int shift = 0; shift < 70; shift += 7) {
+        byte b = readByte();
+        value |= (long) (b & 0x7F) << shift;
+        if ((b & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new SerializationException("Malformed varlong in cache value");
+    }
+
+    Long readNullableLong() {
+      return readByte() == 0 ? null : readVarLong();
+    }
+
+    String readString() {
+      int length = readVarInt();
+      if (length == 0) {
+        return null;
+      }
+      return new String(readBytes(length - 1), StandardCharsets.UTF_8);
+    }
+
+    byte[] readBytes(int length) {
+      if (length < 0 || position + length > bytes.length) {
+        throw new SerializationException("Truncated cache value");
+      }
+      byte[] value = Arrays.copyOfRange(bytes, position, position + length);
+      position += length;
+      return value;
+    }
+
+    LocalDateTime readDateTime() {
+      if (readByte() == 0) {
+        return null;
+      }
+      long epochSecond = readVarLong();
+      return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+    }
+  }
+}
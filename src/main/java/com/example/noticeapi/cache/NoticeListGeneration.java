@@ -0,0 +1,79 @@
+package com.example.noticeapi.cache;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.StringJoiner;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class NoticeListGeneration {
+
+  public static final String CACHE_NAME = "noticeLists";
+
+  private static final String GENERATION_KEY = "generation";
+
+  // URLEncoder 는 '~' 를 %7E 로 바꾸므로 인코딩된 값과 겹치지 않는다
+  private static final String NULL_PART = "~";
+
+  private final CacheManager cacheManager;
+
+  public String current() {
+    Cache cache = getCache();
+    String generation = cache.get(GENERATION_KEY, String.class);
+    if (generation != null) {
+      return generation;
+    }
+    // 여러 노드가 동시에 새 세대를 만들 때 L2 에 먼저 들어간 값으로 수렴시킨다
+    // 세대를 만든 시각을 앞에 붙여 목록의 Last-Modified 로 쓴다
+    String candidate = Long.toString(System.currentTimeMillis(), 36) + "-" + UUID.randomUUID();
+    ValueWrapper existing = cache.putIfAbsent(GENERATION_KEY, candidate);
+    return existing != null && existing.get() != null ? (String) existing.get() : candidate;
+  }
+
+  /**
+   * 현재 세대와 조건으로 목록 캐시 키를 만든다. 각 조건은 URL 인코딩해서 값 안의 ':' 가 구분자와 섞이지 않게 하고,
+   * null 은 문자열 "null" 과 구분되는 표식으로 남긴다.
+   */
+  public String key(Object... parts) {
+    StringJoiner joiner = new StringJoiner(":");
+    joiner.add(current());
+    for (Object part : parts) {
+      joiner.add(part == null
+          ? NULL_PART
+          : URLEncoder.encode(part.toString(), StandardCharsets.UTF_8));
+    }
+    return joiner.toString();
+  }
+
+  /**
+   * 현재 세대가 만들어진 시각(epoch millis). 세대는 마지막 변경 이후에 만들어지므로 목록이 바뀐 시각보다
+   * 늦거나 같다. 시각을 알 수 없으면 -1 을 돌려준다.
+   */
+  public long lastModified() {
+    String generation = current();
+    int separator = generation.indexOf('-');
+    try {
+      return separator > 0 ? Long.parseLong(generation.substring(0, separator), 36) : -1;
+    } catch (NumberFormatException ex) {
+      return -1;
+    }
+  }
+
+  public void advance() {
+    getCache().evict(GENERATION_KEY);
+  }
+
+  private Cache getCache() {
+    Cache cache = cacheManager.getCache(CACHE_NAME);
+    if (cache == null) {
+      throw new IllegalStateException("Cache not configured: " + CACHE_NAME);
+    }
+    return cache;
+  }
+}
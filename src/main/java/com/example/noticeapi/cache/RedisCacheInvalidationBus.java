@@ -0,0 +1,58 @@
+package com.example.noticeapi.cache;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+public class RedisCacheInvalidationBus implements CacheInvalidationBus, MessageListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(RedisCacheInvalidationBus.class);
+
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private final RedisTemplate<String, Object> redisTemplate;
+
+  private final ChannelTopic topic;
+
+  private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+  public RedisCacheInvalidationBus(RedisTemplate<String, Object> redisTemplate,
+      RedisMessageListenerContainer listenerContainer, String channel) {
+    this.redisTemplate = redisTemplate;
+    this.topic = new ChannelTopic(channel);
+    listenerContainer.addMessageListener(this, topic);
+  }
+
+  @Override
+  public void publish(String cacheName, String key) {
+    try {
+      redisTemplate.convertAndSend(topic.getTopic(),
+          new CacheInvalidationMessage(nodeId, cacheName, key));
+    } catch (RuntimeException ex) {
+      logger.warn("Could not publish cache invalidation for {}::{}", cacheName, key, ex);
+    }
+  }
+
+  @Override
+  public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    listeners.add(listener);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+    if (!(body instanceof CacheInvalidationMessage invalidation)
+        || nodeId.equals(invalidation.getOrigin())) {
+      return;
+    }
+    listeners.forEach(listener -> listener.accept(invalidation));
+  }
+}
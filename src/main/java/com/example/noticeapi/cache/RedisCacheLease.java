@@ -0,0 +1,58 @@
+package com.example.noticeapi.cache;
+
+import java.time.Duration;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+public class RedisCacheLease implements CacheLease {
+
+  private static final Logger logger = LoggerFactory.getLogger(RedisCacheLease.class);
+
+  private static final String KEY_PREFIX = "lease:";
+
+  private final StringRedisTemplate redisTemplate;
+
+  private final Duration leaseTime;
+
+  public RedisCacheLease(StringRedisTemplate redisTemplate, Duration leaseTime) {
+    this.redisTemplate = redisTemplate;
+    this.leaseTime = leaseTime;
+  }
+
+  @Override
+  public String tryAcquire(String cacheName, String key) {
+    String token = UUID.randomUUID().toString();
+    try {
+      Boolean acquired = redisTemplate.opsForValue()
+          .setIfAbsent(leaseKey(cacheName, key), token, leaseTime);
+      return Boolean.TRUE.equals(acquired) ? token : null;
+    } catch (RuntimeException ex) {
+      // Redis 를 쓸 수 없으면 L2 도 비어 있으므로 임대 없이 각자 적재한다
+      logger.warn("Could not acquire cache lease for {}::{}", cacheName, key, ex);
+      return "";
+    }
+  }
+
+  @Override
+  public void release(String cacheName, String key, String token) {
+    if (token == null || token.isEmpty()) {
+      return;
+    }
+    String leaseKey = leaseKey(cacheName, key);
+    try {
+      // 만료 뒤 다른 노드가 잡은 임대는 지우지 않는다. GET 과 DEL 사이에 임대가 넘어가면 다음 적재가
+      // 한 번 더 일어날 수 있지만, 임대는 중복 적재를 줄이는 용도라 정합성에는 영향이 없다
+      if (token.equals(redisTemplate.opsForValue().get(leaseKey))) {
+        redisTemplate.delete(leaseKey);
+      }
+    } catch (RuntimeException ex) {
+      logger.warn("Could not release cache lease for {}::{}", cacheName, key, ex);
+    }
+  }
+
+  private static String leaseKey(String cacheName, String key) {
+    return KEY_PREFIX + cacheName + "::" + key;
+  }
+}
@@ -0,0 +1,375 @@
+package com.example.noticeapi.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+public class TwoLevelCache implements Cache {
+
+  private static final Logger logger = LoggerFactory.getLogger(TwoLevelCache.class);
+
+  private static final long LEASE_POLL_INTERVAL_MILLIS = 20;
+
+  private final String name;
+
+  private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+
+  private final Cache remoteCache;
+
+  private final CacheInvalidationBus invalidationBus;
+
+  private final CacheLoadPolicy loadPolicy;
+
+  private final CacheLease lease;
+
+  // 조기 갱신 중인 키. 한 요청만 다시 계산하고 나머지는 기존 값을 그대로 쓴다
+  private final ConcurrentMap<String, Boolean> refreshing = new ConcurrentHashMap<>();
+
+  // 미스를 적재 중인 키. 같은 키의 동시 미스는 먼저 온 요청의 결과를 기다린다. Caffeine 의 compute 안에서
+  // 적재하면 L2 임대 대기와 DB 조회 동안 같은 해시 구간의 다른 키까지 막히므로 직접 관리한다
+  private final ConcurrentMap<String, CompletableFuture<Object>> loading =
+      new ConcurrentHashMap<>();
+
+  private final CacheTierStats localStats = new CacheTierStats();
+
+  private final CacheTierStats remoteStats = new CacheTierStats();
+
+  private final LongAdder puts = new LongAdder();
+
+  private final LongAdder evictions = new LongAdder();
+
+  private final LongAdder earlyRefreshes = new LongAdder();
+
+  private final LongAdder leaseWaits = new LongAdder();
+
+  public TwoLevelCache(String name,
+      com.github.benmanes.caffeine.cache.Cache<String, Object> localCache, Cache remoteCache,
+      CacheInvalidationBus invalidationBus) {
+    this(name, localCache, remoteCache, invalidationBus, CacheLoadPolicy.NONE, CacheLease.NONE);
+  }
+
+  public TwoLevelCache(String name,
+      com.github.benmanes.caffeine.cache.Cache<String, Object> localCache, Cache remoteCache,
+      CacheInvalidationBus invalidationBus, CacheLoadPolicy loadPolicy, CacheLease lease) {
+    this.name = name;
+    this.localCache = localCache;
+    this.remoteCache = remoteCache;
+    this.invalidationBus = invalidationBus;
+    this.loadPolicy = loadPolicy;
+    this.lease = lease;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return remoteCache.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    String localKey = toLocalKey(key);
+    Object value = localCache.getIfPresent(localKey);
+    if (value != null) {
+      localStats.recordHit();
+      return new SimpleValueWrapper(CacheEntry.unwrap(value));
+    }
+    localStats.recordMiss();
+
+    ValueWrapper wrapper = remoteCache.get(key);
+    if (wrapper == null) {
+      remoteStats.recordMiss();
+      return null;
+    }
+    remoteStats.recordHit();
+    if (wrapper.get() == null) {
+      return wrapper;
+    }
+    localCache.put(localKey, wrapper.get());
+    return new SimpleValueWrapper(CacheEntry.unwrap(wrapper.get()));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    ValueWrapper wrapper = get(key);
+    Object value = wrapper != null ? wrapper.get() : null;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    String localKey = toLocalKey(key);
+    Object cached = localCache.getIfPresent(localKey);
+    if (cached != null) {
+      localStats.recordHit();
+      if (loadPolicy.shouldRefreshEarly(cached)) {
+        cached = refreshLocal(key, localKey, valueLoader, cached);
+      }
+      return (T) CacheEntry.unwrap(cached);
+    }
+    localStats.recordMiss();
+    return (T) CacheEntry.unwrap(loadOnce(key, localKey, valueLoader));
+  }
+
+  // 같은 키의 동시 미스는 한 번만 L2/DB 로 내려간다
+  private Object loadOnce(Object key, String localKey, Callable<?> valueLoader) {
+    CompletableFuture<Object> load = new CompletableFuture<>();
+    CompletableFuture<Object> inFlight = loading.putIfAbsent(localKey, load);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+    Object loaded;
+    try {
+      // 앞선 적재가 막 끝났으면 그 결과가 이미 L1 에 있다
+      loaded = localCache.getIfPresent(localKey);
+      if (loaded == null) {
+        loaded = loadFromRemote(key, localKey, valueLoader);
+      }
+    } catch (RuntimeException | Error ex) {
+      loading.remove(localKey, load);
+      load.completeExceptionally(ex);
+      throw ex;
+    }
+    if (loaded != null) {
+      localCache.put(localKey, loaded);
+    }
+    if (!loading.remove(localKey, load)) {
+      // 적재 중에 무효화되었으면 방금 넣은 값을 버린다
+      localCache.invalidate(localKey);
+    }
+    load.complete(loaded);
+    return loaded;
+  }
+
+  private static Object await(CompletableFuture<Object> inFlight) {
+    try {
+      return inFlight.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw ex;
+    }
+  }
+
+  private Object loadFromRemote(Object key, String localKey, Callable<?> valueLoader) {
+    ValueWrapper wrapper = remoteCache.get(key);
+    if (wrapper != null) {
+      remoteStats.recordHit();
+      Object cached = wrapper.get();
+      return loadPolicy.shouldRefreshEarly(cached)
+          ? refresh(key, localKey, valueLoader, cached) : cached;
+    }
+    remoteStats.recordMiss();
+
+    String token = lease.tryAcquire(name, localKey);
+    if (token == null) {
+      // 다른 노드가 적재 중이면 DB 대신 그 결과가 L2 에 올라오기를 기다린다
+      leaseWaits.increment();
+      Object loaded = awaitRemote(key);
+      if (loaded != null) {
+        return loaded;
+      }
+      // 임대를 가진 노드가 제때 끝내지 못하면 직접 적재한다
+      return load(key, valueLoader);
+    }
+    try {
+      return load(key, valueLoader);
+    } finally {
+      lease.release(name, localKey, token);
+    }
+  }
+
+  private Object refreshLocal(Object key, String localKey, Callable<?> valueLoader,
+      Object stale) {
+    if (refreshing.putIfAbsent(localKey, Boolean.TRUE) != null) {
+      return stale;
+    }
+    try {
+      Object fresh = refresh(key, localKey, valueLoader, stale);
+      if (fresh != stale) {
+        localCache.put(localKey, fresh);
+      }
+      return fresh;
+    } finally {
+      refreshing.remove(localKey);
+    }
+  }
+
+  // 다른 노드가 이미 갱신 중이거나 다시 계산하다 실패하면 기존 값을 돌려준다
+  private Object refresh(Object key, String localKey, Callable<?> valueLoader, Object stale) {
+    String token = lease.tryAcquire(name, localKey);
+    if (token == null) {
+      return stale;
+    }
+    try {
+      earlyRefreshes.increment();
+      Object fresh = load(key, valueLoader);
+      return fresh != null ? fresh : stale;
+    } catch (ValueRetrievalException ex) {
+      logger.warn("Early refresh of {}::{} failed, keeping the cached value", name, localKey,
+          ex.getCause());
+      return stale;
+    } finally {
+      lease.release(name, localKey, token);
+    }
+  }
+
+  private Object awaitRemote(Object key) {
+    long deadline = System.nanoTime() + loadPolicy.getLeaseWait().toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(LEASE_POLL_INTERVAL_MILLIS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+      ValueWrapper wrapper = remoteCache.get(key);
+      if (wrapper != null && wrapper.get() != null) {
+        remoteStats.recordHit();
+        return wrapper.get();
+      }
+    }
+    return null;
+  }
+
+  private Object load(Object key, Callable<?> valueLoader) {
+    long startNanos = System.nanoTime();
+    Object value;
+    try {
+      value = valueLoader.call();
+    } catch (Exception ex) {
+      throw new ValueRetrievalException(key, valueLoader, ex);
+    }
+    if (value == null) {
+      return null;
+    }
+    Object cached = loadPolicy.wrap(value,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    remoteCache.put(key, cached);
+    puts.increment();
+    return cached;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    Object cached = loadPolicy.wrap(value, 0);
+    remoteCache.put(key, cached);
+    puts.increment();
+    if (cached != null) {
+      localCache.put(toLocalKey(key), cached);
+    } else {
+      localCache.invalidate(toLocalKey(key));
+    }
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    Object cached = loadPolicy.wrap(value, 0);
+    ValueWrapper existing = remoteCache.putIfAbsent(key, cached);
+    if (existing == null) {
+      puts.increment();
+    }
+    Object current = existing != null ? existing.get() : cached;
+    if (current != null) {
+      localCache.put(toLocalKey(key), current);
+    }
+    return existing != null ? new SimpleValueWrapper(CacheEntry.unwrap(existing.get())) : null;
+  }
+
+  @Override
+  public void evict(Object key) {
+    remoteCache.evict(key);
+    evictions.increment();
+    evictLocal(toLocalKey(key));
+    invalidationBus.publish(name, toLocalKey(key));
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    boolean evicted = remoteCache.evictIfPresent(key);
+    if (evicted) {
+      evictions.increment();
+    }
+    evictLocal(toLocalKey(key));
+    invalidationBus.publish(name, toLocalKey(key));
+    return evicted;
+  }
+
+  @Override
+  public void clear() {
+    remoteCache.clear();
+    evictions.increment();
+    clearLocal();
+    invalidationBus.publish(name, null);
+  }
+
+  @Override
+  public boolean invalidate() {
+    boolean invalidated = remoteCache.invalidate();
+    evictions.increment();
+    clearLocal();
+    invalidationBus.publish(name, null);
+    return invalidated;
+  }
+
+  void evictLocal(String localKey) {
+    loading.remove(localKey);
+    localCache.invalidate(localKey);
+  }
+
+  void clearLocal() {
+    loading.clear();
+    localCache.invalidateAll();
+  }
+
+  public CacheTierStats getLocalStats() {
+    return localStats;
+  }
+
+  public CacheTierStats getRemoteStats() {
+    return remoteStats;
+  }
+
+  public long getPuts() {
+    return puts.sum();
+  }
+
+  public long getEarlyRefreshes() {
+    return earlyRefreshes.sum();
+  }
+
+  // 다른 노드의 임대 때문에 L2 를 기다린 횟수
+  public long getLeaseWaits() {
+    return leaseWaits.sum();
+  }
+
+  // 키 단위 삭제와 전체 비우기를 한 번씩 센다. 용량 초과로 L1 에서 밀려난 항목은 포함하지 않는다
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  static String toLocalKey(Object key) {
+    return String.valueOf(key);
+  }
+}
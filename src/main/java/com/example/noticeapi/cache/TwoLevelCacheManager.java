@@ -0,0 +1,142 @@
+package com.example.noticeapi.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.ToDoubleFunction;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+
+public class TwoLevelCacheManager implements CacheManager, MeterBinder {
+
+  private final CacheManager remoteCacheManager;
+
+  private final Caffeine<Object, Object> localCacheBuilder;
+
+  private final CacheInvalidationBus invalidationBus;
+
+  private final CacheLoadPolicy loadPolicy;
+
+  private final CacheLease lease;
+
+  private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+  private volatile MeterRegistry meterRegistry;
+
+  private boolean transactionAware;
+
+  public TwoLevelCacheManager(CacheManager remoteCacheManager,
+      Caffeine<Object, Object> localCacheBuilder, CacheInvalidationBus invalidationBus) {
+    this(remoteCacheManager, localCacheBuilder, invalidationBus, CacheLoadPolicy.NONE,
+        CacheLease.NONE);
+  }
+
+  public TwoLevelCacheManager(CacheManager remoteCacheManager,
+      Caffeine<Object, Object> localCacheBuilder, CacheInvalidationBus invalidationBus,
+      CacheLoadPolicy loadPolicy, CacheLease lease) {
+    this.remoteCacheManager = remoteCacheManager;
+    this.localCacheBuilder = localCacheBuilder;
+    this.invalidationBus = invalidationBus;
+    this.loadPolicy = loadPolicy;
+    this.lease = lease;
+    invalidationBus.subscribe(this::onInvalidation);
+  }
+
+  public void setTransactionAware(boolean transactionAware) {
+    this.transactionAware = transactionAware;
+  }
+
+  @Override
+  public Cache getCache(String name) {
+    TwoLevelCache cache = caches.get(name);
+    if (cache == null) {
+      cache = caches.computeIfAbsent(name, this::createCache);
+    }
+    if (cache == null || !transactionAware) {
+      return cache;
+    }
+    // put/evict 를 커밋 이후로 미뤄 롤백되거나 아직 커밋되지 않은 데이터가 캐시에 남지 않도록 한다
+    return new TransactionAwareCacheDecorator(cache);
+  }
+
+  @Override
+  public Collection<String> getCacheNames() {
+    return Collections.unmodifiableSet(caches.keySet());
+  }
+
+  private TwoLevelCache createCache(String name) {
+    Cache remoteCache = remoteCacheManager.getCache(name);
+    if (remoteCache == null) {
+      return null;
+    }
+    TwoLevelCache cache = new TwoLevelCache(name, localCacheBuilder.build(), remoteCache,
+        invalidationBus, loadPolicy, lease);
+    MeterRegistry registry = this.meterRegistry;
+    if (registry != null) {
+      registerMetrics(registry, cache);
+    }
+    return cache;
+  }
+
+  private void onInvalidation(CacheInvalidationMessage message) {
+    TwoLevelCache cache = caches.get(message.getCacheName());
+    if (cache == null) {
+      return;
+    }
+    if (message.getKey() == null) {
+      cache.clearLocal();
+    } else {
+      cache.evictLocal(message.getKey());
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.meterRegistry = registry;
+    caches.values().forEach(cache -> registerMetrics(registry, cache));
+  }
+
+  private void registerMetrics(MeterRegistry registry, TwoLevelCache cache) {
+    registerCounter(registry, cache, "local", "hit", c -> c.getLocalStats().getHits());
+    registerCounter(registry, cache, "local", "miss", c -> c.getLocalStats().getMisses());
+    registerCounter(registry, cache, "remote", "hit", c -> c.getRemoteStats().getHits());
+    registerCounter(registry, cache, "remote", "miss", c -> c.getRemoteStats().getMisses());
+    // 두 계층을 합친 결과. L1 이나 L2 에서 찾으면 hit, 둘 다 없어 원본을 읽으면 miss 이다
+    FunctionCounter.builder("cache.gets", cache,
+            c -> c.getLocalStats().getHits() + c.getRemoteStats().getHits())
+        .tag("cache", cache.getName())
+        .tag("result", "hit")
+        .register(registry);
+    FunctionCounter.builder("cache.gets", cache, c -> c.getRemoteStats().getMisses())
+        .tag("cache", cache.getName())
+        .tag("result", "miss")
+        .register(registry);
+    FunctionCounter.builder("cache.puts", cache, TwoLevelCache::getPuts)
+        .tag("cache", cache.getName())
+        .register(registry);
+    FunctionCounter.builder("cache.evictions", cache, TwoLevelCache::getEvictions)
+        .tag("cache", cache.getName())
+        .register(registry);
+    FunctionCounter.builder("cache.early.refreshes", cache, TwoLevelCache::getEarlyRefreshes)
+        .tag("cache", cache.getName())
+        .register(registry);
+    FunctionCounter.builder("cache.lease.waits", cache, TwoLevelCache::getLeaseWaits)
+        .tag("cache", cache.getName())
+        .register(registry);
+  }
+
+  private void registerCounter(MeterRegistry registry, TwoLevelCache cache, String tier,
+      String result, ToDoubleFunction<TwoLevelCache> count) {
+    FunctionCounter.builder("cache.tier.gets", cache, count)
+        .tag("cache", cache.getName())
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(registry);
+  }
+}
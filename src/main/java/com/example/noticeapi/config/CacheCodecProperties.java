@@ -0,0 +1,22 @@
+package com.example.noticeapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.codec")
+@Getter
+@Setter
+public class CacheCodecProperties {
+
+  public enum Type {
+    JSON, COMPACT
+  }
+
+  // 기존 노드는 JSON 만 읽으므로 모든 노드가 두 형식을 읽게 된 뒤에 compact 로 바꾼다
+  private Type type = Type.JSON;
+  // 인코딩 결과가 이 크기(바이트)를 넘으면 압축한다
+  private int compressionThreshold = 1024;
+}
@@ -0,0 +1,25 @@
+package com.example.noticeapi.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.load")
+@Getter
+@Setter
+public class CacheLoadProperties {
+
+  private Duration ttl = Duration.ofMinutes(10);
+  // TTL 을 ±비율만큼 무작위로 늘리거나 줄인다
+  private double ttlJitter = 0.1;
+  // 0 이면 만료 전에 미리 갱신하지 않는다
+  private double earlyRefreshBeta = 1.0;
+  private boolean leaseEnabled = true;
+  // 적재하는 노드가 죽어도 이 시간이 지나면 다른 노드가 적재할 수 있다
+  private Duration leaseTime = Duration.ofSeconds(3);
+  // 다른 노드의 적재 결과를 기다리는 최대 시간
+  private Duration leaseWait = Duration.ofMillis(500);
+}
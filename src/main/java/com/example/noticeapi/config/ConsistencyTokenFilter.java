@@ -0,0 +1,71 @@
+package com.example.noticeapi.config;
+
+import com.example.noticeapi.config.DatabaseProperties.ReadYourWritesProperties;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 직전 쓰기의 커밋 시각이 담긴 토큰을 받은 요청은, 일관성 구간 안에서 그 커밋을 반영한 복제본이나 마스터에서만
+ * 읽도록 한다.
+ */
+@Component
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+  private final ReadYourWritesProperties properties;
+
+  public ConsistencyTokenFilter(DatabaseProperties databaseProperties) {
+    this.properties = databaseProperties.getReplicaRouting().getReadYourWrites();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    Long commitTimestamp = parse(readToken(request));
+    if (commitTimestamp != null
+        && System.currentTimeMillis() - commitTimestamp < properties.getWindow().toMillis()) {
+      DataSourceContextHolder.setReadAfter(commitTimestamp);
+    }
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      DataSourceContextHolder.clearReadAfter();
+    }
+  }
+
+  private String readToken(HttpServletRequest request) {
+    String header = request.getHeader(properties.getHeaderName());
+    if (header != null) {
+      return header;
+    }
+    if (request.getCookies() != null) {
+      for (Cookie cookie : request.getCookies()) {
+        if (properties.getCookieName().equals(cookie.getName())) {
+          return cookie.getValue();
+        }
+      }
+    }
+    return null;
+  }
+
+  private static Long parse(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      return Long.parseLong(token.trim());
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+}
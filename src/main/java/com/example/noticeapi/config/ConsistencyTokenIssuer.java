@@ -0,0 +1,50 @@
+package com.example.noticeapi.config;
+
+import com.example.noticeapi.config.DatabaseProperties.ReadYourWritesProperties;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 요청 처리 중 쓰기 트랜잭션이 커밋되면 커밋 시각을 응답 헤더와 쿠키로 내려준다. 같은 요청의 이후 읽기도 그
+ * 커밋을 기준으로 라우팅된다.
+ */
+@Component
+public class ConsistencyTokenIssuer implements TransactionExecutionListener {
+
+  private final ReadYourWritesProperties properties;
+
+  public ConsistencyTokenIssuer(DatabaseProperties databaseProperties) {
+    this.properties = databaseProperties.getReplicaRouting().getReadYourWrites();
+  }
+
+  @Override
+  public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+    if (!properties.isEnabled() || commitFailure != null || transaction.isReadOnly()) {
+      return;
+    }
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+      return;
+    }
+    long commitTimestamp = System.currentTimeMillis();
+    DataSourceContextHolder.setReadAfter(commitTimestamp);
+
+    HttpServletResponse response = servletAttributes.getResponse();
+    if (response == null || response.isCommitted()) {
+      return;
+    }
+    String token = Long.toString(commitTimestamp);
+    response.setHeader(properties.getHeaderName(), token);
+    Cookie cookie = new Cookie(properties.getCookieName(), token);
+    cookie.setPath("/");
+    cookie.setHttpOnly(true);
+    cookie.setMaxAge((int) Math.max(1, properties.getWindow().toSeconds()));
+    response.addCookie(cookie);
+  }
+}
@@ -4,6 +4,9 @@ public class DataSourceContextHolder {
 
   private static final ThreadLocal<String> contextHolder = new ThreadLocal<>();
 
+  // 이 시각(epoch millis) 이후의 커밋을 반영한 복제본에서만 읽어야 한다
+  private static final ThreadLocal<Long> readAfterHolder = new ThreadLocal<>();
+
   public static void setDataSourceType(String dataSourceType) {
     contextHolder.set(dataSourceType);
   }
@@ -15,4 +18,51 @@ public class DataSourceContextHolder {
   public static void clearDataSourceType() {
     contextHolder.remove();
   }
+
+  public static void setReadAfter(long commitTimestamp) {
+    readAfterHolder.set(commitTimestamp);
+  }
+
+  public static Long getReadAfter() {
+    return readAfterHolder.get();
+  }
+
+  public static void clearReadAfter() {
+    readAfterHolder.remove();
+  }
+
+  public static Snapshot capture() {
+    return new Snapshot(contextHolder.get(), readAfterHolder.get());
+  }
+
+  /**
+   * 다른 스레드로 넘길 라우팅 컨텍스트. {@link #apply()}는 적용 전의 컨텍스트를 돌려주므로 작업이 끝나면 그것을
+   * 다시 적용해 복원한다.
+   */
+  public static class Snapshot {
+
+    private final String dataSourceType;
+
+    private final Long readAfter;
+
+    private Snapshot(String dataSourceType, Long readAfter) {
+      this.dataSourceType = dataSourceType;
+      this.readAfter = readAfter;
+    }
+
+    public Snapshot apply() {
+      Snapshot previous = capture();
+      set(contextHolder, dataSourceType);
+      set(readAfterHolder, readAfter);
+      return previous;
+    }
+
+    private static <T> void set(ThreadLocal<T> holder, T value) {
+      if (value == null) {
+        holder.remove();
+      } else {
+        holder.set(value);
+      }
+    }
+  }
 }
@@ -0,0 +1,34 @@
+package com.example.noticeapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 라우팅 DataSource 뒤에 있는 역할별 Hikari 풀을 풀 이름으로 찾아 준다.
+ */
+final class DataSourcePools {
+
+  private DataSourcePools() {
+  }
+
+  static Map<String, HikariDataSource> of(DataSource dataSource) {
+    DataSource target = dataSource;
+    while (target instanceof DelegatingDataSource delegating) {
+      target = delegating.getTargetDataSource();
+    }
+    Map<String, HikariDataSource> pools = new TreeMap<>();
+    if (target instanceof ReplicationRoutingDataSource routing) {
+      routing.getResolvedDataSources().values().forEach(resolved -> {
+        if (resolved instanceof HikariDataSource pool) {
+          pools.put(pool.getPoolName(), pool);
+        }
+      });
+    } else if (target instanceof HikariDataSource pool) {
+      pools.put(pool.getPoolName(), pool);
+    }
+    return pools;
+  }
+}
@@ -0,0 +1,46 @@
+package com.example.noticeapi.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 역할별 커넥션 풀의 현재 상태와 설정을 /actuator/datasourcepools 로 노출한다. 시계열 값은
+ * /actuator/metrics/hikaricp.connections.* 에서 pool 태그로 조회한다.
+ */
+@Component
+@Endpoint(id = "datasourcepools")
+@RequiredArgsConstructor
+public class DataSourcePoolsEndpoint {
+
+  private final DataSource dataSource;
+
+  @ReadOperation
+  public Map<String, Map<String, Object>> pools() {
+    Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+    DataSourcePools.of(dataSource).forEach((name, pool) -> {
+      HikariConfigMXBean config = pool.getHikariConfigMXBean();
+      Map<String, Object> stats = new LinkedHashMap<>();
+      stats.put("maximumPoolSize", config.getMaximumPoolSize());
+      stats.put("minimumIdle", config.getMinimumIdle());
+      stats.put("connectionTimeoutMs", config.getConnectionTimeout());
+      stats.put("leakDetectionThresholdMs", config.getLeakDetectionThreshold());
+      // 아직 첫 커넥션을 맺지 않은 풀은 MXBean 이 없다
+      HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+      if (mxBean != null) {
+        stats.put("active", mxBean.getActiveConnections());
+        stats.put("idle", mxBean.getIdleConnections());
+        stats.put("total", mxBean.getTotalConnections());
+        stats.put("pending", mxBean.getThreadsAwaitingConnection());
+      }
+      result.put(name, stats);
+    });
+    return result;
+  }
+}
@@ -1,14 +1,24 @@
 package com.example.noticeapi.config;
 
+import com.example.noticeapi.config.DatabaseProperties.ReplicaRoutingProperties;
+import com.example.noticeapi.config.ReplicaSelector.Replica;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -21,33 +31,104 @@ public class DatabaseConfig {
   private DatabaseProperties databaseProperties;
 
   @Bean
-  public DataSource dataSource() {
-    ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource();
+  public ReplicaSelector replicaSelector() {
+    List<Replica> replicas = new ArrayList<>();
+    List<DatabaseProperties.DataSourceProperties> replicaProperties =
+        databaseProperties.getEffectiveReplicas();
+    for (int i = 0; i < replicaProperties.size(); i++) {
+      String name = "replica-" + i;
+      replicas.add(new Replica(name, createDataSource(name, replicaProperties.get(i))));
+    }
+    return new ReplicaSelector(replicas, databaseProperties.getReplicaRouting().getStrategy());
+  }
 
-    DataSource masterDataSource = createDataSource(databaseProperties.getMaster());
-    DataSource slaveDataSource = createDataSource(databaseProperties.getSlave());
+  @Bean
+  public ReplicaHealthChecker replicaHealthChecker(ReplicaSelector replicaSelector) {
+    ReplicaRoutingProperties routing = databaseProperties.getReplicaRouting();
+    return new ReplicaHealthChecker(replicaSelector, routing.getValidationTimeout(),
+        routing.getMaxLagSeconds(), routing.getLagQuery(), routing.isTolerateUnreadableLag());
+  }
+
+  @Bean
+  public DataSource dataSource(ReplicaSelector replicaSelector,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    ReplicationRoutingDataSource routingDataSource =
+        new ReplicationRoutingDataSource(replicaSelector);
+    if (databaseProperties.getReplicaRouting().isAudit()) {
+      routingDataSource.setRoutingAudit(new RoutingAudit(meterRegistry::getIfAvailable));
+    }
+
+    DataSource masterDataSource = createDataSource(ReplicationRoutingDataSource.MASTER,
+        databaseProperties.getMaster());
 
     Map<Object, Object> dataSourceMap = new HashMap<>();
-    dataSourceMap.put("master", masterDataSource);
-    dataSourceMap.put("slave", slaveDataSource);
+    dataSourceMap.put(ReplicationRoutingDataSource.MASTER, masterDataSource);
+    for (Replica replica : replicaSelector.getReplicas()) {
+      dataSourceMap.put(replica.getName(), replica.getDataSource());
+    }
 
     routingDataSource.setTargetDataSources(dataSourceMap);
     routingDataSource.setDefaultTargetDataSource(masterDataSource);
+    routingDataSource.afterPropertiesSet();
+
+    // 실제 커넥션은 첫 SQL 실행 시점에 가져오므로 그 전에 정해진 라우팅 키가 적용된다
+    return new LazyConnectionDataSourceProxy(routingDataSource);
+  }
 
-    return routingDataSource;
+  @Bean
+  public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+      ConsistencyTokenIssuer consistencyTokenIssuer) {
+    // 엔티티 저장이 호출한 트랜잭션에 참여해야 JDBC 배치로 묶이므로 JPA 트랜잭션 매니저를 사용한다
+    JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+    transactionManager.addListener(consistencyTokenIssuer);
+    return transactionManager;
   }
 
   @Bean
-  public PlatformTransactionManager transactionManager(DataSource dataSource) {
-    return new DataSourceTransactionManager(dataSource);
+  public MeterBinder hikariPoolMetrics(DataSource dataSource) {
+    // 풀이 라우팅 DataSource 안에 있어 Boot 의 자동 등록 대상이 아니므로 직접 연결한다
+    return registry -> DataSourcePools.of(dataSource).forEach((name, pool) -> {
+      if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+      }
+    });
   }
 
-  private DataSource createDataSource(DatabaseProperties.DataSourceProperties properties) {
+  static HikariDataSource createDataSource(String poolName,
+      DatabaseProperties.DataSourceProperties properties) {
     HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(poolName);
     dataSource.setJdbcUrl(properties.getUrl());
     dataSource.setUsername(properties.getUsername());
     dataSource.setPassword(properties.getPassword());
     dataSource.setDriverClassName(properties.getDriverClassName());
+    if (properties.getMaximumPoolSize() != null) {
+      dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+    }
+    if (properties.getMinimumIdle() != null) {
+      dataSource.setMinimumIdle(properties.getMinimumIdle());
+    }
+    if (properties.getConnectionTimeout() != null) {
+      dataSource.setConnectionTimeout(properties.getConnectionTimeout().toMillis());
+    }
+    if (properties.getIdleTimeout() != null) {
+      dataSource.setIdleTimeout(properties.getIdleTimeout().toMillis());
+    }
+    if (properties.getMaxLifetime() != null) {
+      dataSource.setMaxLifetime(properties.getMaxLifetime().toMillis());
+    }
+    if (properties.getLeakDetectionThreshold() != null) {
+      dataSource.setLeakDetectionThreshold(properties.getLeakDetectionThreshold().toMillis());
+    }
+    if (properties.getStatementCacheSize() != null) {
+      dataSource.addDataSourceProperty("cachePrepStmts", "true");
+      dataSource.addDataSourceProperty("prepStmtCacheSize", properties.getStatementCacheSize());
+    }
+    if (properties.getStatementCacheSqlLimit() != null) {
+      dataSource.addDataSourceProperty("prepStmtCacheSqlLimit",
+          properties.getStatementCacheSqlLimit());
+    }
+    properties.getDataSourceProperties().forEach(dataSource::addDataSourceProperty);
     return dataSource;
   }
 }
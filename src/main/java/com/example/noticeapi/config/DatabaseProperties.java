@@ -1,5 +1,10 @@
 package com.example.noticeapi.config;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -12,7 +17,17 @@ import org.springframework.context.annotation.Configuration;
 public class DatabaseProperties {
 
   private DataSourceProperties master = new DataSourceProperties();
+  // replicas 가 비어 있을 때만 사용하는 단일 슬레이브 설정
   private DataSourceProperties slave = new DataSourceProperties();
+  private List<DataSourceProperties> replicas = new ArrayList<>();
+  private ReplicaRoutingProperties replicaRouting = new ReplicaRoutingProperties();
+
+  public List<DataSourceProperties> getEffectiveReplicas() {
+    if (!replicas.isEmpty() || slave.getUrl() == null) {
+      return replicas;
+    }
+    return List.of(slave);
+  }
 
   @Getter
   @Setter
@@ -22,5 +37,43 @@ public class DatabaseProperties {
     private String username;
     private String password;
     private String driverClassName;
+    // 아래 풀 설정은 지정하지 않으면 Hikari 기본값을 사용한다
+    private Integer maximumPoolSize;
+    private Integer minimumIdle;
+    private Duration connectionTimeout;
+    private Duration idleTimeout;
+    private Duration maxLifetime;
+    private Duration leakDetectionThreshold;
+    // 드라이버 측 PreparedStatement 캐시 (MySQL Connector/J 의 prepStmtCacheSize)
+    private Integer statementCacheSize;
+    private Integer statementCacheSqlLimit;
+    private Map<String, String> dataSourceProperties = new HashMap<>();
+  }
+
+  @Getter
+  @Setter
+  public static class ReplicaRoutingProperties {
+
+    private ReplicaSelector.Strategy strategy = ReplicaSelector.Strategy.ROUND_ROBIN;
+    private long healthCheckIntervalMs = 5000;
+    private Duration validationTimeout = Duration.ofSeconds(2);
+    private long maxLagSeconds = 10;
+    // 비워두면 MySQL 의 SHOW REPLICA STATUS 로 지연 시간을 확인한다
+    private String lagQuery;
+    // 지연을 읽지 못하는 복제본(권한 부족, 복제 중단)을 라우팅에 남길지. 기본은 뺀다
+    private boolean tolerateUnreadableLag = false;
+    private ReadYourWritesProperties readYourWrites = new ReadYourWritesProperties();
+    // SQL 문마다 요청된 라우팅 키와 실제 풀을 집계한다
+    private boolean audit = false;
+  }
+
+  @Getter
+  @Setter
+  public static class ReadYourWritesProperties {
+
+    private boolean enabled = false;
+    private Duration window = Duration.ofSeconds(5);
+    private String headerName = "X-Consistency-Token";
+    private String cookieName = "consistency-token";
   }
 }
@@ -0,0 +1,25 @@
+package com.example.noticeapi.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file.reclaim")
+@Getter
+@Setter
+public class FileReclaimProperties {
+
+  // 한 번에 가져가 지우는 파일 수
+  private int batchSize = 100;
+
+  // 가져간 노드가 이 시간 안에 끝내지 못하면 다른 노드가 다시 가져간다
+  private Duration lease = Duration.ofMinutes(5);
+
+  // 실패할 때마다 두 배씩 늘려 maxBackoff 까지 기다린다
+  private Duration initialBackoff = Duration.ofSeconds(10);
+
+  private Duration maxBackoff = Duration.ofHours(1);
+}
@@ -0,0 +1,21 @@
+package com.example.noticeapi.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file.upload")
+@Getter
+@Setter
+public class FileUploadProperties {
+
+  private boolean virtualThreads = true;
+  private int threads = 8;
+  private int queueCapacity = 256;
+  private long maxInFlightBytes = 256L * 1024 * 1024;
+  // 0 이면 예산이 없을 때 대기하지 않고 바로 거절한다
+  private Duration acquireTimeout = Duration.ofSeconds(5);
+}
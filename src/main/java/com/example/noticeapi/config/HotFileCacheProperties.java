@@ -0,0 +1,19 @@
+package com.example.noticeapi.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "file.download.hot-cache")
+@Getter
+@Setter
+public class HotFileCacheProperties {
+
+  private boolean enabled = true;
+  private long maxTotalBytes = 64L * 1024 * 1024;
+  private int maxFileSize = 1024 * 1024;
+  private Duration expireAfterAccess = Duration.ofMinutes(10);
+}
@@ -0,0 +1,16 @@
+package com.example.noticeapi.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+  // 서비스 클래스에 붙인 @Timed 를 처리한다. 메서드별 타이머는 class, method 태그로 구분된다
+  @Bean
+  public TimedAspect timedAspect(MeterRegistry registry) {
+    return new TimedAspect(registry);
+  }
+}
@@ -0,0 +1,18 @@
+package com.example.noticeapi.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "cache.local")
+@Getter
+@Setter
+public class NearCacheProperties {
+
+  private long maximumSize = 10_000;
+  private Duration expireAfterWrite = Duration.ofMinutes(1);
+  private String invalidationChannel = "cache:invalidation";
+}
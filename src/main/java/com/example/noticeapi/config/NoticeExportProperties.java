@@ -0,0 +1,16 @@
+package com.example.noticeapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.export")
+@Getter
+@Setter
+public class NoticeExportProperties {
+
+  // 한 번에 받아 오는 행 수(MySQL 은 스트리밍으로 한 행씩 받는다). 응답 flush 도 이 단위로 한다
+  private int fetchSize = 1_000;
+}
@@ -0,0 +1,21 @@
+package com.example.noticeapi.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "notice.import")
+@Getter
+@Setter
+public class NoticeImportProperties {
+
+  // 한 트랜잭션에서 저장하는 건수. 실패하면 이 묶음만 롤백된다
+  private int chunkSize = 1_000;
+
+  // 한 번의 JDBC executeBatch 로 보내는 INSERT 수
+  private int jdbcBatchSize = 100;
+
+  private int maxReportedFailures = 100;
+}
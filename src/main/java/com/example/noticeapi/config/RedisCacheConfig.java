@@ -1,16 +1,29 @@
 package com.example.noticeapi.config;
 
+import com.example.noticeapi.cache.CacheEntry;
+import com.example.noticeapi.cache.CacheInvalidationBus;
+import com.example.noticeapi.cache.CacheLease;
+import com.example.noticeapi.cache.CacheLoadPolicy;
+import com.example.noticeapi.cache.CompactCacheSerializer;
+import com.example.noticeapi.cache.RedisCacheInvalidationBus;
+import com.example.noticeapi.cache.RedisCacheLease;
+import com.example.noticeapi.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.time.Duration;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -22,21 +35,80 @@ public class RedisCacheConfig {
     RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
     redisTemplate.setConnectionFactory(connectionFactory);
     redisTemplate.setKeySerializer(new StringRedisSerializer());
-    redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+    redisTemplate.setValueSerializer(cacheValueSerializer());
     return redisTemplate;
   }
 
   @Bean
-  public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+  public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+      CacheCodecProperties cacheCodecProperties, CacheLoadProperties cacheLoadProperties) {
+    Duration ttl = cacheLoadProperties.getTtl();
     RedisCacheConfiguration cacheConfig = RedisCacheConfiguration.defaultCacheConfig()
-        .entryTtl(Duration.ofMinutes(10))
+        // 지터가 적용된 만료 시각을 값과 함께 저장하므로 Redis TTL 도 그 시각에 맞춘다
+        .entryTtl((key, value) -> value instanceof CacheEntry entry ? entry.timeToLive() : ttl)
         .disableCachingNullValues()
         .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
         .serializeValuesWith(
-            SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+            SerializationPair.fromSerializer(cacheValueCodec(cacheCodecProperties)));
 
     return RedisCacheManager.builder(connectionFactory)
         .cacheDefaults(cacheConfig)
         .build();
   }
+
+  // 캐시되는 DTO 에 LocalDateTime 필드가 있으므로 JSR-310 모듈을 등록한다
+  public static GenericJackson2JsonRedisSerializer cacheValueSerializer() {
+    return new GenericJackson2JsonRedisSerializer()
+        .configure(objectMapper -> objectMapper.registerModule(new JavaTimeModule()));
+  }
+
+  // 캐시 값에만 적용한다. pub/sub 메시지는 노드 간 호환을 위해 계속 JSON 으로 보낸다.
+  // type 은 쓰는 형식만 정하고, 읽기는 항상 JSON 과 compact 를 모두 받는다
+  public static RedisSerializer<Object> cacheValueCodec(CacheCodecProperties properties) {
+    return new CompactCacheSerializer(cacheValueSerializer(),
+        properties.getCompressionThreshold(),
+        properties.getType() == CacheCodecProperties.Type.COMPACT);
+  }
+
+  @Bean
+  public RedisMessageListenerContainer redisMessageListenerContainer(
+      RedisConnectionFactory connectionFactory) {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(connectionFactory);
+    return container;
+  }
+
+  @Bean
+  public CacheInvalidationBus cacheInvalidationBus(RedisTemplate<String, Object> redisTemplate,
+      RedisMessageListenerContainer redisMessageListenerContainer,
+      NearCacheProperties nearCacheProperties) {
+    return new RedisCacheInvalidationBus(redisTemplate, redisMessageListenerContainer,
+        nearCacheProperties.getInvalidationChannel());
+  }
+
+  @Bean
+  public CacheLease cacheLease(StringRedisTemplate stringRedisTemplate,
+      CacheLoadProperties cacheLoadProperties) {
+    if (!cacheLoadProperties.isLeaseEnabled()) {
+      return CacheLease.NONE;
+    }
+    return new RedisCacheLease(stringRedisTemplate, cacheLoadProperties.getLeaseTime());
+  }
+
+  @Bean
+  @Primary
+  public TwoLevelCacheManager cacheManager(RedisCacheManager redisCacheManager,
+      CacheInvalidationBus cacheInvalidationBus, CacheLease cacheLease,
+      NearCacheProperties nearCacheProperties, CacheLoadProperties cacheLoadProperties) {
+    Caffeine<Object, Object> localCacheBuilder = Caffeine.newBuilder()
+        .maximumSize(nearCacheProperties.getMaximumSize())
+        .expireAfterWrite(nearCacheProperties.getExpireAfterWrite());
+    CacheLoadPolicy loadPolicy = new CacheLoadPolicy(cacheLoadProperties.getTtl(),
+        cacheLoadProperties.getTtlJitter(), cacheLoadProperties.getEarlyRefreshBeta(),
+        cacheLoadProperties.getLeaseWait());
+    TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(redisCacheManager,
+        localCacheBuilder, cacheInvalidationBus, loadPolicy, cacheLease);
+    cacheManager.setTransactionAware(true);
+    return cacheManager;
+  }
 }
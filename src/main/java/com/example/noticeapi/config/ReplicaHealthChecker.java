@@ -0,0 +1,119 @@
+package com.example.noticeapi.config;
+
+import com.example.noticeapi.config.ReplicaSelector.Replica;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 복제본에 주기적으로 접속해 응답 여부와 복제 지연을 확인하고, 기준을 넘으면 라우팅 대상에서 뺀다.
+ */
+public class ReplicaHealthChecker {
+
+  private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthChecker.class);
+
+  private static final long UNKNOWN_LAG = -1;
+
+  private final ReplicaSelector replicaSelector;
+
+  private final int validationTimeoutSeconds;
+
+  private final long maxLagSeconds;
+
+  private final String lagQuery;
+
+  // 지연을 읽지 못하는 복제본을 라우팅에 남길지. 남기면 얼마나 뒤처졌는지 알 수 없는 읽기가 나간다
+  private final boolean tolerateUnreadableLag;
+
+  public ReplicaHealthChecker(ReplicaSelector replicaSelector, Duration validationTimeout,
+      long maxLagSeconds, String lagQuery, boolean tolerateUnreadableLag) {
+    this.replicaSelector = replicaSelector;
+    this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+    this.maxLagSeconds = maxLagSeconds;
+    this.lagQuery = lagQuery;
+    this.tolerateUnreadableLag = tolerateUnreadableLag;
+  }
+
+  @Scheduled(fixedDelayString = "${spring.datasource.replica-routing.health-check-interval-ms:5000}")
+  public void check() {
+    for (Replica replica : replicaSelector.getReplicas()) {
+      boolean healthy = probe(replica);
+      if (healthy != replica.isHealthy()) {
+        if (healthy) {
+          logger.info("Replica {} is back in rotation (lag {}s)", replica.getName(),
+              replica.getLagSeconds());
+        } else {
+          logger.warn("Replica {} is out of rotation (lag {}s)", replica.getName(),
+              replica.getLagSeconds());
+        }
+      }
+      replica.setHealthy(healthy);
+    }
+  }
+
+  private boolean probe(Replica replica) {
+    try (Connection connection = replica.getDataSource().getConnection()) {
+      if (!connection.isValid(validationTimeoutSeconds)) {
+        replica.setLagSeconds(UNKNOWN_LAG);
+        return false;
+      }
+      long lag;
+      try {
+        lag = readLagSeconds(connection);
+      } catch (SQLTimeoutException ex) {
+        throw ex;
+      } catch (SQLException ex) {
+        // 권한(REPLICATION CLIENT)이 없거나 MySQL 8.0.22 미만이면 지연 조회만 실패한다. 복제가 끊긴 복제본도
+        // 같은 모습이므로 기본적으로는 빼고, 허용한 경우에만 남기되 read-your-writes 대상에서는 빠진다
+        replica.setLagSeconds(UNKNOWN_LAG);
+        if (!replica.isLagUnreadable()) {
+          replica.setLagUnreadable(true);
+          logger.warn("Cannot read replication lag of replica {}, {}: {}", replica.getName(),
+              tolerateUnreadableLag ? "keeping it in rotation without lag checks"
+                  : "taking it out of rotation", ex.toString());
+        }
+        return tolerateUnreadableLag;
+      }
+      if (replica.isLagUnreadable()) {
+        replica.setLagUnreadable(false);
+        logger.info("Replication lag of replica {} is readable again", replica.getName());
+      }
+      replica.setLagSeconds(lag);
+      return lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+    } catch (SQLException ex) {
+      logger.debug("Replica {} health check failed", replica.getName(), ex);
+      replica.setLagSeconds(UNKNOWN_LAG);
+      return false;
+    }
+  }
+
+  private long readLagSeconds(Connection connection) throws SQLException {
+    try (Statement statement = connection.createStatement()) {
+      statement.setQueryTimeout(validationTimeoutSeconds);
+      if (lagQuery != null && !lagQuery.isBlank()) {
+        try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+          if (!resultSet.next()) {
+            return UNKNOWN_LAG;
+          }
+          long lag = resultSet.getLong(1);
+          return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+        }
+      }
+      try (ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+        if (!resultSet.next()) {
+          // 복제 설정이 없는 읽기 전용 사본은 지연이 없는 것으로 본다
+          return 0;
+        }
+        // 복제 스레드가 멈춰 있으면 NULL 이 반환된다
+        long lag = resultSet.getLong("Seconds_Behind_Source");
+        return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+      }
+    }
+  }
+}
@@ -0,0 +1,215 @@
+package com.example.noticeapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 보낼 복제본을 고른다. 건강하지 않은 복제본은 건너뛰며, 모두 빠져 있으면
+ * {@code null}을 돌려 마스터로 보내게 한다.
+ */
+public class ReplicaSelector implements MeterBinder, AutoCloseable {
+
+  public enum Strategy {
+    ROUND_ROBIN, LEAST_ACTIVE
+  }
+
+  private final List<Replica> replicas;
+
+  private final Strategy strategy;
+
+  private final AtomicInteger nextIndex = new AtomicInteger();
+
+  private final LongAdder masterFallbacks = new LongAdder();
+
+  private final LongAdder readYourWritesFallbacks = new LongAdder();
+
+  public ReplicaSelector(List<Replica> replicas, Strategy strategy) {
+    this.replicas = List.copyOf(replicas);
+    this.strategy = strategy;
+  }
+
+  public Replica select() {
+    Replica selected = strategy == Strategy.LEAST_ACTIVE ? leastActive() : roundRobin();
+    if (selected == null) {
+      masterFallbacks.increment();
+      return null;
+    }
+    selected.routed.increment();
+    return selected;
+  }
+
+  /**
+   * {@code commitTimestamp} 이후의 커밋까지 반영했다고 확인된 복제본만 고른다. 없으면 {@code null}.
+   */
+  public Replica selectCaughtUpTo(long commitTimestamp) {
+    int size = replicas.size();
+    int start = size == 0 ? 0 : Math.floorMod(nextIndex.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.isHealthy() && replica.isCaughtUpTo(commitTimestamp)) {
+        replica.routed.increment();
+        return replica;
+      }
+    }
+    readYourWritesFallbacks.increment();
+    return null;
+  }
+
+  private Replica roundRobin() {
+    int size = replicas.size();
+    if (size == 0) {
+      return null;
+    }
+    int start = Math.floorMod(nextIndex.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica replica = replicas.get((start + i) % size);
+      if (replica.isHealthy()) {
+        return replica;
+      }
+    }
+    return null;
+  }
+
+  private Replica leastActive() {
+    Replica selected = null;
+    int selectedActive = Integer.MAX_VALUE;
+    for (Replica replica : replicas) {
+      if (!replica.isHealthy()) {
+        continue;
+      }
+      int active = replica.getActiveConnections();
+      if (active < selectedActive) {
+        selected = replica;
+        selectedActive = active;
+      }
+    }
+    return selected;
+  }
+
+  public List<Replica> getReplicas() {
+    return replicas;
+  }
+
+  public long getMasterFallbacks() {
+    return masterFallbacks.sum();
+  }
+
+  public long getReadYourWritesFallbacks() {
+    return readYourWritesFallbacks.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Replica replica : replicas) {
+      FunctionCounter.builder("datasource.routing.reads", replica.routed, LongAdder::sum)
+          .tag("target", replica.getName())
+          .register(registry);
+      Gauge.builder("datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+          .tag("replica", replica.getName())
+          .register(registry);
+      Gauge.builder("datasource.replica.lag", replica, Replica::getLagSeconds)
+          .tag("replica", replica.getName())
+          .baseUnit("seconds")
+          .register(registry);
+      Gauge.builder("notice.replica.lag.unknown", replica, r -> r.isLagUnreadable() ? 1 : 0)
+          .tag("replica", replica.getName())
+          .register(registry);
+    }
+    FunctionCounter.builder("datasource.routing.reads", masterFallbacks, LongAdder::sum)
+        .tag("target", "master-fallback")
+        .register(registry);
+    FunctionCounter.builder("datasource.routing.reads", readYourWritesFallbacks, LongAdder::sum)
+        .tag("target", "master-read-your-writes")
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    for (Replica replica : replicas) {
+      if (replica.getDataSource() instanceof HikariDataSource hikariDataSource) {
+        hikariDataSource.close();
+      }
+    }
+  }
+
+  public static class Replica {
+
+    private final String name;
+
+    private final DataSource dataSource;
+
+    private final LongAdder routed = new LongAdder();
+
+    private volatile boolean healthy = true;
+
+    private volatile long lagSeconds;
+
+    private volatile long checkedAt;
+
+    // 접속은 되지만 지연 조회가 실패하는 상태
+    private volatile boolean lagUnreadable;
+
+    public Replica(String name, DataSource dataSource) {
+      this.name = name;
+      this.dataSource = dataSource;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public DataSource getDataSource() {
+      return dataSource;
+    }
+
+    public boolean isHealthy() {
+      return healthy;
+    }
+
+    void setHealthy(boolean healthy) {
+      this.healthy = healthy;
+    }
+
+    public long getLagSeconds() {
+      return lagSeconds;
+    }
+
+    void setLagSeconds(long lagSeconds) {
+      this.lagSeconds = lagSeconds;
+      this.checkedAt = System.currentTimeMillis();
+    }
+
+    public boolean isLagUnreadable() {
+      return lagUnreadable;
+    }
+
+    void setLagUnreadable(boolean lagUnreadable) {
+      this.lagUnreadable = lagUnreadable;
+    }
+
+    // 지연은 초 단위로 보고되므로 1초를 더 빼서 보수적으로 판단한다
+    boolean isCaughtUpTo(long commitTimestamp) {
+      return lagSeconds >= 0 && checkedAt - (lagSeconds + 1) * 1000 >= commitTimestamp;
+    }
+
+    public long getRoutedCount() {
+      return routed.sum();
+    }
+
+    int getActiveConnections() {
+      if (dataSource instanceof HikariDataSource hikariDataSource) {
+        HikariPoolMXBean pool = hikariDataSource.getHikariPoolMXBean();
+        return pool != null ? pool.getActiveConnections() : 0;
+      }
+      return 0;
+    }
+  }
+}
@@ -1,11 +1,74 @@
 package com.example.noticeapi.config;
 
+import com.example.noticeapi.config.ReplicaSelector.Replica;
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
 import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
 
 public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
 
+  public static final String MASTER = "master";
+
+  public static final String SLAVE = "slave";
+
+  private final ReplicaSelector replicaSelector;
+
+  private RoutingAudit routingAudit;
+
+  public ReplicationRoutingDataSource(ReplicaSelector replicaSelector) {
+    this.replicaSelector = replicaSelector;
+  }
+
+  public void setRoutingAudit(RoutingAudit routingAudit) {
+    this.routingAudit = routingAudit;
+  }
+
   @Override
   protected Object determineCurrentLookupKey() {
-    return DataSourceContextHolder.getDataSourceType();
+    String dataSourceType = DataSourceContextHolder.getDataSourceType();
+    if (!SLAVE.equals(dataSourceType)) {
+      return dataSourceType;
+    }
+    Long readAfter = DataSourceContextHolder.getReadAfter();
+    Replica replica = readAfter != null
+        ? replicaSelector.selectCaughtUpTo(readAfter)
+        : replicaSelector.select();
+    return replica != null ? replica.getName() : MASTER;
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    if (routingAudit == null) {
+      return super.getConnection();
+    }
+    Object key = determineCurrentLookupKey();
+    return audit(targetFor(key).getConnection(), key);
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    if (routingAudit == null) {
+      return super.getConnection(username, password);
+    }
+    Object key = determineCurrentLookupKey();
+    return audit(targetFor(key).getConnection(username, password), key);
+  }
+
+  private DataSource targetFor(Object key) {
+    DataSource dataSource = key != null ? getResolvedDataSources().get(key) : null;
+    if (dataSource == null) {
+      dataSource = getResolvedDefaultDataSource();
+    }
+    if (dataSource == null) {
+      throw new IllegalStateException("Cannot determine target DataSource for key [" + key + "]");
+    }
+    return dataSource;
+  }
+
+  private Connection audit(Connection connection, Object key) {
+    String target = key != null && getResolvedDataSources().containsKey(key)
+        ? key.toString() : MASTER;
+    return routingAudit.wrap(connection, DataSourceContextHolder.getDataSourceType(), target);
   }
 }
@@ -0,0 +1,97 @@
+package com.example.noticeapi.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 라우팅 감사 모드. 각 SQL 문이 요청된 라우팅 키(master/slave/미설정)와 실제로 사용된 풀 중 어디로 갔는지 집계한다.
+ * 부하 중에 읽기 분산이 실제로 일어나는지 확인하는 용도이며, 문장마다 프록시를 거치므로 평소에는 끈다.
+ */
+public class RoutingAudit {
+
+  private static final Logger logger = LoggerFactory.getLogger(RoutingAudit.class);
+
+  private static final Set<String> STATEMENT_METHODS =
+      Set.of("prepareStatement", "prepareCall", "createStatement");
+
+  private static final String UNSET = "unset";
+
+  // DataSource 는 MeterRegistry 보다 먼저 만들어지므로 처음 기록할 때 가져온다
+  private final Supplier<MeterRegistry> meterRegistry;
+
+  private final Map<String, LongAdder> statementCounts = new ConcurrentHashMap<>();
+
+  public RoutingAudit(Supplier<MeterRegistry> meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public Connection wrap(Connection connection, String requested, String target) {
+    String requestedKey = requested != null ? requested : UNSET;
+    InvocationHandler handler = new AuditingHandler(connection, requestedKey, target);
+    return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+        new Class<?>[]{Connection.class}, handler);
+  }
+
+  private void record(String requested, String target, Object[] args) {
+    statementCounts.computeIfAbsent(requested + "->" + target, key -> new LongAdder())
+        .increment();
+    MeterRegistry registry = meterRegistry.get();
+    if (registry != null) {
+      registry.counter("datasource.routing.statements",
+          "requested", requested, "target", target).increment();
+    }
+    if (logger.isDebugEnabled()) {
+      Object sql = args != null && args.length > 0 ? args[0] : "";
+      logger.debug("[{} -> {}] on {}: {}", requested, target, Thread.currentThread().getName(),
+          sql);
+    }
+  }
+
+  /**
+   * "요청 키->실제 풀" 별 SQL 문 수.
+   */
+  public Map<String, Long> getStatementCounts() {
+    Map<String, Long> counts = new TreeMap<>();
+    statementCounts.forEach((key, count) -> counts.put(key, count.sum()));
+    return counts;
+  }
+
+  private class AuditingHandler implements InvocationHandler {
+
+    private final Connection target;
+
+    private final String requested;
+
+    private final String pool;
+
+    AuditingHandler(Connection target, String requested, String pool) {
+      this.target = target;
+      this.requested = requested;
+      this.pool = pool;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (STATEMENT_METHODS.contains(method.getName())) {
+        record(requested, pool, args);
+      }
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException ex) {
+        throw ex.getTargetException();
+      }
+    }
+  }
+}
@@ -0,0 +1,39 @@
+package com.example.noticeapi.config;
+
+import java.util.Map;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 작업을 제출한 스레드의 라우팅 키와 MDC(추적 id 등)를 실행 스레드로 옮기고, 작업이 끝나면 실행 스레드의 원래
+ * 컨텍스트로 되돌린다. {@code @Async} 실행기와 파일 I/O 실행기에 적용된다.
+ */
+@Component
+public class RoutingContextTaskDecorator implements TaskDecorator {
+
+  @Override
+  public Runnable decorate(Runnable runnable) {
+    DataSourceContextHolder.Snapshot routingContext = DataSourceContextHolder.capture();
+    Map<String, String> mdc = MDC.getCopyOfContextMap();
+    return () -> {
+      DataSourceContextHolder.Snapshot previousRoutingContext = routingContext.apply();
+      Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+      setMdc(mdc);
+      try {
+        runnable.run();
+      } finally {
+        previousRoutingContext.apply();
+        setMdc(previousMdc);
+      }
+    };
+  }
+
+  private static void setMdc(Map<String, String> contextMap) {
+    if (contextMap == null) {
+      MDC.clear();
+    } else {
+      MDC.setContextMap(contextMap);
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.noticeapi.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 시 각 id 시퀀스의 다음 값을 테이블의 {@code MAX(id)} 보다 크게 맞춘다. IDENTITY 컬럼으로 쌓인 기존
+ * 테이블에 {@code ddl-auto: update}가 시퀀스를 새로 만들면 1부터 시작해 기존 키와 겹치기 때문이다.
+ */
+@Component
+public class SequenceSeeder {
+
+  private static final Logger logger = LoggerFactory.getLogger(SequenceSeeder.class);
+
+  // 엔티티 @SequenceGenerator 의 allocationSize 와 같아야 한다
+  static final int ALLOCATION_SIZE = 50;
+
+  private static final List<SeededSequence> SEQUENCES = List.of(
+      new SeededSequence("notice", "notice_seq"),
+      new SeededSequence("file", "file_seq"),
+      new SeededSequence("file_reclaim", "file_reclaim_seq"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  private final SequenceSupport sequenceSupport;
+
+  // EntityManagerFactory 를 받아 ddl-auto 가 시퀀스를 만든 뒤에, 웹 서버가 요청을 받기 전에 실행된다
+  public SequenceSeeder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.sequenceSupport = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+        .getJdbcServices()
+        .getDialect()
+        .getSequenceSupport();
+  }
+
+  @PostConstruct
+  public void seed() {
+    SEQUENCES.forEach(this::seed);
+  }
+
+  private void seed(SeededSequence sequence) {
+    Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + sequence.table(),
+        Long.class);
+    if (maxId == null) {
+      return;
+    }
+    // pooled 최적화기는 받은 값을 범위의 끝으로 쓰므로 할당 크기만큼 더 띄운다
+    long floor = maxId + ALLOCATION_SIZE;
+    if (sequenceSupport.supportsSequences()) {
+      Long next = jdbcTemplate.queryForObject(
+          sequenceSupport.getSequenceNextValString(sequence.name()), Long.class);
+      if (next != null && next < floor) {
+        jdbcTemplate.execute("ALTER SEQUENCE " + sequence.name() + " RESTART WITH " + floor);
+        logger.warn("Sequence {} was behind {}.id {}, restarted at {}", sequence.name(),
+            sequence.table(), maxId, floor);
+      }
+      return;
+    }
+    // 시퀀스가 없는 DB(MySQL)에서는 Hibernate 가 next_val 한 행짜리 테이블로 흉내 낸다
+    int updated = jdbcTemplate.update("UPDATE " + sequence.name()
+        + " SET next_val = ? WHERE next_val < ?", floor, floor);
+    if (updated > 0) {
+      logger.warn("Sequence table {} was behind {}.id {}, advanced to {}", sequence.name(),
+          sequence.table(), maxId, floor);
+    }
+  }
+
+  private record SeededSequence(String table, String name) {
+  }
+}
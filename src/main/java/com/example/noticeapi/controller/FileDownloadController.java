@@ -1,11 +1,15 @@
 package com.example.noticeapi.controller;
 
+import com.example.noticeapi.download.CachedFile;
+import com.example.noticeapi.download.FileRangeSender;
+import com.example.noticeapi.download.HotFileCache;
 import com.example.noticeapi.dto.FileDto;
 import com.example.noticeapi.service.FileStorageService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Path;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,14 +22,27 @@ public class FileDownloadController {
 
   private final FileStorageService fileStorageService;
 
+  private final FileRangeSender fileRangeSender;
+
+  private final HotFileCache hotFileCache;
+
   @GetMapping("/{fileId}")
-  public ResponseEntity<Resource> downloadFile(@PathVariable Long fileId) {
+  public void downloadFile(@PathVariable Long fileId, HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
     FileDto fileDto = fileStorageService.getFileDtoById(fileId);
-    Resource resource = fileStorageService.loadFileAsResource(fileDto.getStoredFileName()).join();
+    String storedFileName = fileDto.getStoredFileName();
 
-    return ResponseEntity.ok()
-        .header(HttpHeaders.CONTENT_DISPOSITION,
-            "attachment; filename=\"" + fileDto.getOriginalFileName() + "\"")
-        .body(resource);
+    CachedFile cachedFile = hotFileCache.getIfPresent(storedFileName);
+    if (cachedFile == null) {
+      Path path = fileStorageService.resolveStoredFile(storedFileName);
+      cachedFile = hotFileCache.load(storedFileName, path);
+      if (cachedFile == null) {
+        fileRangeSender.send(path, fileDto.getOriginalFileName(), fileDto.getContentHash(),
+            request, response);
+        return;
+      }
+    }
+    fileRangeSender.send(cachedFile, fileDto.getOriginalFileName(), fileDto.getContentHash(),
+        request, response);
   }
 }
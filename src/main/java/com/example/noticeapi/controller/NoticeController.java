@@ -2,13 +2,24 @@ package com.example.noticeapi.controller;
 
 import com.example.noticeapi.dto.NoticeCreateDto;
 import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeImportResultDto;
 import com.example.noticeapi.dto.NoticeResponseDto;
 import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.dto.NoticeSliceResponseDto;
 import com.example.noticeapi.dto.NoticeUpdateDto;
+import com.example.noticeapi.export.NoticeExportFormat;
+import com.example.noticeapi.importer.NoticeImporter;
+import com.example.noticeapi.mapper.NoticeMapper;
+import com.example.noticeapi.service.NoticeExportService;
 import com.example.noticeapi.service.NoticeService;
+import com.example.noticeapi.service.ViewCountService;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -21,7 +32,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/notices")
@@ -30,6 +43,12 @@ public class NoticeController {
 
   private final NoticeService noticeService;
 
+  private final ViewCountService viewCountService;
+
+  private final NoticeExportService noticeExportService;
+
+  private final NoticeImporter noticeImporter;
+
   @PostMapping
   public ResponseEntity<NoticeResponseDto> createNotice(
       @RequestPart("notice") @Validated NoticeCreateDto noticeCreateDto,
@@ -38,18 +57,71 @@ public class NoticeController {
     return new ResponseEntity<>(responseDto, HttpStatus.CREATED);
   }
 
+  @PostMapping(value = "/import", consumes = "application/x-ndjson")
+  public ResponseEntity<NoticeImportResultDto> importNotices(InputStream body)
+      throws IOException {
+    return new ResponseEntity<>(noticeImporter.importNotices(body), HttpStatus.OK);
+  }
+
   @GetMapping
   public ResponseEntity<List<NoticeResponseDto>> getAllNotices(
       @RequestParam(defaultValue = "0") int page,
-      @RequestParam(defaultValue = "10") int size) {
+      @RequestParam(defaultValue = "10") int size, WebRequest webRequest) {
     List<NoticeResponseDto> notices = noticeService.getAllNotices(page, size);
-    return new ResponseEntity<>(notices, HttpStatus.OK);
+    // 변경이 없으면 조회수를 합치거나 본문을 직렬화하지 않고 304 로 끝낸다
+    if (webRequest.checkNotModified(NoticeValidators.etag(notices),
+        noticeService.getNoticeListLastModified())) {
+      return null;
+    }
+    return new ResponseEntity<>(withPendingViews(notices), HttpStatus.OK);
+  }
+
+  @GetMapping("/active")
+  public ResponseEntity<List<NoticeResponseDto>> getActiveNotices(
+      @RequestParam(defaultValue = "0") int page,
+      @RequestParam(defaultValue = "10") int size) {
+    List<NoticeResponseDto> notices = noticeService.getActiveNotices(page, size);
+    return new ResponseEntity<>(withPendingViews(notices), HttpStatus.OK);
+  }
+
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportNotices(
+      @RequestParam(defaultValue = "ndjson") String format,
+      @RequestParam(required = false) LocalDateTime startDate,
+      @RequestParam(required = false) LocalDateTime endDate) {
+    NoticeExportFormat exportFormat = NoticeExportFormat.from(format);
+    // 본문은 요청 스레드를 놓아준 뒤 비동기 스레드에서 커서를 따라가며 쓴다
+    StreamingResponseBody body = out ->
+        noticeExportService.export(exportFormat, startDate, endDate, out);
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType())
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"notices." + exportFormat.getExtension() + "\"")
+        .body(body);
+  }
+
+  @GetMapping("/cursor")
+  public ResponseEntity<NoticeSliceResponseDto> getNoticesByCursor(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "10") int size) {
+    NoticeSliceResponseDto slice = noticeService.getNoticesByCursor(cursor, size);
+    NoticeSliceResponseDto response = slice.toBuilder()
+        .notices(withPendingViews(slice.getNotices()))
+        .build();
+    return new ResponseEntity<>(response, HttpStatus.OK);
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<NoticeDetailResponseDto> getNoticeById(@PathVariable Long id) {
+  public ResponseEntity<NoticeDetailResponseDto> getNoticeById(@PathVariable Long id,
+      WebRequest webRequest) {
     NoticeDetailResponseDto notice = noticeService.getNoticeDetailById(id);
-    return new ResponseEntity<>(notice, HttpStatus.OK);
+    long pendingViews = viewCountService.recordView(id);
+    if (webRequest.checkNotModified(NoticeValidators.etag(notice),
+        NoticeValidators.lastModified(notice))) {
+      return null;
+    }
+    return new ResponseEntity<>(NoticeMapper.withPendingViews(notice, pendingViews),
+        HttpStatus.OK);
   }
 
   @GetMapping("/search")
@@ -64,7 +136,7 @@ public class NoticeController {
     NoticeSearchDto noticeSearchDto = new NoticeSearchDto(title, content, author, startDate,
         endDate);
     List<NoticeResponseDto> notices = noticeService.searchNotices(noticeSearchDto, page, size);
-    return new ResponseEntity<>(notices, HttpStatus.OK);
+    return new ResponseEntity<>(withPendingViews(notices), HttpStatus.OK);
   }
 
   @PutMapping("/{id}")
@@ -81,4 +153,11 @@ public class NoticeController {
     noticeService.deleteNotice(id);
     return new ResponseEntity<>(HttpStatus.NO_CONTENT);
   }
+
+  private List<NoticeResponseDto> withPendingViews(List<NoticeResponseDto> notices) {
+    return notices.stream()
+        .map(notice -> NoticeMapper.withPendingViews(notice,
+            viewCountService.getPendingViews(notice.getId())))
+        .collect(Collectors.toList());
+  }
 }
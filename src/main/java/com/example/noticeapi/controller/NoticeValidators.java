@@ -0,0 +1,52 @@
+package com.example.noticeapi.controller;
+
+import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeResponseDto;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 캐시된 DTO 의 id 와 version 만으로 조건부 요청 검증자를 만든다. 응답 본문의 조회수는 공지 버전과 별개로
+ * 바뀌므로 약한(W/) ETag 를 쓴다. If-None-Match 는 약한 비교를 하므로 304 판정에는 차이가 없다. 목록은
+ * 충돌로 잘못된 304 가 나가지 않도록 id:version 목록의 SHA-256 앞 128비트를 쓴다.
+ */
+final class NoticeValidators {
+
+  private NoticeValidators() {
+  }
+
+  static String etag(NoticeDetailResponseDto notice) {
+    return "W/\"" + notice.getId() + "-" + notice.getVersion() + "\"";
+  }
+
+  static String etag(List<NoticeResponseDto> notices) {
+    MessageDigest digest = sha256();
+    for (NoticeResponseDto notice : notices) {
+      digest.update((notice.getId() + ":" + notice.getVersion() + ";")
+          .getBytes(StandardCharsets.UTF_8));
+    }
+    return "W/\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
+  static long lastModified(NoticeDetailResponseDto notice) {
+    LocalDateTime modifiedAt = notice.getUpdatedAt() != null
+        ? notice.getUpdatedAt() : notice.getCreatedAt();
+    if (modifiedAt == null) {
+      return -1;
+    }
+    return modifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+  }
+}
@@ -0,0 +1,31 @@
+package com.example.noticeapi.download;
+
+import java.nio.ByteBuffer;
+
+public class CachedFile {
+
+  private final ByteBuffer content;
+
+  private final long lastModified;
+
+  public CachedFile(ByteBuffer content, long lastModified) {
+    this.content = content.asReadOnlyBuffer();
+    this.lastModified = lastModified;
+  }
+
+  public long getLength() {
+    return content.limit();
+  }
+
+  public long getLastModified() {
+    return lastModified;
+  }
+
+  // 요청마다 독립된 위치를 갖도록 복제본을 잘라서 돌려준다
+  ByteBuffer slice(long position, long count) {
+    ByteBuffer region = content.duplicate();
+    region.position((int) position);
+    region.limit((int) (position + count));
+    return region;
+  }
+}
@@ -0,0 +1,313 @@
+package com.example.noticeapi.download;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * 저장된 첨부파일을 Range / 조건부 요청에 맞춰 응답으로 보낸다.
+ *
+ * <p>단일 구간은 Tomcat sendfile 에 위임하고, 지원되지 않으면 {@link FileChannel#transferTo}로
+ * 힙 버퍼 없이 복사한다. {@link HotFileCache}에 올라간 파일은 파일시스템을 거치지 않고 버퍼에서 보낸다.
+ */
+@Component
+public class FileRangeSender implements MeterBinder {
+
+  static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+  static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+  static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+  static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+  private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+  private final long sendfileThreshold;
+
+  private final LongAdder diskBytesSent = new LongAdder();
+
+  private final LongAdder memoryBytesSent = new LongAdder();
+
+  private volatile Timer diskSendTimer;
+
+  private volatile Timer memorySendTimer;
+
+  public FileRangeSender(
+      @Value("${file.download.sendfile-threshold:49152}") long sendfileThreshold) {
+    this.sendfileThreshold = sendfileThreshold;
+  }
+
+  public void send(Path path, String fileName, String contentHash, HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    long startNanos = System.nanoTime();
+    send(new PathContent(path, Files.size(path), Files.getLastModifiedTime(path).toMillis()),
+        fileName, contentHash, request, response);
+    record(diskSendTimer, startNanos);
+  }
+
+  public void send(CachedFile file, String fileName, String contentHash,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    long startNanos = System.nanoTime();
+    send(new BufferContent(file), fileName, contentHash, request, response);
+    record(memorySendTimer, startNanos);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("file.download.sent.bytes", diskBytesSent, LongAdder::sum)
+        .baseUnit("bytes")
+        .tag("source", "disk")
+        .register(registry);
+    FunctionCounter.builder("file.download.sent.bytes", memoryBytesSent, LongAdder::sum)
+        .baseUnit("bytes")
+        .tag("source", "memory")
+        .register(registry);
+    diskSendTimer = sendTimer(registry, "disk");
+    memorySendTimer = sendTimer(registry, "memory");
+  }
+
+  private static Timer sendTimer(MeterRegistry registry, String source) {
+    // sendfile 로 넘긴 응답은 실제 전송이 컨트롤러 반환 뒤에 일어나므로 헤더 처리 시간만 잡힌다
+    return Timer.builder("file.download.duration")
+        .tag("source", source)
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  private static void record(Timer timer, long startNanos) {
+    if (timer != null) {
+      timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void recordSent(Content content, long count) {
+    (content instanceof PathContent ? diskBytesSent : memoryBytesSent).add(count);
+  }
+
+  private void send(Content content, String fileName, String contentHash,
+      HttpServletRequest request, HttpServletResponse response) throws IOException {
+    long length = content.length();
+    long lastModified = content.lastModified();
+    // 저장된 파일은 덮어쓰지 않으므로 크기와 수정 시각만으로도 강한 검증자가 된다
+    String etag = contentHash != null
+        ? "\"" + contentHash + "\""
+        : "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+    ServletWebRequest webRequest = new ServletWebRequest(request, response);
+    if (webRequest.checkNotModified(etag, lastModified)) {
+      return;
+    }
+
+    MediaType contentType = MediaTypeFactory.getMediaType(fileName)
+        .orElse(MediaType.APPLICATION_OCTET_STREAM);
+    response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+    // 한글이나 따옴표가 든 원본 이름도 깨지지 않도록 RFC 5987 filename* 으로 인코딩한다
+    response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+        .filename(fileName, StandardCharsets.UTF_8)
+        .build()
+        .toString());
+
+    List<HttpRange> ranges;
+    try {
+      ranges = requestedRanges(request, etag, lastModified, length);
+    } catch (IllegalArgumentException ex) {
+      response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+      response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+      return;
+    }
+
+    if (ranges.isEmpty()) {
+      response.setStatus(HttpServletResponse.SC_OK);
+      response.setContentType(contentType.toString());
+      response.setContentLengthLong(length);
+      sendRegion(content, 0, length, request, response);
+    } else if (ranges.size() == 1) {
+      long start = ranges.get(0).getRangeStart(length);
+      long end = ranges.get(0).getRangeEnd(length);
+      response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+      response.setContentType(contentType.toString());
+      response.setHeader(HttpHeaders.CONTENT_RANGE, contentRange(start, end, length));
+      response.setContentLengthLong(end - start + 1);
+      sendRegion(content, start, end - start + 1, request, response);
+    } else {
+      sendMultipart(content, ranges, contentType, response);
+    }
+  }
+
+  private List<HttpRange> requestedRanges(HttpServletRequest request, String etag,
+      long lastModified, long length) {
+    String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+    if (rangeHeader == null || !rangeHeader.startsWith("bytes=")
+        || !matchesIfRange(request, etag, lastModified)) {
+      return List.of();
+    }
+    List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+    long total = 0;
+    for (HttpRange range : ranges) {
+      // 범위를 벗어나면 IllegalArgumentException 으로 416 응답이 된다
+      total += range.getRangeEnd(length) - range.getRangeStart(length) + 1;
+    }
+    if (ranges.size() > 1 && total > length) {
+      throw new IllegalArgumentException("Multiple ranges exceed the file length");
+    }
+    return ranges;
+  }
+
+  private boolean matchesIfRange(HttpServletRequest request, String etag, long lastModified) {
+    String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+    if (ifRange == null) {
+      return true;
+    }
+    if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+      return ifRange.equals(etag);
+    }
+    try {
+      return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+    } catch (IllegalArgumentException ex) {
+      return false;
+    }
+  }
+
+  private void sendMultipart(Content content, List<HttpRange> ranges, MediaType contentType,
+      HttpServletResponse response) throws IOException {
+    long length = content.length();
+    String boundary = UUID.randomUUID().toString();
+    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+    response.setContentType("multipart/byteranges; boundary=" + boundary);
+
+    ServletOutputStream out = response.getOutputStream();
+    WritableByteChannel target = Channels.newChannel(out);
+    for (HttpRange range : ranges) {
+      long start = range.getRangeStart(length);
+      long end = range.getRangeEnd(length);
+      String partHeader = "--" + boundary + "\r\n"
+          + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+          + HttpHeaders.CONTENT_RANGE + ": " + contentRange(start, end, length) + "\r\n\r\n";
+      out.write(partHeader.getBytes(StandardCharsets.US_ASCII));
+      content.transfer(start, end - start + 1, target);
+      recordSent(content, end - start + 1);
+      out.write(CRLF);
+    }
+    out.write(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+  }
+
+  private void sendRegion(Content content, long start, long count, HttpServletRequest request,
+      HttpServletResponse response) throws IOException {
+    if (content instanceof PathContent pathContent && count >= sendfileThreshold
+        && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+      // 응답 본문을 쓰지 않고 속성만 남기면 Tomcat 이 커널 sendfile 로 전송한다
+      request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE,
+          pathContent.path.toAbsolutePath().toString());
+      request.setAttribute(SENDFILE_START_ATTRIBUTE, start);
+      request.setAttribute(SENDFILE_END_ATTRIBUTE, start + count);
+      recordSent(content, count);
+      return;
+    }
+    content.transfer(start, count, Channels.newChannel(response.getOutputStream()));
+    recordSent(content, count);
+  }
+
+  private static String contentRange(long start, long end, long length) {
+    return "bytes " + start + "-" + end + "/" + length;
+  }
+
+  private interface Content {
+
+    long length();
+
+    long lastModified();
+
+    void transfer(long position, long count, WritableByteChannel target) throws IOException;
+  }
+
+  private static class PathContent implements Content {
+
+    private final Path path;
+    private final long length;
+    private final long lastModified;
+
+    PathContent(Path path, long length, long lastModified) {
+      this.path = path;
+      this.length = length;
+      this.lastModified = lastModified;
+    }
+
+    @Override
+    public long length() {
+      return length;
+    }
+
+    @Override
+    public long lastModified() {
+      return lastModified;
+    }
+
+    @Override
+    public void transfer(long position, long count, WritableByteChannel target)
+        throws IOException {
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        long remaining = count;
+        while (remaining > 0) {
+          long transferred = channel.transferTo(position, remaining, target);
+          if (transferred <= 0) {
+            throw new EOFException("File ended before the requested range was sent");
+          }
+          position += transferred;
+          remaining -= transferred;
+        }
+      }
+    }
+  }
+
+  private static class BufferContent implements Content {
+
+    private final CachedFile file;
+
+    BufferContent(CachedFile file) {
+      this.file = file;
+    }
+
+    @Override
+    public long length() {
+      return file.getLength();
+    }
+
+    @Override
+    public long lastModified() {
+      return file.getLastModified();
+    }
+
+    @Override
+    public void transfer(long position, long count, WritableByteChannel target)
+        throws IOException {
+      ByteBuffer region = file.slice(position, count);
+      while (region.hasRemaining()) {
+        target.write(region);
+      }
+    }
+  }
+}
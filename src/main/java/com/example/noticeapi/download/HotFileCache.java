@@ -0,0 +1,124 @@
+package com.example.noticeapi.download;
+
+import com.example.noticeapi.cache.CacheInvalidationBus;
+import com.example.noticeapi.cache.CacheInvalidationMessage;
+import com.example.noticeapi.config.HotFileCacheProperties;
+import com.example.noticeapi.event.StoredFileDeletedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 자주 내려받는 작은 첨부파일을 JVM 힙 밖의 direct 버퍼에 올려두는 캐시.
+ *
+ * <p>전체 크기는 {@code max-total-bytes}로 제한되며, Caffeine 의 W-TinyLFU 정책으로 한 번만 요청된
+ * 파일보다 자주 요청되는 파일을 남긴다. 실제 파일이 지워지면 이 노드와 다른 노드에서 함께 제거된다.
+ */
+@Component
+public class HotFileCache implements MeterBinder {
+
+  public static final String CACHE_NAME = "hotFiles";
+
+  private final Cache<String, CachedFile> cache;
+
+  private final boolean enabled;
+
+  private final long maxFileSize;
+
+  private final CacheInvalidationBus invalidationBus;
+
+  public HotFileCache(HotFileCacheProperties properties, CacheInvalidationBus invalidationBus) {
+    this.enabled = properties.isEnabled();
+    this.maxFileSize = properties.getMaxFileSize();
+    this.invalidationBus = invalidationBus;
+    this.cache = Caffeine.newBuilder()
+        .maximumWeight(properties.getMaxTotalBytes())
+        .weigher((String key, CachedFile file) -> (int) file.getLength())
+        .expireAfterAccess(properties.getExpireAfterAccess())
+        .recordStats()
+        .build();
+  }
+
+  @PostConstruct
+  public void subscribe() {
+    invalidationBus.subscribe(this::onInvalidation);
+  }
+
+  public CachedFile getIfPresent(String storedFileName) {
+    return enabled ? cache.getIfPresent(storedFileName) : null;
+  }
+
+  /**
+   * 파일을 읽어 캐시에 올리고 돌려준다. 캐시 대상이 아닌 큰 파일이면 읽지 않고 {@code null}을 돌려준다.
+   */
+  public CachedFile load(String storedFileName, Path path) throws IOException {
+    if (!enabled || Files.size(path) > maxFileSize) {
+      return null;
+    }
+    try {
+      return cache.get(storedFileName, key -> read(path));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  public void invalidate(String storedFileName) {
+    cache.invalidate(storedFileName);
+  }
+
+  @EventListener
+  public void onStoredFileDeleted(StoredFileDeletedEvent event) {
+    cache.invalidate(event.getStoredFileName());
+    invalidationBus.publish(CACHE_NAME, event.getStoredFileName());
+  }
+
+  private void onInvalidation(CacheInvalidationMessage message) {
+    if (!CACHE_NAME.equals(message.getCacheName())) {
+      return;
+    }
+    if (message.getKey() == null) {
+      cache.invalidateAll();
+    } else {
+      cache.invalidate(message.getKey());
+    }
+  }
+
+  private static CachedFile read(Path path) {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      ByteBuffer buffer = ByteBuffer.allocateDirect((int) channel.size());
+      while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+        // 파일 끝까지 읽는다
+      }
+      buffer.flip();
+      return new CachedFile(buffer, Files.getLastModifiedTime(path).toMillis());
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  public long getWeightedSize() {
+    return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+    Gauge.builder("file.download.hot.cache.bytes", this, HotFileCache::getWeightedSize)
+        .baseUnit("bytes")
+        .register(registry);
+  }
+}
@@ -15,4 +15,6 @@ public class FileDto {
   private String originalFileName;
   private String storedFileName;
   private String filePath;
+  private String contentHash;
+  private Long size;
 }
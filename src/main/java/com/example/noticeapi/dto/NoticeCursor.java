@@ -0,0 +1,36 @@
+package com.example.noticeapi.dto;
+
+import com.example.noticeapi.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NoticeCursor {
+
+  private static final char SEPARATOR = '|';
+
+  private final LocalDateTime createdAt;
+  private final Long id;
+
+  public String encode() {
+    String raw = createdAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public static NoticeCursor decode(String token) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separatorIndex = raw.lastIndexOf(SEPARATOR);
+      return new NoticeCursor(LocalDateTime.parse(raw.substring(0, separatorIndex)),
+          Long.parseLong(raw.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+      throw new InvalidCursorException("Invalid cursor: " + token);
+    }
+  }
+}
@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class NoticeDetailResponseDto {
@@ -19,6 +19,9 @@ public class NoticeDetailResponseDto {
   private LocalDateTime startDate;
   private LocalDateTime endDate;
   private LocalDateTime createdAt;
+  private int viewCount;
   private String author;
   private List<FileDto> attachments;
+  private long version;
+  private LocalDateTime updatedAt;
 }
@@ -0,0 +1,15 @@
+package com.example.noticeapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoticeImportFailureDto {
+
+  // 요청 본문에서의 줄 번호 (1부터)
+  private long line;
+  private String message;
+}
@@ -0,0 +1,19 @@
+package com.example.noticeapi.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoticeImportResultDto {
+
+  private long imported;
+  private long failed;
+  // 최대 notice.import.max-reported-failures 건까지만 담는다
+  private List<NoticeImportFailureDto> failures;
+}
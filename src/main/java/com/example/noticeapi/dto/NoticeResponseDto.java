@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 public class NoticeResponseDto {
@@ -22,4 +22,6 @@ public class NoticeResponseDto {
   private int viewCount;
   private String author;
   private List<FileDto> attachments;
+  private long version;
+  private LocalDateTime updatedAt;
 }
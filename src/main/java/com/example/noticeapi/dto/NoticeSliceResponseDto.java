@@ -0,0 +1,18 @@
+package com.example.noticeapi.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class NoticeSliceResponseDto {
+
+  private List<NoticeResponseDto> notices;
+  private String nextCursor;
+  private boolean hasNext;
+}
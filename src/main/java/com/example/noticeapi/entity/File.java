@@ -1,11 +1,13 @@
 package com.example.noticeapi.entity;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,7 +21,8 @@ import lombok.NoArgsConstructor;
 public class File {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_seq")
+  @SequenceGenerator(name = "file_seq", sequenceName = "file_seq", allocationSize = 50)
   private Long id;
 
   private String originalFileName;
@@ -27,6 +30,12 @@ public class File {
   private String filePath;
   private boolean isDeleted;
 
+  // 내용 주소 저장 모드에서만 채워지며, 기존 UUID 저장 파일은 null 이다
+  @Column(length = 64)
+  private String contentHash;
+
+  private Long size;
+
   @ManyToOne
   @JoinColumn(name = "notice_id")
   private Notice notice;
@@ -0,0 +1,39 @@
+package com.example.noticeapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소 저장 파일 하나의 참조 수. 참조가 0 이 되어도 실제 파일을 지울 때까지 행을 남겨 두고, 업로드와 회수
+ * 모두 이 행을 {@code SELECT ... FOR UPDATE}로 잠근 뒤에 파일을 배치하거나 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob {
+
+  @Id
+  @Column(length = 64)
+  private String contentHash;
+
+  private String storedFileName;
+  private long size;
+  private long refCount;
+
+  public void acquire() {
+    this.refCount++;
+  }
+
+  public void release() {
+    if (this.refCount > 0) {
+      this.refCount--;
+    }
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.noticeapi.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 지울 첨부파일 한 건. 첨부파일 삭제와 같은 트랜잭션에 기록되므로 커밋 직후 노드가 죽어도 유실되지 않고,
+ * {@code FileReclaimer}가 실제 파일을 지운 뒤에 행을 삭제한다.
+ */
+@Entity
+@Table(indexes = @Index(name = "idx_file_reclaim_next_attempt_at",
+    columnList = "next_attempt_at, id"))
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileReclaim {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "file_reclaim_seq")
+  @SequenceGenerator(name = "file_reclaim_seq", sequenceName = "file_reclaim_seq",
+      allocationSize = 50)
+  private Long id;
+
+  private String storedFileName;
+  private String filePath;
+
+  // 내용 주소 저장 파일이면 참조 수를 먼저 줄이고, 마지막 참조였을 때만 지운다
+  @Column(length = 64)
+  private String contentHash;
+
+  // 줄일 참조가 없다. 업로드 트랜잭션이 롤백됐을 때 옮겨 둔 파일을 치우려고 남긴 행이다
+  private boolean blobReleased;
+
+  private int attempts;
+  private LocalDateTime nextAttemptAt;
+
+  // 여러 노드가 같은 행을 동시에 처리하지 않도록 가져간 쪽이 남긴다
+  @Column(length = 36)
+  private String claimToken;
+
+  private LocalDateTime createdAt;
+
+  public static FileReclaim of(File attachment, LocalDateTime now) {
+    return FileReclaim.builder()
+        .storedFileName(attachment.getStoredFileName())
+        .filePath(attachment.getFilePath())
+        .contentHash(attachment.getContentHash())
+        .nextAttemptAt(now)
+        .createdAt(now)
+        .build();
+  }
+
+  /**
+   * 내용 주소 저장 파일을 저장소에 옮기기 전에 별도 트랜잭션으로 남기는 행. 업로드한 트랜잭션이 커밋되면 함께
+   * 지워지고, 롤백되면 {@code nextAttemptAt} 이후 회수기가 참조가 없는 파일을 지운다.
+   */
+  public static FileReclaim placement(String contentHash, String storedFileName, String filePath,
+      LocalDateTime now, LocalDateTime nextAttemptAt) {
+    return FileReclaim.builder()
+        .storedFileName(storedFileName)
+        .filePath(filePath)
+        .contentHash(contentHash)
+        .blobReleased(true)
+        .nextAttemptAt(nextAttemptAt)
+        .createdAt(now)
+        .build();
+  }
+}
@@ -5,7 +5,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,8 +17,12 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
+@Table(indexes = @Index(name = "idx_notice_deleted_created_at_id",
+    columnList = "is_deleted, created_at, id"))
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -22,7 +30,8 @@ import lombok.NoArgsConstructor;
 public class Notice {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notice_seq")
+  @SequenceGenerator(name = "notice_seq", sequenceName = "notice_seq", allocationSize = 50)
   private Long id;
 
   private String title;
@@ -33,8 +42,15 @@ public class Notice {
   private int viewCount;
   private String author;
   private boolean isDeleted;
+  // 첨부파일을 포함한 내용이 바뀔 때 갱신된다. 조회수 반영은 별도 UPDATE 라 포함되지 않는다
+  private LocalDateTime updatedAt;
+
+  @Version
+  @ColumnDefault("0")
+  private long version;
 
   @OneToMany(mappedBy = "notice", cascade = CascadeType.ALL, orphanRemoval = true)
+  @BatchSize(size = 100)
   @Builder.Default
   private List<File> attachments = new ArrayList<>();
 
@@ -49,12 +65,12 @@ public class Notice {
     for (File attachment : this.attachments) {
       attachment.associateWithNotice(this);
     }
+    this.updatedAt = LocalDateTime.now();
   }
 
+  // 첨부파일은 FileStorageService 가 한 번의 UPDATE 로 삭제 표시한다
   public void delete() {
     this.isDeleted = true;
-    if (this.attachments != null) {
-      this.attachments.forEach(File::delete);
-    }
+    this.updatedAt = LocalDateTime.now();
   }
 }
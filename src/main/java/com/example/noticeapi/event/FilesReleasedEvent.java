@@ -0,0 +1,14 @@
+package com.example.noticeapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 첨부파일이 삭제 표시되고 지울 파일이 기록됐을 때 발행한다. 커밋 뒤 회수기를 바로 깨우는 데 쓴다.
+ */
+@Getter
+@AllArgsConstructor
+public class FilesReleasedEvent {
+
+  private final int count;
+}
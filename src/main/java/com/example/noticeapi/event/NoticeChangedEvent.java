@@ -0,0 +1,12 @@
+package com.example.noticeapi.event;
+
+import com.example.noticeapi.entity.Notice;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class NoticeChangedEvent {
+
+  private final Notice notice;
+}
@@ -0,0 +1,29 @@
+package com.example.noticeapi.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 변경 알림 메시지의 키 형식. 공지 하나는 "12", 여러 건은 "12,13,14" 로 보낸다.
+ */
+public final class NoticeIds {
+
+  private NoticeIds() {
+  }
+
+  public static String join(Collection<Long> noticeIds) {
+    return noticeIds.stream()
+        .map(String::valueOf)
+        .collect(Collectors.joining(","));
+  }
+
+  public static List<Long> parse(String key) {
+    List<Long> noticeIds = new ArrayList<>();
+    for (String id : key.split(",")) {
+      noticeIds.add(Long.valueOf(id));
+    }
+    return noticeIds;
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.noticeapi.event;
+
+import com.example.noticeapi.entity.Notice;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일괄 등록 한 묶음이 저장됐을 때 발행한다. 색인과 피드는 건마다가 아니라 묶음 단위로 다른 노드에 알린다.
+ */
+@Getter
+@AllArgsConstructor
+public class NoticesImportedEvent {
+
+  private final List<Notice> notices;
+}
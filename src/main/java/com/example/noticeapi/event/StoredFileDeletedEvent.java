@@ -0,0 +1,11 @@
+package com.example.noticeapi.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class StoredFileDeletedEvent {
+
+  private final String storedFileName;
+}
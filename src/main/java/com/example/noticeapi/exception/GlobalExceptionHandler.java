@@ -7,6 +7,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -38,6 +39,44 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(response, HttpStatus.NOT_FOUND);
   }
 
+  @ExceptionHandler(InvalidCursorException.class)
+  public ResponseEntity<Map<String, String>> handleInvalidCursorException(
+      InvalidCursorException ex) {
+    Map<String, String> response = new HashMap<>();
+    response.put("error", "InvalidCursor");
+    response.put("message", ex.getMessage());
+    return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(InvalidExportFormatException.class)
+  public ResponseEntity<Map<String, String>> handleInvalidExportFormatException(
+      InvalidExportFormatException ex) {
+    Map<String, String> response = new HashMap<>();
+    response.put("error", "InvalidExportFormat");
+    response.put("message", ex.getMessage());
+    return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(UploadRejectedException.class)
+  public ResponseEntity<Map<String, String>> handleUploadRejectedException(
+      UploadRejectedException ex) {
+    Map<String, String> response = new HashMap<>();
+    response.put("error", "UploadRejected");
+    response.put("message", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(response);
+  }
+
+  @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+  public ResponseEntity<Map<String, String>> handleOptimisticLockingFailureException(
+      ObjectOptimisticLockingFailureException ex) {
+    Map<String, String> response = new HashMap<>();
+    response.put("error", "ConcurrentModification");
+    response.put("message", "The notice was modified by another request. Please retry.");
+    return new ResponseEntity<>(response, HttpStatus.CONFLICT);
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<?> handleGlobalException(Exception ex, WebRequest request) {
     logger.error("Internal server error: ", ex);
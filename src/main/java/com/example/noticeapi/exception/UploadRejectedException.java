@@ -0,0 +1,8 @@
+package com.example.noticeapi.exception;
+
+public class UploadRejectedException extends RuntimeException {
+
+  public UploadRejectedException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,80 @@
+package com.example.noticeapi.export;
+
+import com.example.noticeapi.entity.Notice;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * RFC 4180 형식으로 쓴다. 쉼표, 따옴표, 줄바꿈이 들어간 값만 따옴표로 감싼다.
+ */
+class CsvNoticeExportWriter implements NoticeExportWriter {
+
+  static final String HEADER =
+      "id,title,content,author,start_date,end_date,created_at,updated_at,view_count,version";
+
+  private final Writer writer;
+
+  CsvNoticeExportWriter(OutputStream out) throws IOException {
+    this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    writer.write(HEADER);
+    writer.write("\r\n");
+  }
+
+  @Override
+  public void write(Notice notice) throws IOException {
+    writer.write(Long.toString(notice.getId()));
+    writer.write(',');
+    writeText(notice.getTitle());
+    writer.write(',');
+    writeText(notice.getContent());
+    writer.write(',');
+    writeText(notice.getAuthor());
+    writer.write(',');
+    writeDateTime(notice.getStartDate());
+    writer.write(',');
+    writeDateTime(notice.getEndDate());
+    writer.write(',');
+    writeDateTime(notice.getCreatedAt());
+    writer.write(',');
+    writeDateTime(notice.getUpdatedAt());
+    writer.write(',');
+    writer.write(Integer.toString(notice.getViewCount()));
+    writer.write(',');
+    writer.write(Long.toString(notice.getVersion()));
+    writer.write("\r\n");
+  }
+
+  private void writeDateTime(LocalDateTime value) throws IOException {
+    if (value != null) {
+      writer.write(value.toString());
+    }
+  }
+
+  private void writeText(String value) throws IOException {
+    if (value == null) {
+      return;
+    }
+    boolean quote = false;
+    for (int i = 0; i < value.length() && !quote; i++) {
+      char c = value.charAt(i);
+      quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    if (!quote) {
+      writer.write(value);
+      return;
+    }
+    writer.write('"');
+    writer.write(value.replace("\"", "\"\""));
+    writer.write('"');
+  }
+
+  @Override
+  public void flush() throws IOException {
+    writer.flush();
+  }
+}
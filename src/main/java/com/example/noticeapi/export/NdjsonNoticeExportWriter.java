@@ -0,0 +1,54 @@
+package com.example.noticeapi.export;
+
+import com.example.noticeapi.entity.Notice;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+class NdjsonNoticeExportWriter implements NoticeExportWriter {
+
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      .build();
+
+  private final JsonGenerator generator;
+
+  NdjsonNoticeExportWriter(OutputStream out) throws IOException {
+    this.generator = JSON_FACTORY.createGenerator(out);
+    // 최상위 값 사이에 기본 구분자(공백)를 넣지 않고 write 에서 줄바꿈으로 끝맺는다
+    this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+  }
+
+  @Override
+  public void write(Notice notice) throws IOException {
+    generator.writeStartObject();
+    generator.writeNumberField("id", notice.getId());
+    generator.writeStringField("title", notice.getTitle());
+    generator.writeStringField("content", notice.getContent());
+    generator.writeStringField("author", notice.getAuthor());
+    writeDateTime("startDate", notice.getStartDate());
+    writeDateTime("endDate", notice.getEndDate());
+    writeDateTime("createdAt", notice.getCreatedAt());
+    writeDateTime("updatedAt", notice.getUpdatedAt());
+    generator.writeNumberField("viewCount", notice.getViewCount());
+    generator.writeNumberField("version", notice.getVersion());
+    generator.writeEndObject();
+    generator.writeRaw('\n');
+  }
+
+  private void writeDateTime(String field, LocalDateTime value) throws IOException {
+    if (value == null) {
+      generator.writeNullField(field);
+    } else {
+      generator.writeStringField(field, value.toString());
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    generator.flush();
+  }
+}
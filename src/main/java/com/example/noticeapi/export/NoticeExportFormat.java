@@ -0,0 +1,41 @@
+package com.example.noticeapi.export;
+
+import com.example.noticeapi.exception.InvalidExportFormatException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+public enum NoticeExportFormat {
+
+  NDJSON("application/x-ndjson", "ndjson"),
+  CSV("text/csv;charset=UTF-8", "csv");
+
+  private final String contentType;
+
+  private final String extension;
+
+  NoticeExportFormat(String contentType, String extension) {
+    this.contentType = contentType;
+    this.extension = extension;
+  }
+
+  public String getContentType() {
+    return contentType;
+  }
+
+  public String getExtension() {
+    return extension;
+  }
+
+  public NoticeExportWriter open(OutputStream out) throws IOException {
+    return this == NDJSON ? new NdjsonNoticeExportWriter(out) : new CsvNoticeExportWriter(out);
+  }
+
+  public static NoticeExportFormat from(String value) {
+    try {
+      return valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException ex) {
+      throw new InvalidExportFormatException("Unsupported export format: " + value);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.noticeapi.export;
+
+import com.example.noticeapi.entity.Notice;
+import java.io.IOException;
+
+/**
+ * 공지를 한 건씩 응답 스트림에 쓴다. 대상 스트림은 닫지 않는다.
+ */
+public interface NoticeExportWriter {
+
+  void write(Notice notice) throws IOException;
+
+  // 버퍼에 남은 내용을 내보낸다. 중간 flush 에도 사용한다
+  void flush() throws IOException;
+}
@@ -0,0 +1,244 @@
+package com.example.noticeapi.feed;
+
+import com.example.noticeapi.entity.Notice;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시 기간({@code startDate <= now < endDate})에 있는 공지를 최신순으로 메모리에 유지한다.
+ *
+ * <p>끝나지 않은 공지만 보관하고, 앞으로 시작하거나 끝나는 시각은 우선순위 큐에 넣어 둔다.
+ * {@link #advance}가 도래한 경계만 꺼내 반영하므로 전체 목록을 다시 훑지 않는다. 조회는 변경 시마다 새로
+ * 만드는 불변 목록을 읽으므로 잠금 없이 처리된다.
+ *
+ * <p>공지마다 id 와 정렬, 경계 계산에 필요한 시각만 들고 있다. 본문과 조회수는 페이지를 응답할 때 상세 캐시와
+ * 조회수 집계에서 가져오므로, 피드가 오래된 조회수를 내보내거나 먼 미래의 공지 본문까지 힙에 쌓지 않는다.
+ */
+@Component
+public class ActiveNoticeFeed implements MeterBinder {
+
+  private static final Comparator<Entry> NEWEST_FIRST = Comparator
+      .comparing(Entry::createdAt,
+          Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+      .thenComparing(Entry::id, Comparator.<Long>reverseOrder());
+
+  private final ReentrantLock lock = new ReentrantLock();
+
+  // 게시 중이거나 아직 시작하지 않은 공지
+  private final Map<Long, Entry> tracked = new HashMap<>();
+
+  private final NavigableSet<Entry> active = new TreeSet<>(NEWEST_FIRST);
+
+  private final PriorityQueue<Boundary> boundaries = new PriorityQueue<>(
+      Comparator.comparing(Boundary::at).thenComparing(Boundary::kind));
+
+  // 초기 적재 중에 바뀐 공지는 적재기가 읽은 이전 값으로 덮어쓰지 않는다
+  private final Set<Long> changedDuringBuild = new HashSet<>();
+
+  private volatile List<Long> snapshot = List.of();
+
+  private volatile boolean ready;
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    lock.lock();
+    try {
+      changedDuringBuild.clear();
+      ready = true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void put(Entry notice, LocalDateTime now) {
+    lock.lock();
+    try {
+      if (!ready) {
+        changedDuringBuild.add(notice.id());
+      }
+      removeEntry(notice.id());
+      addEntry(notice, now);
+      publish();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  void putIfUnchanged(Entry notice, LocalDateTime now) {
+    lock.lock();
+    try {
+      if (changedDuringBuild.contains(notice.id()) || tracked.containsKey(notice.id())) {
+        return;
+      }
+      addEntry(notice, now);
+      publish();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void remove(Long noticeId) {
+    lock.lock();
+    try {
+      if (!ready) {
+        changedDuringBuild.add(noticeId);
+      }
+      if (removeEntry(noticeId)) {
+        publish();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * {@code now} 까지 도래한 경계를 반영한다.
+   *
+   * @return 새로 게시되기 시작한 공지 id
+   */
+  public List<Long> advance(LocalDateTime now) {
+    lock.lock();
+    try {
+      List<Long> started = new ArrayList<>();
+      boolean changed = false;
+      while (!boundaries.isEmpty() && !boundaries.peek().at().isAfter(now)) {
+        Boundary boundary = boundaries.poll();
+        Entry notice = tracked.get(boundary.noticeId());
+        if (notice == null) {
+          continue;
+        }
+        if (boundary.kind() == Kind.START) {
+          if (active.add(notice)) {
+            started.add(notice.id());
+          }
+        } else {
+          active.remove(notice);
+          tracked.remove(notice.id());
+        }
+        changed = true;
+      }
+      if (changed) {
+        // 같은 시각에 시작과 종료가 모두 지난 공지는 제외한다
+        started.removeIf(noticeId -> !tracked.containsKey(noticeId));
+        publish();
+      }
+      return started;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public Optional<LocalDateTime> nextBoundary() {
+    lock.lock();
+    try {
+      Boundary next = boundaries.peek();
+      return next != null ? Optional.of(next.at()) : Optional.empty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * 게시 중인 공지 id 를 최신순으로 {@code size} 개씩 나눈 {@code page} 번째 묶음.
+   */
+  public List<Long> page(int page, int size) {
+    List<Long> current = snapshot;
+    int from = (int) Math.min((long) page * size, current.size());
+    int to = Math.min(from + size, current.size());
+    return new ArrayList<>(current.subList(from, to));
+  }
+
+  public int size() {
+    return snapshot.size();
+  }
+
+  public int pendingBoundaries() {
+    lock.lock();
+    try {
+      return boundaries.size();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("notice.active.feed.size", this, ActiveNoticeFeed::size)
+        .description("Notices currently within their display window")
+        .register(registry);
+    Gauge.builder("notice.active.feed.boundaries", this, ActiveNoticeFeed::pendingBoundaries)
+        .description("Upcoming start/end boundaries waiting to be applied")
+        .register(registry);
+  }
+
+  private void addEntry(Entry notice, LocalDateTime now) {
+    LocalDateTime startDate = notice.startDate();
+    LocalDateTime endDate = notice.endDate();
+    if (endDate != null && !now.isBefore(endDate)) {
+      return;
+    }
+    tracked.put(notice.id(), notice);
+    if (startDate == null || !now.isBefore(startDate)) {
+      active.add(notice);
+    } else {
+      boundaries.add(new Boundary(startDate, notice.id(), Kind.START));
+    }
+    if (endDate != null) {
+      boundaries.add(new Boundary(endDate, notice.id(), Kind.END));
+    }
+  }
+
+  private boolean removeEntry(Long noticeId) {
+    Entry previous = tracked.remove(noticeId);
+    if (previous == null) {
+      return false;
+    }
+    active.remove(previous);
+    // 공지 수정은 드물어서 큐 전체를 훑는 비용보다 지난 경계를 남겨 두지 않는 편이 낫다
+    boundaries.removeIf(boundary -> boundary.noticeId().equals(noticeId));
+    return true;
+  }
+
+  private void publish() {
+    List<Long> ids = new ArrayList<>(active.size());
+    for (Entry entry : active) {
+      ids.add(entry.id());
+    }
+    snapshot = List.copyOf(ids);
+  }
+
+  public record Entry(Long id, LocalDateTime createdAt, LocalDateTime startDate,
+      LocalDateTime endDate) {
+
+    public static Entry of(Notice notice) {
+      return new Entry(notice.getId(), notice.getCreatedAt(), notice.getStartDate(),
+          notice.getEndDate());
+    }
+  }
+
+  private enum Kind {
+    START, END
+  }
+
+  private record Boundary(LocalDateTime at, Long noticeId, Kind kind) {
+
+  }
+}
@@ -0,0 +1,170 @@
+package com.example.noticeapi.feed;
+
+import com.example.noticeapi.cache.CacheInvalidationBus;
+import com.example.noticeapi.cache.CacheInvalidationMessage;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.NoticeChangedEvent;
+import com.example.noticeapi.event.NoticeIds;
+import com.example.noticeapi.event.NoticesImportedEvent;
+import com.example.noticeapi.service.ActiveNoticeFeedService;
+import com.example.noticeapi.service.NoticeService;
+import jakarta.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * {@link ActiveNoticeFeed}를 채우고, 다음 시작/종료 경계 시각에 정확히 한 번 깨어나 반영한다.
+ *
+ * <p>주기적으로 폴링하지 않고 큐의 가장 이른 경계에 맞춰 작업을 예약하며, 더 이른 경계가 생기면 예약을
+ * 바꾼다. 게시가 시작된 공지는 상세 캐시를 미리 채워 첫 조회가 DB 로 내려가지 않게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveNoticeFeedUpdater {
+
+  private static final Logger logger = LoggerFactory.getLogger(ActiveNoticeFeedUpdater.class);
+
+  static final String FEED_CHANNEL_NAME = "activeNoticeFeed";
+
+  private static final int LOAD_BATCH_SIZE = 1_000;
+
+  private final ActiveNoticeFeed activeNoticeFeed;
+
+  private final ActiveNoticeFeedService activeNoticeFeedService;
+
+  private final NoticeService noticeService;
+
+  private final CacheInvalidationBus cacheInvalidationBus;
+
+  private final TaskScheduler taskScheduler;
+
+  private final Object scheduleLock = new Object();
+
+  private ScheduledFuture<?> nextRun;
+
+  private LocalDateTime nextRunAt;
+
+  @PostConstruct
+  public void subscribe() {
+    cacheInvalidationBus.subscribe(this::onRemoteChange);
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildFeed() {
+    long startedAt = System.currentTimeMillis();
+    Long lastId = 0L;
+    List<ActiveNoticeFeed.Entry> batch;
+    do {
+      LocalDateTime now = LocalDateTime.now();
+      batch = activeNoticeFeedService.loadBatch(now, lastId, LOAD_BATCH_SIZE);
+      for (ActiveNoticeFeed.Entry notice : batch) {
+        activeNoticeFeed.putIfUnchanged(notice, now);
+        lastId = notice.id();
+      }
+    } while (batch.size() == LOAD_BATCH_SIZE);
+    activeNoticeFeed.markReady();
+    logger.info("Active notice feed built with {} notices in {} ms", activeNoticeFeed.size(),
+        System.currentTimeMillis() - startedAt);
+    // 적재하는 동안 지나간 경계를 반영하고 다음 경계를 예약한다
+    onBoundary();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNoticeChanged(NoticeChangedEvent event) {
+    Notice notice = event.getNotice();
+    if (notice.isDeleted()) {
+      activeNoticeFeed.remove(notice.getId());
+    } else {
+      activeNoticeFeed.put(ActiveNoticeFeed.Entry.of(notice), LocalDateTime.now());
+    }
+    cacheInvalidationBus.publish(FEED_CHANNEL_NAME, String.valueOf(notice.getId()));
+    reschedule();
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNoticesImported(NoticesImportedEvent event) {
+    LocalDateTime now = LocalDateTime.now();
+    List<Long> noticeIds = new ArrayList<>(event.getNotices().size());
+    for (Notice notice : event.getNotices()) {
+      activeNoticeFeed.put(ActiveNoticeFeed.Entry.of(notice), now);
+      noticeIds.add(notice.getId());
+    }
+    // 일괄 등록은 묶음마다 한 번만 알리고 한 번만 다시 예약한다
+    cacheInvalidationBus.publish(FEED_CHANNEL_NAME, NoticeIds.join(noticeIds));
+    reschedule();
+  }
+
+  private void onRemoteChange(CacheInvalidationMessage message) {
+    if (!FEED_CHANNEL_NAME.equals(message.getCacheName()) || message.getKey() == null) {
+      return;
+    }
+    try {
+      List<Long> noticeIds = NoticeIds.parse(message.getKey());
+      Set<Long> removed = new HashSet<>(noticeIds);
+      LocalDateTime now = LocalDateTime.now();
+      for (ActiveNoticeFeed.Entry notice : activeNoticeFeedService.reload(noticeIds)) {
+        activeNoticeFeed.put(notice, now);
+        removed.remove(notice.id());
+      }
+      removed.forEach(activeNoticeFeed::remove);
+      reschedule();
+    } catch (RuntimeException ex) {
+      logger.warn("Could not refresh active notices {}", message.getKey(), ex);
+    }
+  }
+
+  void onBoundary() {
+    synchronized (scheduleLock) {
+      // 타이머가 경계보다 조금 일찍 깨어나도 같은 시각으로 다시 예약되도록 현재 예약을 비운다
+      nextRun = null;
+      nextRunAt = null;
+    }
+    List<Long> started = activeNoticeFeed.advance(LocalDateTime.now());
+    started.forEach(this::prewarm);
+    reschedule();
+  }
+
+  private void prewarm(Long noticeId) {
+    try {
+      noticeService.getNoticeDetailById(noticeId);
+    } catch (RuntimeException ex) {
+      logger.debug("Could not prewarm notice {}", noticeId, ex);
+    }
+  }
+
+  private void reschedule() {
+    Optional<LocalDateTime> next = activeNoticeFeed.nextBoundary();
+    synchronized (scheduleLock) {
+      if (next.isPresent() && next.get().equals(nextRunAt)) {
+        return;
+      }
+      if (nextRun != null) {
+        nextRun.cancel(false);
+      }
+      nextRun = null;
+      nextRunAt = null;
+      if (next.isEmpty()) {
+        return;
+      }
+      nextRunAt = next.get();
+      nextRun = taskScheduler.schedule(this::onBoundary,
+          nextRunAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.example.noticeapi.importer;
+
+import com.example.noticeapi.cache.NoticeListGeneration;
+import com.example.noticeapi.config.NoticeImportProperties;
+import com.example.noticeapi.dto.NoticeCreateDto;
+import com.example.noticeapi.dto.NoticeImportFailureDto;
+import com.example.noticeapi.dto.NoticeImportResultDto;
+import com.example.noticeapi.service.NoticeImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Component;
+
+/**
+ * NDJSON 으로 들어온 공지를 읽으면서 검증하고, 묶음 단위 트랜잭션으로 저장한다.
+ *
+ * <p>요청 본문은 한 줄씩 읽으므로 메모리에는 현재 묶음만 올라간다. 묶음 저장이 실패하면 해당 묶음을 한 건씩
+ * 다시 저장해 실패한 줄만 보고한다. 목록 캐시는 건마다가 아니라 적재가 끝난 뒤 한 번만 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeImporter implements MeterBinder {
+
+  private static final Logger logger = LoggerFactory.getLogger(NoticeImporter.class);
+
+  private final NoticeImportService noticeImportService;
+
+  private final NoticeListGeneration noticeListGeneration;
+
+  private final ObjectMapper objectMapper;
+
+  private final Validator validator;
+
+  private final NoticeImportProperties properties;
+
+  private final LongAdder importedNotices = new LongAdder();
+
+  private final LongAdder failedNotices = new LongAdder();
+
+  public NoticeImportResultDto importNotices(InputStream body) throws IOException {
+    Result result = new Result(properties.getMaxReportedFailures());
+    List<NoticeCreateDto> chunk = new ArrayList<>(properties.getChunkSize());
+    List<Long> chunkLines = new ArrayList<>(properties.getChunkSize());
+    try {
+      BufferedReader reader = new BufferedReader(
+          new InputStreamReader(body, StandardCharsets.UTF_8));
+      long lineNumber = 0;
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        if (line.isBlank()) {
+          continue;
+        }
+        NoticeCreateDto noticeCreateDto = parse(line, lineNumber, result);
+        if (noticeCreateDto == null) {
+          continue;
+        }
+        chunk.add(noticeCreateDto);
+        chunkLines.add(lineNumber);
+        if (chunk.size() == properties.getChunkSize()) {
+          save(chunk, chunkLines, result);
+        }
+      }
+      save(chunk, chunkLines, result);
+    } finally {
+      // 중간에 연결이 끊겨도 이미 커밋된 묶음은 목록에 보여야 한다
+      if (result.imported > 0) {
+        noticeListGeneration.advance();
+      }
+      importedNotices.add(result.imported);
+      failedNotices.add(result.failed);
+    }
+    return NoticeImportResultDto.builder()
+        .imported(result.imported)
+        .failed(result.failed)
+        .failures(result.failures)
+        .build();
+  }
+
+  private NoticeCreateDto parse(String line, long lineNumber, Result result) {
+    NoticeCreateDto noticeCreateDto;
+    try {
+      noticeCreateDto = objectMapper.readValue(line, NoticeCreateDto.class);
+    } catch (JsonProcessingException ex) {
+      result.fail(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+      return null;
+    }
+    Set<ConstraintViolation<NoticeCreateDto>> violations = validator.validate(noticeCreateDto);
+    if (!violations.isEmpty()) {
+      result.fail(lineNumber, violations.stream()
+          .map(ConstraintViolation::getMessage)
+          .sorted()
+          .collect(Collectors.joining(", ")));
+      return null;
+    }
+    return noticeCreateDto;
+  }
+
+  private void save(List<NoticeCreateDto> chunk, List<Long> chunkLines, Result result) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+    try {
+      result.imported += noticeImportService.importChunk(chunk, properties.getJdbcBatchSize());
+    } catch (RuntimeException ex) {
+      logger.warn("Could not import a chunk of {} notices, retrying one by one", chunk.size(), ex);
+      for (int i = 0; i < chunk.size(); i++) {
+        try {
+          result.imported += noticeImportService.importChunk(List.of(chunk.get(i)), 1);
+        } catch (RuntimeException recordEx) {
+          result.fail(chunkLines.get(i), "Could not save notice: " + describe(recordEx));
+        }
+      }
+    }
+    chunk.clear();
+    chunkLines.clear();
+  }
+
+  // 드라이버가 알려 준 원인(예: 컬럼 길이 초과)을 보고한다. 메시지 뒤에 붙는 SQL 문은 잘라낸다
+  private static String describe(RuntimeException ex) {
+    Throwable cause = NestedExceptionUtils.getMostSpecificCause(ex);
+    String message = cause.getMessage();
+    if (message == null || message.isBlank()) {
+      return cause.getClass().getSimpleName();
+    }
+    int lineEnd = message.indexOf('\n');
+    return lineEnd < 0 ? message : message.substring(0, lineEnd).trim();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("notice.import.records", importedNotices, LongAdder::sum)
+        .tag("result", "imported")
+        .register(registry);
+    FunctionCounter.builder("notice.import.records", failedNotices, LongAdder::sum)
+        .tag("result", "failed")
+        .register(registry);
+  }
+
+  private static final class Result {
+
+    private final int maxReportedFailures;
+
+    private final List<NoticeImportFailureDto> failures = new ArrayList<>();
+
+    private long imported;
+
+    private long failed;
+
+    Result(int maxReportedFailures) {
+      this.maxReportedFailures = maxReportedFailures;
+    }
+
+    void fail(long lineNumber, String message) {
+      failed++;
+      if (failures.size() < maxReportedFailures) {
+        failures.add(new NoticeImportFailureDto(lineNumber, message));
+      }
+    }
+  }
+}
@@ -5,20 +5,24 @@ import com.example.noticeapi.dto.NoticeCreateDto;
 import com.example.noticeapi.dto.NoticeDetailResponseDto;
 import com.example.noticeapi.dto.NoticeResponseDto;
 import com.example.noticeapi.dto.NoticeUpdateDto;
+import com.example.noticeapi.entity.File;
 import com.example.noticeapi.entity.Notice;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Collectors;
 
 public class NoticeMapper {
 
   public static Notice toEntity(NoticeCreateDto dto) {
+    LocalDateTime now = LocalDateTime.now();
     return Notice.builder()
         .title(dto.getTitle())
         .content(dto.getContent())
         .startDate(dto.getStartDate())
         .endDate(dto.getEndDate())
-        .createdAt(LocalDateTime.now())
+        .createdAt(now)
+        .updatedAt(now)
         .viewCount(0)
         .author(dto.getAuthor())
         .isDeleted(false)
@@ -26,9 +30,9 @@ public class NoticeMapper {
         .build();
   }
 
-  public static void updateEntity(NoticeUpdateDto dto, Notice notice) {
+  public static void updateEntity(NoticeUpdateDto dto, Notice notice, List<File> attachments) {
     notice.update(dto.getTitle(), dto.getContent(), dto.getStartDate(), dto.getEndDate(),
-        notice.getAttachments());
+        attachments);
   }
 
   public static NoticeResponseDto toDto(Notice notice) {
@@ -49,6 +53,8 @@ public class NoticeMapper {
                 .filePath(file.getFilePath())
                 .build())
             .collect(Collectors.toList()))
+        .version(notice.getVersion())
+        .updatedAt(notice.getUpdatedAt())
         .build();
   }
 
@@ -60,6 +66,7 @@ public class NoticeMapper {
         .startDate(notice.getStartDate())
         .endDate(notice.getEndDate())
         .createdAt(notice.getCreatedAt())
+        .viewCount(notice.getViewCount())
         .author(notice.getAuthor())
         .attachments(notice.getAttachments().stream()
             .map(file -> FileDto.builder()
@@ -69,6 +76,43 @@ public class NoticeMapper {
                 .filePath(file.getFilePath())
                 .build())
             .collect(Collectors.toList()))
+        .version(notice.getVersion())
+        .updatedAt(notice.getUpdatedAt())
+        .build();
+  }
+
+  public static NoticeResponseDto toDto(NoticeDetailResponseDto detail) {
+    return NoticeResponseDto.builder()
+        .id(detail.getId())
+        .title(detail.getTitle())
+        .content(detail.getContent())
+        .startDate(detail.getStartDate())
+        .endDate(detail.getEndDate())
+        .createdAt(detail.getCreatedAt())
+        .viewCount(detail.getViewCount())
+        .author(detail.getAuthor())
+        .attachments(detail.getAttachments())
+        .version(detail.getVersion())
+        .updatedAt(detail.getUpdatedAt())
+        .build();
+  }
+
+  public static NoticeResponseDto withPendingViews(NoticeResponseDto dto, long pendingViews) {
+    if (pendingViews == 0) {
+      return dto;
+    }
+    return dto.toBuilder()
+        .viewCount(Math.toIntExact(dto.getViewCount() + pendingViews))
+        .build();
+  }
+
+  public static NoticeDetailResponseDto withPendingViews(NoticeDetailResponseDto dto,
+      long pendingViews) {
+    if (pendingViews == 0) {
+      return dto;
+    }
+    return dto.toBuilder()
+        .viewCount(Math.toIntExact(dto.getViewCount() + pendingViews))
         .build();
   }
 }
@@ -0,0 +1,148 @@
+package com.example.noticeapi.reclaim;
+
+import com.example.noticeapi.config.FileReclaimProperties;
+import com.example.noticeapi.entity.FileReclaim;
+import com.example.noticeapi.event.FilesReleasedEvent;
+import com.example.noticeapi.service.FileReclaimService;
+import com.example.noticeapi.service.FileStorageService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * {@link FileReclaim}에 쌓인 첨부파일을 전용 I/O 스레드에서 배치로 지운다.
+ *
+ * <p>삭제가 커밋되면 바로 깨어나고, 그 밖에는 주기적으로 남은 행을 확인한다. 다른 노드가 가져간 행이나 이전
+ * 실행에서 실패한 행도 이 주기에서 처리되며, 실패한 행은 지수 백오프로 다시 시도한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileReclaimer implements MeterBinder, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(FileReclaimer.class);
+
+  private final FileReclaimService fileReclaimService;
+
+  private final FileStorageService fileStorageService;
+
+  private final FileReclaimProperties properties;
+
+  private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "file-reclaim");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final AtomicBoolean drainQueued = new AtomicBoolean();
+
+  private final LongAdder reclaimedFiles = new LongAdder();
+
+  private final LongAdder failedAttempts = new LongAdder();
+
+  // 마지막 주기에 확인한 남은 행 수
+  private final AtomicLong pendingFiles = new AtomicLong();
+
+  @TransactionalEventListener
+  public void onFilesReleased(FilesReleasedEvent event) {
+    wake();
+  }
+
+  @Scheduled(fixedDelayString = "${file.reclaim.poll-interval-ms:30000}")
+  public void poll() {
+    try {
+      pendingFiles.set(fileReclaimService.countPending());
+    } catch (RuntimeException ex) {
+      logger.debug("Could not count pending file reclaims", ex);
+    }
+    wake();
+  }
+
+  // 이미 실행이 예약돼 있으면 그 실행이 새 행까지 가져가므로 다시 넣지 않는다
+  void wake() {
+    if (!drainQueued.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      worker.execute(this::drainQuietly);
+    } catch (RejectedExecutionException ex) {
+      drainQueued.set(false);
+    }
+  }
+
+  private void drainQuietly() {
+    drainQueued.set(false);
+    try {
+      drain();
+    } catch (RuntimeException ex) {
+      logger.warn("Could not reclaim deleted files", ex);
+    }
+  }
+
+  int drain() {
+    int reclaimed = 0;
+    List<FileReclaim> batch;
+    do {
+      LocalDateTime now = LocalDateTime.now();
+      batch = fileReclaimService.claim(now, properties.getLease(), properties.getBatchSize());
+      List<Long> completed = new ArrayList<>(batch.size());
+      int processed = 0;
+      for (FileReclaim task : batch) {
+        try {
+          fileStorageService.reclaim(task);
+          processed++;
+          // 내용 주소 저장 파일의 행은 참조 해제와 같은 트랜잭션에서 이미 지워졌다
+          if (task.getContentHash() == null) {
+            completed.add(task.getId());
+          }
+        } catch (IOException | RuntimeException ex) {
+          failedAttempts.increment();
+          logger.warn("Could not delete file {} (attempt {})", task.getStoredFileName(),
+              task.getAttempts() + 1, ex);
+          fileReclaimService.retryLater(task.getId(), now.plus(backoff(task.getAttempts())));
+        }
+      }
+      fileReclaimService.complete(completed);
+      reclaimed += processed;
+      reclaimedFiles.add(processed);
+    } while (batch.size() == properties.getBatchSize());
+    return reclaimed;
+  }
+
+  Duration backoff(int attempts) {
+    Duration delay = properties.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 20));
+    return delay.compareTo(properties.getMaxBackoff()) > 0 ? properties.getMaxBackoff() : delay;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder("file.reclaim.deleted", reclaimedFiles, LongAdder::sum)
+        .register(registry);
+    FunctionCounter.builder("file.reclaim.failures", failedAttempts, LongAdder::sum)
+        .register(registry);
+    Gauge.builder("file.reclaim.pending", pendingFiles, AtomicLong::get)
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    worker.shutdown();
+  }
+}
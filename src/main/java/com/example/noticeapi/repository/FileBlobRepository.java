@@ -0,0 +1,19 @@
+package com.example.noticeapi.repository;
+
+import com.example.noticeapi.entity.FileBlob;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, String> {
+
+  // 업로드와 회수가 노드에 관계없이 같은 해시를 번갈아 처리하도록 행을 잠근다
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT b FROM FileBlob b WHERE b.contentHash = :contentHash")
+  Optional<FileBlob> findForUpdate(@Param("contentHash") String contentHash);
+}
@@ -0,0 +1,38 @@
+package com.example.noticeapi.repository;
+
+import com.example.noticeapi.entity.FileReclaim;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FileReclaimRepository extends JpaRepository<FileReclaim, Long> {
+
+  @Query("SELECT r.id FROM FileReclaim r WHERE r.nextAttemptAt <= :now "
+      + "ORDER BY r.nextAttemptAt, r.id")
+  List<Long> findDueIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+  // 다른 노드가 먼저 가져간 행은 nextAttemptAt 이 미래로 밀려 있으므로 갱신되지 않는다
+  @Modifying
+  @Query("UPDATE FileReclaim r SET r.claimToken = :token, r.nextAttemptAt = :leaseUntil "
+      + "WHERE r.id IN :ids AND r.nextAttemptAt <= :now")
+  int claim(@Param("ids") List<Long> ids, @Param("token") String token,
+      @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+  List<FileReclaim> findByClaimTokenOrderById(String claimToken);
+
+  // 임대가 끝나 다른 노드가 다시 가져간 행은 지워지지 않으므로 한 노드만 참조 수를 줄인다
+  @Modifying
+  @Query("DELETE FROM FileReclaim r WHERE r.id = :id AND r.claimToken = :token")
+  int deleteClaimed(@Param("id") Long id, @Param("token") String token);
+
+  @Modifying
+  @Query("UPDATE FileReclaim r SET r.attempts = r.attempts + 1, "
+      + "r.nextAttemptAt = :nextAttemptAt, r.claimToken = null WHERE r.id = :id")
+  int retryLater(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
@@ -3,10 +3,20 @@ package com.example.noticeapi.repository;
 import com.example.noticeapi.entity.File;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface FileRepository extends JpaRepository<File, Long> {
 
   List<File> findByNoticeId(Long noticeId);
+
+  List<File> findByNoticeIdAndIsDeletedFalse(Long noticeId);
+
+  @Modifying
+  @Query("UPDATE File f SET f.isDeleted = true "
+      + "WHERE f.notice.id = :noticeId AND f.isDeleted = false")
+  int markDeletedByNoticeId(@Param("noticeId") Long noticeId);
 }
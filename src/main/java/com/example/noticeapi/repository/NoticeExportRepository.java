@@ -0,0 +1,13 @@
+package com.example.noticeapi.repository;
+
+import com.example.noticeapi.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+public interface NoticeExportRepository {
+
+  /**
+   * 삭제되지 않은 공지를 id 순으로 한 방향 스크롤한다. 트랜잭션 안에서 사용하고 반드시 닫아야 한다.
+   */
+  Stream<Notice> streamForExport(LocalDateTime from, LocalDateTime to, int fetchSize);
+}
@@ -0,0 +1,55 @@
+package com.example.noticeapi.repository;
+
+import com.example.noticeapi.entity.Notice;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+
+@RequiredArgsConstructor
+public class NoticeExportRepositoryImpl implements NoticeExportRepository {
+
+  // MySQL Connector/J 는 이 값을 받으면 결과를 한 행씩 흘려 보낸다 (서버 커서 없이, 이 문장에만 적용)
+  private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+  private final EntityManager entityManager;
+
+  @Override
+  public Stream<Notice> streamForExport(LocalDateTime from, LocalDateTime to, int fetchSize) {
+    StringBuilder jpql = new StringBuilder("SELECT n FROM Notice n WHERE n.isDeleted = false");
+    if (from != null) {
+      jpql.append(" AND n.createdAt >= :from");
+    }
+    if (to != null) {
+      jpql.append(" AND n.createdAt <= :to");
+    }
+    jpql.append(" ORDER BY n.id");
+
+    TypedQuery<Notice> query = entityManager.createQuery(jpql.toString(), Notice.class)
+        .setHint(HibernateHints.HINT_FETCH_SIZE, jdbcFetchSize(fetchSize))
+        // 변경 감지용 스냅샷을 만들지 않는다
+        .setHint(HibernateHints.HINT_READ_ONLY, true);
+    if (from != null) {
+      query.setParameter("from", from);
+    }
+    if (to != null) {
+      query.setParameter("to", to);
+    }
+    // Hibernate 는 결과 스트림을 FORWARD_ONLY ScrollableResults 로 읽는다
+    return query.getResultStream();
+  }
+
+  // MySQL 은 기본적으로 결과 전체를 클라이언트 메모리에 올리므로 스트리밍 모드로 읽는다.
+  // 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 보낼 수 없으므로 내보내기는 연관 엔티티를 읽지 않는다
+  private int jdbcFetchSize(int fetchSize) {
+    boolean mysql = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactoryImplementor.class)
+        .getJdbcServices()
+        .getDialect() instanceof MySQLDialect;
+    return mysql ? MYSQL_STREAMING_FETCH_SIZE : fetchSize;
+  }
+}
@@ -2,16 +2,49 @@ package com.example.noticeapi.repository;
 
 import com.example.noticeapi.entity.Notice;
 import java.time.LocalDateTime;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface NoticeRepository extends JpaRepository<Notice, Long> {
+public interface NoticeRepository extends JpaRepository<Notice, Long>,
+    NoticeViewCountRepository, NoticeExportRepository {
 
   Page<Notice> findByIsDeletedFalse(Pageable pageable);
 
+  Slice<Notice> findByIsDeletedFalseOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+  List<Notice> findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+  @Query("SELECT n FROM Notice n WHERE n.isDeleted = false "
+      + "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) "
+      + "ORDER BY n.createdAt DESC, n.id DESC")
+  Slice<Notice> findNextSlice(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+      Pageable pageable);
+
+  @Query("SELECT n FROM Notice n WHERE n.isDeleted = false "
+      + "AND (:startDate IS NULL OR n.createdAt >= :startDate) "
+      + "AND (:endDate IS NULL OR n.createdAt <= :endDate) "
+      + "ORDER BY n.createdAt DESC, n.id DESC")
+  Slice<Notice> findCreatedBetween(@Param("startDate") LocalDateTime startDate,
+      @Param("endDate") LocalDateTime endDate, Pageable pageable);
+
+  @Query("SELECT n FROM Notice n WHERE n.isDeleted = false AND n.id > :id "
+      + "AND (n.endDate IS NULL OR n.endDate > :now) ORDER BY n.id ASC")
+  List<Notice> findUnfinishedAfter(@Param("now") LocalDateTime now, @Param("id") Long id,
+      Pageable pageable);
+
+  @Query("SELECT n FROM Notice n WHERE n.isDeleted = false "
+      + "AND (n.startDate IS NULL OR n.startDate <= :now) "
+      + "AND (n.endDate IS NULL OR n.endDate > :now) "
+      + "ORDER BY n.createdAt DESC, n.id DESC")
+  Slice<Notice> findActiveAt(@Param("now") LocalDateTime now, Pageable pageable);
+
   Page<Notice> findByTitleContainingAndContentContainingAndAuthorContainingAndCreatedAtBetween(
       String title, String content, String author, LocalDateTime startDate, LocalDateTime endDate,
       Pageable pageable);
@@ -0,0 +1,8 @@
+package com.example.noticeapi.repository;
+
+import java.util.Map;
+
+public interface NoticeViewCountRepository {
+
+  void addViewCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,26 @@
+package com.example.noticeapi.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class NoticeViewCountRepositoryImpl implements NoticeViewCountRepository {
+
+  private static final String ADD_VIEW_COUNT_SQL =
+      "UPDATE notice SET view_count = view_count + ? WHERE id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void addViewCounts(Map<Long, Long> deltas) {
+    if (deltas.isEmpty()) {
+      return;
+    }
+    List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+    deltas.forEach((noticeId, delta) -> batchArgs.add(new Object[]{delta, noticeId}));
+    jdbcTemplate.batchUpdate(ADD_VIEW_COUNT_SQL, batchArgs);
+  }
+}
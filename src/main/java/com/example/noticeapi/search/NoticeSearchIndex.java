@@ -0,0 +1,279 @@
+package com.example.noticeapi.search;
+
+import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NoticeSearchIndex {
+
+  private static final Comparator<IndexedNotice> NEWEST_FIRST = Comparator
+      .comparing(IndexedNotice::createdAt,
+          Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+      .thenComparing(IndexedNotice::id, Comparator.<Long>reverseOrder());
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private final Map<Long, IndexedNotice> documents = new HashMap<>();
+
+  private final NavigableSet<IndexedNotice> newestFirst = new TreeSet<>(NEWEST_FIRST);
+
+  // posting 도 최신순으로 정렬해 두어 검색이 페이지가 찰 때까지만 걷게 한다
+  private final Map<SearchField, Map<String, NavigableSet<IndexedNotice>>> postings =
+      new EnumMap<>(SearchField.class);
+
+  // 초기 적재 중에 삭제되거나 갱신된 공지는 적재기가 읽은 이전 값으로 덮어쓰지 않는다
+  private final Set<Long> changedDuringBuild = new HashSet<>();
+
+  private volatile boolean ready;
+
+  public NoticeSearchIndex() {
+    for (SearchField field : SearchField.values()) {
+      postings.put(field, new HashMap<>());
+    }
+  }
+
+  public boolean isReady() {
+    return ready;
+  }
+
+  public void markReady() {
+    lock.writeLock().lock();
+    try {
+      changedDuringBuild.clear();
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public int size() {
+    lock.readLock().lock();
+    try {
+      return documents.size();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  public void index(Notice notice) {
+    if (notice.isDeleted()) {
+      remove(notice.getId());
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (!ready) {
+        changedDuringBuild.add(notice.getId());
+      }
+      removeDocument(notice.getId());
+      addDocument(notice);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  void indexIfUnchanged(Notice notice) {
+    if (notice.isDeleted()) {
+      return;
+    }
+    lock.writeLock().lock();
+    try {
+      if (changedDuringBuild.contains(notice.getId()) || documents.containsKey(notice.getId())) {
+        return;
+      }
+      addDocument(notice);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  public void remove(Long noticeId) {
+    lock.writeLock().lock();
+    try {
+      if (!ready) {
+        changedDuringBuild.add(noticeId);
+      }
+      removeDocument(noticeId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 조건에 맞는 공지 중 {@code page} 번째 페이지의 id 를 최신순으로 돌려준다. 가장 짧은 posting 을 최신순으로
+   * 걸으며 나머지 posting 포함 여부와 색인에 보관한 정규화 원문의 부분 일치를 확인하고, 페이지가 차거나 작성일
+   * 범위를 벗어나면 멈춘다. 결과는 DB 확인 없이 확정된다.
+   */
+  public List<Long> search(NoticeSearchDto criteria, int page, int size) {
+    Map<SearchField, String> queries = new EnumMap<>(SearchField.class);
+    putIfPresent(queries, SearchField.TITLE, criteria.getTitle());
+    putIfPresent(queries, SearchField.CONTENT, criteria.getContent());
+    putIfPresent(queries, SearchField.AUTHOR, criteria.getAuthor());
+    LocalDateTime startDate = criteria.getStartDate();
+    LocalDateTime endDate = criteria.getEndDate();
+    long offset = (long) page * size;
+
+    lock.readLock().lock();
+    try {
+      List<NavigableSet<IndexedNotice>> postingLists = postingLists(queries);
+      if (postingLists == null) {
+        return new ArrayList<>();
+      }
+      // 구분자만으로 이루어진 질의처럼 색인으로 좁힐 수 없으면 전체를 최신순으로 걷는다
+      NavigableSet<IndexedNotice> driver = newestFirst;
+      for (NavigableSet<IndexedNotice> postingList : postingLists) {
+        if (postingList.size() < driver.size()) {
+          driver = postingList;
+        }
+      }
+
+      List<Long> noticeIds = new ArrayList<>(size);
+      for (IndexedNotice document : newestNotAfter(driver, endDate)) {
+        if (noticeIds.size() == size) {
+          break;
+        }
+        if (!isWithin(document, startDate, endDate)) {
+          // 최신순이므로 시작일보다 앞선 공지가 나오면 뒤는 모두 범위 밖이다
+          break;
+        }
+        if (!containsAll(postingLists, driver, document) || !document.matches(queries)) {
+          continue;
+        }
+        if (offset > 0) {
+          offset--;
+          continue;
+        }
+        noticeIds.add(document.id());
+      }
+      return noticeIds;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // 질의 gram 마다 posting 을 모은다. 색인에 없는 gram 이 있으면 결과가 없으므로 null 을 돌려준다
+  private List<NavigableSet<IndexedNotice>> postingLists(Map<SearchField, String> queries) {
+    List<NavigableSet<IndexedNotice>> postingLists = new ArrayList<>();
+    for (Map.Entry<SearchField, String> query : queries.entrySet()) {
+      Map<String, NavigableSet<IndexedNotice>> fieldPostings = postings.get(query.getKey());
+      for (String gram : NoticeTokenizer.normalizedQueryGrams(query.getValue())) {
+        NavigableSet<IndexedNotice> postingList = fieldPostings.get(gram);
+        if (postingList == null) {
+          return null;
+        }
+        postingLists.add(postingList);
+      }
+    }
+    return postingLists;
+  }
+
+  private static boolean containsAll(List<NavigableSet<IndexedNotice>> postingLists,
+      NavigableSet<IndexedNotice> driver, IndexedNotice document) {
+    for (NavigableSet<IndexedNotice> postingList : postingLists) {
+      if (postingList != driver && !postingList.contains(document)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // 종료일이 있으면 그 시각 이하인 첫 공지부터 걷는다
+  private static NavigableSet<IndexedNotice> newestNotAfter(NavigableSet<IndexedNotice> notices,
+      LocalDateTime endDate) {
+    if (endDate == null) {
+      return notices;
+    }
+    return notices.tailSet(new IndexedNotice(Long.MAX_VALUE, endDate, "", "", ""), true);
+  }
+
+  private void addDocument(Notice notice) {
+    IndexedNotice document = new IndexedNotice(notice.getId(), notice.getCreatedAt(),
+        NoticeTokenizer.normalize(notice.getTitle()),
+        NoticeTokenizer.normalize(notice.getContent()),
+        NoticeTokenizer.normalize(notice.getAuthor()));
+    documents.put(document.id(), document);
+    newestFirst.add(document);
+    for (SearchField field : SearchField.values()) {
+      Map<String, NavigableSet<IndexedNotice>> fieldPostings = postings.get(field);
+      for (String gram : NoticeTokenizer.normalizedIndexGrams(document.text(field))) {
+        fieldPostings.computeIfAbsent(gram, g -> new TreeSet<>(NEWEST_FIRST)).add(document);
+      }
+    }
+  }
+
+  private void removeDocument(Long noticeId) {
+    IndexedNotice document = documents.remove(noticeId);
+    if (document == null) {
+      return;
+    }
+    newestFirst.remove(document);
+    for (SearchField field : SearchField.values()) {
+      Map<String, NavigableSet<IndexedNotice>> fieldPostings = postings.get(field);
+      for (String gram : NoticeTokenizer.normalizedIndexGrams(document.text(field))) {
+        NavigableSet<IndexedNotice> postingList = fieldPostings.get(gram);
+        if (postingList != null) {
+          postingList.remove(document);
+          if (postingList.isEmpty()) {
+            fieldPostings.remove(gram);
+          }
+        }
+      }
+    }
+  }
+
+  private static void putIfPresent(Map<SearchField, String> queries, SearchField field,
+      String query) {
+    if (query != null && !query.isEmpty()) {
+      queries.put(field, NoticeTokenizer.normalize(query));
+    }
+  }
+
+  private static boolean isWithin(IndexedNotice document, LocalDateTime startDate,
+      LocalDateTime endDate) {
+    LocalDateTime createdAt = document.createdAt();
+    if (startDate == null && endDate == null) {
+      return true;
+    }
+    if (createdAt == null) {
+      return false;
+    }
+    return (startDate == null || !createdAt.isBefore(startDate))
+        && (endDate == null || !createdAt.isAfter(endDate));
+  }
+
+  // 부분 일치 확인과 gram 재계산에 쓰도록 정규화한 원문을 보관한다
+  private record IndexedNotice(Long id, LocalDateTime createdAt, String title, String content,
+                               String author) {
+
+    String text(SearchField field) {
+      return switch (field) {
+        case TITLE -> title;
+        case CONTENT -> content;
+        case AUTHOR -> author;
+      };
+    }
+
+    boolean matches(Map<SearchField, String> queries) {
+      for (Map.Entry<SearchField, String> query : queries.entrySet()) {
+        if (!text(query.getKey()).contains(query.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
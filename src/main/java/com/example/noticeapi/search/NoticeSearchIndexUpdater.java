@@ -0,0 +1,89 @@
+package com.example.noticeapi.search;
+
+import com.example.noticeapi.cache.CacheInvalidationBus;
+import com.example.noticeapi.cache.CacheInvalidationMessage;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.NoticeChangedEvent;
+import com.example.noticeapi.event.NoticeIds;
+import com.example.noticeapi.event.NoticesImportedEvent;
+import com.example.noticeapi.service.NoticeSearchIndexService;
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class NoticeSearchIndexUpdater {
+
+  private static final Logger logger = LoggerFactory.getLogger(NoticeSearchIndexUpdater.class);
+
+  static final String INDEX_CHANNEL_NAME = "noticeSearchIndex";
+
+  private static final int LOAD_BATCH_SIZE = 1_000;
+
+  private final NoticeSearchIndex noticeSearchIndex;
+
+  private final NoticeSearchIndexService noticeSearchIndexService;
+
+  private final CacheInvalidationBus cacheInvalidationBus;
+
+  @PostConstruct
+  public void subscribe() {
+    cacheInvalidationBus.subscribe(this::onRemoteChange);
+  }
+
+  @Async
+  @EventListener(ApplicationReadyEvent.class)
+  public void buildIndex() {
+    long startedAt = System.currentTimeMillis();
+    Long lastId = 0L;
+    List<Notice> batch;
+    do {
+      batch = noticeSearchIndexService.loadBatch(lastId, LOAD_BATCH_SIZE);
+      for (Notice notice : batch) {
+        noticeSearchIndex.indexIfUnchanged(notice);
+        lastId = notice.getId();
+      }
+    } while (batch.size() == LOAD_BATCH_SIZE);
+    noticeSearchIndex.markReady();
+    logger.info("Notice search index built with {} notices in {} ms", noticeSearchIndex.size(),
+        System.currentTimeMillis() - startedAt);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNoticeChanged(NoticeChangedEvent event) {
+    Notice notice = event.getNotice();
+    noticeSearchIndex.index(notice);
+    cacheInvalidationBus.publish(INDEX_CHANNEL_NAME, String.valueOf(notice.getId()));
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onNoticesImported(NoticesImportedEvent event) {
+    List<Long> noticeIds = new ArrayList<>(event.getNotices().size());
+    for (Notice notice : event.getNotices()) {
+      noticeSearchIndex.index(notice);
+      noticeIds.add(notice.getId());
+    }
+    // 일괄 등록은 묶음마다 한 번만 알린다
+    cacheInvalidationBus.publish(INDEX_CHANNEL_NAME, NoticeIds.join(noticeIds));
+  }
+
+  private void onRemoteChange(CacheInvalidationMessage message) {
+    if (!INDEX_CHANNEL_NAME.equals(message.getCacheName()) || message.getKey() == null) {
+      return;
+    }
+    try {
+      noticeSearchIndexService.reindex(NoticeIds.parse(message.getKey()));
+    } catch (RuntimeException ex) {
+      logger.warn("Could not reindex notice {}", message.getKey(), ex);
+    }
+  }
+}
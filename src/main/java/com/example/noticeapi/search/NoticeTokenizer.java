@@ -0,0 +1,76 @@
+package com.example.noticeapi.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+public final class NoticeTokenizer {
+
+  private NoticeTokenizer() {
+  }
+
+  public static String normalize(String text) {
+    if (text == null) {
+      return "";
+    }
+    return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+  }
+
+  // 한글은 형태소 분석 없이도 부분 일치가 되도록 글자 단위 1-gram 과 2-gram 을 모두 색인한다
+  public static Set<String> indexGrams(String text) {
+    return normalizedIndexGrams(normalize(text));
+  }
+
+  // 이미 정규화된 문자열의 gram. 색인은 정규화한 원문을 보관하므로 제거할 때 같은 gram 을 다시 만든다
+  static Set<String> normalizedIndexGrams(String normalized) {
+    Set<String> grams = new HashSet<>();
+    for (String word : words(normalized)) {
+      for (int i = 0; i < word.length(); i++) {
+        grams.add(word.substring(i, i + 1));
+        if (i + 1 < word.length()) {
+          grams.add(word.substring(i, i + 2));
+        }
+      }
+    }
+    return grams;
+  }
+
+  public static Set<String> queryGrams(String query) {
+    return normalizedQueryGrams(normalize(query));
+  }
+
+  static Set<String> normalizedQueryGrams(String normalized) {
+    Set<String> grams = new HashSet<>();
+    for (String word : words(normalized)) {
+      if (word.length() == 1) {
+        grams.add(word);
+      }
+      for (int i = 0; i + 1 < word.length(); i++) {
+        grams.add(word.substring(i, i + 2));
+      }
+    }
+    return grams;
+  }
+
+  static List<String> words(String normalized) {
+    List<String> words = new ArrayList<>();
+    int start = -1;
+    for (int i = 0; i < normalized.length(); i++) {
+      if (Character.isLetterOrDigit(normalized.charAt(i))) {
+        if (start < 0) {
+          start = i;
+        }
+      } else if (start >= 0) {
+        words.add(normalized.substring(start, i));
+        start = -1;
+      }
+    }
+    if (start >= 0) {
+      words.add(normalized.substring(start));
+    }
+    return words;
+  }
+}
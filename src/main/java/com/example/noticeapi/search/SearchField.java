@@ -0,0 +1,5 @@
+package com.example.noticeapi.search;
+
+public enum SearchField {
+  TITLE, CONTENT, AUTHOR
+}
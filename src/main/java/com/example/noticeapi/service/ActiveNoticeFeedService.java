@@ -0,0 +1,44 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.dto.NoticeResponseDto;
+import com.example.noticeapi.feed.ActiveNoticeFeed;
+import com.example.noticeapi.mapper.NoticeMapper;
+import com.example.noticeapi.repository.NoticeRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class ActiveNoticeFeedService {
+
+  private final NoticeRepository noticeRepository;
+
+  @Transactional(readOnly = true)
+  public List<ActiveNoticeFeed.Entry> loadBatch(LocalDateTime now, Long afterId, int size) {
+    return noticeRepository.findUnfinishedAfter(now, afterId, PageRequest.of(0, size)).stream()
+        .map(ActiveNoticeFeed.Entry::of)
+        .collect(Collectors.toList());
+  }
+
+  @Transactional
+  public List<ActiveNoticeFeed.Entry> reload(List<Long> noticeIds) {
+    // 다른 노드의 변경 알림은 복제 지연을 피하기 위해 마스터에서 다시 읽는다
+    return noticeRepository.findAllById(noticeIds).stream()
+        .filter(notice -> !notice.isDeleted())
+        .map(ActiveNoticeFeed.Entry::of)
+        .collect(Collectors.toList());
+  }
+
+  // 메모리 피드의 초기 적재가 끝나기 전에만 사용하는 경로
+  @Transactional(readOnly = true)
+  public List<NoticeResponseDto> findActiveNotices(LocalDateTime now, int page, int size) {
+    return noticeRepository.findActiveAt(now, PageRequest.of(page, size)).stream()
+        .map(NoticeMapper::toDto)
+        .collect(Collectors.toList());
+  }
+}
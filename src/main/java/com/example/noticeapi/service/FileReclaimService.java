@@ -0,0 +1,84 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.config.FileReclaimProperties;
+import com.example.noticeapi.entity.FileBlob;
+import com.example.noticeapi.entity.FileReclaim;
+import com.example.noticeapi.repository.FileBlobRepository;
+import com.example.noticeapi.repository.FileReclaimRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class FileReclaimService {
+
+  private final FileReclaimRepository fileReclaimRepository;
+
+  private final FileBlobRepository fileBlobRepository;
+
+  private final FileReclaimProperties properties;
+
+  /**
+   * 처리할 때가 된 행을 최대 {@code size}건 가져간다. 가져간 행은 {@code lease} 동안 다른 노드에 보이지
+   * 않으며, 그 안에 끝내지 못하면 다시 처리 대상이 된다.
+   */
+  @Transactional
+  public List<FileReclaim> claim(LocalDateTime now, Duration lease, int size) {
+    List<Long> dueIds = fileReclaimRepository.findDueIds(now, PageRequest.of(0, size));
+    if (dueIds.isEmpty()) {
+      return List.of();
+    }
+    String token = UUID.randomUUID().toString();
+    fileReclaimRepository.claim(dueIds, token, now, now.plus(lease));
+    return fileReclaimRepository.findByClaimTokenOrderById(token);
+  }
+
+  /**
+   * 업로드한 트랜잭션과 별개로 커밋되는 회수 행을 남긴다. 업로드가 커밋되면 같은 트랜잭션에서 지워지고,
+   * 롤백되면 임대 시간이 지난 뒤 회수기가 옮겨 둔 파일을 치운다.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public Long guardPlacement(String contentHash, String storedFileName, String filePath) {
+    LocalDateTime now = LocalDateTime.now();
+    return fileReclaimRepository.save(FileReclaim.placement(contentHash, storedFileName, filePath,
+        now, now.plus(properties.getLease()))).getId();
+  }
+
+  /**
+   * 참조 수 0 인 행을 미리 만들어 둔다. 업로드 트랜잭션은 이 행을 잠그기만 하므로 같은 내용을 처음 올리는
+   * 노드끼리 INSERT 가 부딪혀 트랜잭션이 깨지지 않는다. 다른 노드가 먼저 만들었으면 예외가 난다.
+   */
+  @Transactional(propagation = Propagation.REQUIRES_NEW)
+  public void createBlob(String contentHash, String storedFileName, long size) {
+    fileBlobRepository.saveAndFlush(FileBlob.builder()
+        .contentHash(contentHash)
+        .storedFileName(storedFileName)
+        .size(size)
+        .refCount(0)
+        .build());
+  }
+
+  @Transactional
+  public void complete(List<Long> taskIds) {
+    if (!taskIds.isEmpty()) {
+      fileReclaimRepository.deleteAllByIdInBatch(taskIds);
+    }
+  }
+
+  @Transactional
+  public void retryLater(Long taskId, LocalDateTime nextAttemptAt) {
+    fileReclaimRepository.retryLater(taskId, nextAttemptAt);
+  }
+
+  @Transactional(readOnly = true)
+  public long countPending() {
+    return fileReclaimRepository.count();
+  }
+}
@@ -2,39 +2,88 @@ package com.example.noticeapi.service;
 
 import com.example.noticeapi.dto.FileDto;
 import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.FileBlob;
+import com.example.noticeapi.entity.FileReclaim;
 import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.FilesReleasedEvent;
+import com.example.noticeapi.event.StoredFileDeletedEvent;
+import com.example.noticeapi.exception.FileNotFoundException;
 import com.example.noticeapi.exception.FileStorageException;
 import com.example.noticeapi.exception.InvalidFileNameException;
+import com.example.noticeapi.repository.FileBlobRepository;
+import com.example.noticeapi.repository.FileReclaimRepository;
 import com.example.noticeapi.repository.FileRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
+@Timed(value = "file.storage", histogram = true)
 public class FileStorageService {
 
+  private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
   private Path fileStorageLocation;
 
+  private final Path tempLocation;
+
   private final FileRepository fileRepository;
 
+  private final FileBlobRepository fileBlobRepository;
+
+  private final FileReclaimRepository fileReclaimRepository;
+
+  private final FileReclaimService fileReclaimService;
+
+  private final FileUploadExecutor uploadExecutor;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final boolean contentAddressed;
+
   public FileStorageService(@Value("${file.storage.location}") String fileStorageLocationStr,
-      FileRepository fileRepository) {
+      @Value("${file.storage.content-addressed:false}") boolean contentAddressed,
+      FileRepository fileRepository, FileBlobRepository fileBlobRepository,
+      FileReclaimRepository fileReclaimRepository, FileReclaimService fileReclaimService,
+      FileUploadExecutor uploadExecutor, ApplicationEventPublisher eventPublisher) {
     this.fileStorageLocation = Paths.get(fileStorageLocationStr).toAbsolutePath().normalize();
+    this.tempLocation = this.fileStorageLocation.resolve(".tmp");
+    this.contentAddressed = contentAddressed;
     this.fileRepository = fileRepository;
+    this.fileBlobRepository = fileBlobRepository;
+    this.fileReclaimRepository = fileReclaimRepository;
+    this.fileReclaimService = fileReclaimService;
+    this.uploadExecutor = uploadExecutor;
+    this.eventPublisher = eventPublisher;
     init();
   }
 
@@ -42,27 +91,25 @@ public class FileStorageService {
   public void init() {
     try {
       Files.createDirectories(this.fileStorageLocation);
+      if (contentAddressed) {
+        Files.createDirectories(this.tempLocation);
+      }
     } catch (Exception ex) {
       throw new FileStorageException("Could not create the directory", ex);
     }
   }
 
+  // 참조 수는 첨부파일을 저장하는 트랜잭션 안에서만 늘리므로 단독 저장은 항상 고유한 이름으로 쓴다
   public CompletableFuture<String> storeFile(MultipartFile file) {
-    return CompletableFuture.supplyAsync(() -> {
-      String originalFileName = file.getOriginalFilename();
-      String fileExtension = "";
-
-      if (originalFileName != null && originalFileName.contains(".")) {
-        fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
-      }
-
-      String storedFileName = UUID.randomUUID() + fileExtension;
+    return writeFile(file, false).thenApply(StoredFile::getStoredFileName);
+  }
 
+  private CompletableFuture<StoredFile> writeFile(MultipartFile file, boolean contentAddressed) {
+    return uploadExecutor.submit(file.getSize(), () -> {
+      String originalFileName = file.getOriginalFilename();
       try {
         validateFileName(originalFileName);
-        Path targetLocation = this.fileStorageLocation.resolve(storedFileName);
-        Files.copy(file.getInputStream(), targetLocation);
-        return storedFileName;
+        return contentAddressed ? stageContentAddressed(file) : writeUniquelyNamed(file);
       } catch (IOException ex) {
         throw new FileStorageException(
             "Could not store file " + originalFileName + ". Please try again!", ex);
@@ -70,6 +117,107 @@ public class FileStorageService {
     });
   }
 
+  private StoredFile writeUniquelyNamed(MultipartFile file) throws IOException {
+    String originalFileName = file.getOriginalFilename();
+    String fileExtension = "";
+
+    if (originalFileName.contains(".")) {
+      fileExtension = originalFileName.substring(originalFileName.lastIndexOf("."));
+    }
+
+    String storedFileName = UUID.randomUUID() + fileExtension;
+    Path targetLocation = this.fileStorageLocation.resolve(storedFileName);
+    long size = Files.copy(file.getInputStream(), targetLocation);
+    return new StoredFile(storedFileName, null, size, null);
+  }
+
+  // 임시 파일에 쓰면서 해시를 계산한다. 저장소로 옮기는 일은 참조 수를 잠근 트랜잭션에서 한다
+  private StoredFile stageContentAddressed(MultipartFile file) throws IOException {
+    MessageDigest digest = sha256();
+    Path tempFile = Files.createTempFile(tempLocation, "upload-", ".part");
+    try {
+      long size;
+      try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+        size = Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      String contentHash = HexFormat.of().formatHex(digest.digest());
+      return new StoredFile(blobPath(contentHash), contentHash, size, tempFile);
+    } catch (IOException | RuntimeException ex) {
+      Files.deleteIfExists(tempFile);
+      throw ex;
+    }
+  }
+
+  /**
+   * 호출한 트랜잭션에서 해시 행을 잠그고 참조 수를 늘린 뒤, 저장소에 파일이 없으면 옮겨 놓는다. 잠금은 커밋까지
+   * 유지되므로 다른 노드의 회수기는 이 업로드가 끝난 뒤의 참조 수를 보고 지울지 정한다. 트랜잭션이 롤백되면
+   * 참조 수도 함께 되돌아가고, 미리 남긴 회수 행이 옮겨 둔 파일을 치운다.
+   */
+  private void acquireBlob(StoredFile storedFile) {
+    String contentHash = storedFile.getContentHash();
+    Path target = fileStorageLocation.resolve(storedFile.getStoredFileName());
+    Long guardId = fileReclaimService.guardPlacement(contentHash, storedFile.getStoredFileName(),
+        target.toString());
+    if (!fileBlobRepository.existsById(contentHash)) {
+      try {
+        fileReclaimService.createBlob(contentHash, storedFile.getStoredFileName(),
+            storedFile.getSize());
+      } catch (DataIntegrityViolationException ex) {
+        // 다른 노드가 같은 내용을 먼저 등록한 경우
+      }
+    }
+    // 그 사이 회수기가 행을 지웠으면 잠근 빈자리에 이 트랜잭션이 직접 만든다
+    FileBlob blob = fileBlobRepository.findForUpdate(contentHash)
+        .orElseGet(() -> fileBlobRepository.save(FileBlob.builder()
+            .contentHash(contentHash)
+            .storedFileName(storedFile.getStoredFileName())
+            .size(storedFile.getSize())
+            .refCount(0)
+            .build()));
+    try {
+      if (!Files.exists(target)) {
+        Files.createDirectories(target.getParent());
+        moveIntoPlace(storedFile.getStagedFile(), target);
+      }
+    } catch (IOException ex) {
+      throw new FileStorageException("Could not store file " + storedFile.getStoredFileName(),
+          ex);
+    }
+    blob.acquire();
+    fileReclaimRepository.deleteAllByIdInBatch(List.of(guardId));
+  }
+
+  private void deleteStagedFile(StoredFile storedFile) {
+    if (storedFile.getStagedFile() == null) {
+      return;
+    }
+    try {
+      Files.deleteIfExists(storedFile.getStagedFile());
+    } catch (IOException ex) {
+      logger.warn("Could not delete temporary file {}", storedFile.getStagedFile(), ex);
+    }
+  }
+
+  private static void moveIntoPlace(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    } catch (AtomicMoveNotSupportedException ex) {
+      Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
+
+  private static String blobPath(String contentHash) {
+    return contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash;
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 is not available", ex);
+    }
+  }
+
   private void validateFileName(String fileName) {
     if (fileName == null || fileName.contains("..")) {
       throw new InvalidFileNameException(
@@ -77,68 +225,117 @@ public class FileStorageService {
     }
   }
 
+  /**
+   * 첨부파일을 병렬로 디스크에 쓰고, 아직 저장되지 않은 {@link File} 엔티티를 돌려준다. 엔티티는 호출한 쪽의
+   * 트랜잭션에서 공지사항과 함께 cascade 로 한 번에 배치 INSERT 된다. 내용 주소 저장이면 참조 수도 같은
+   * 트랜잭션에서 늘리므로 공지 저장이 롤백되면 참조 수도 남지 않는다.
+   */
   @Transactional
-  public CompletableFuture<List<File>> processFiles(List<MultipartFile> files, Notice notice) {
-    List<CompletableFuture<File>> futures = files.stream()
-        .map(file -> storeFile(file).thenApply(storedFileName -> {
-          File attachment = File.builder()
-              .originalFileName(file.getOriginalFilename())
-              .storedFileName(storedFileName)
-              .filePath(fileStorageLocation.resolve(storedFileName).toString())
-              .isDeleted(false)
-              .notice(notice)
-              .build();
-          fileRepository.save(attachment);
-          return attachment;
-        }))
-        .collect(Collectors.toList());
-
-    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
-        .thenApply(v -> futures.stream().map(CompletableFuture::join).collect(Collectors.toList()));
+  public List<File> processFiles(List<MultipartFile> files, Notice notice) {
+    List<CompletableFuture<StoredFile>> futures = new ArrayList<>(files.size());
+    try {
+      for (MultipartFile file : files) {
+        futures.add(writeFile(file, contentAddressed));
+      }
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+      List<StoredFile> storedFiles = futures.stream()
+          .map(CompletableFuture::join)
+          .collect(Collectors.toList());
+      if (contentAddressed) {
+        // 여러 트랜잭션이 같은 해시들을 잠글 때 교착되지 않도록 해시 순서로 잠근다
+        storedFiles.stream()
+            .sorted(Comparator.comparing(StoredFile::getContentHash))
+            .forEach(this::acquireBlob);
+      }
+
+      List<File> attachments = new ArrayList<>(files.size());
+      for (int i = 0; i < files.size(); i++) {
+        StoredFile storedFile = storedFiles.get(i);
+        attachments.add(File.builder()
+            .originalFileName(files.get(i).getOriginalFilename())
+            .storedFileName(storedFile.getStoredFileName())
+            .filePath(fileStorageLocation.resolve(storedFile.getStoredFileName()).toString())
+            .contentHash(storedFile.getContentHash())
+            .size(storedFile.getSize())
+            .isDeleted(false)
+            .notice(notice)
+            .build());
+      }
+      return attachments;
+    } finally {
+      // 중간에 실패해도 아직 쓰고 있는 파일까지 기다렸다가 남은 임시 파일을 지운다
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+          .handle((ignored, ex) -> null)
+          .join();
+      futures.stream()
+          .filter(future -> !future.isCompletedExceptionally())
+          .map(CompletableFuture::join)
+          .forEach(this::deleteStagedFile);
+    }
   }
 
+  /**
+   * 공지의 첨부파일을 한 번의 UPDATE 로 삭제 표시하고, 지울 파일을 같은 트랜잭션에서 {@link FileReclaim}에
+   * 기록한다. 참조 수 해제와 실제 파일 삭제는 커밋 뒤 {@code FileReclaimer}가 배치로 처리하므로 첨부파일
+   * 수나 디스크 지연이 요청 시간에 더해지지 않는다.
+   */
   @Transactional
-  @CacheEvict(value = "files", key = "#notice.id")
-  public CompletableFuture<Void> deleteFilesByNotice(Notice notice) {
-    return CompletableFuture.runAsync(() -> {
-      List<File> attachments = fileRepository.findByNoticeId(notice.getId());
-      for (File attachment : attachments) {
-        attachment.delete();
-        fileRepository.save(attachment);
-        try {
-          deletePhysicalFile(Paths.get(attachment.getFilePath()));
-        } catch (IOException e) {
-          throw new FileStorageException("Could not delete file " + attachment.getStoredFileName(),
-              e);
-        }
-      }
-    });
+  public void deleteFilesByNotice(Notice notice) {
+    List<File> attachments = fileRepository.findByNoticeIdAndIsDeletedFalse(notice.getId());
+    if (attachments.isEmpty()) {
+      return;
+    }
+    LocalDateTime now = LocalDateTime.now();
+    fileReclaimRepository.saveAll(attachments.stream()
+        .map(attachment -> FileReclaim.of(attachment, now))
+        .collect(Collectors.toList()));
+    fileRepository.markDeletedByNoticeId(notice.getId());
+    eventPublisher.publishEvent(new FilesReleasedEvent(attachments.size()));
+  }
+
+  /**
+   * 지울 파일 하나를 처리한다. 내용 주소 저장 파일은 해시 행을 잠그고 참조를 해제한 뒤, 남은 참조가 없을 때만
+   * 파일을 지우고 행을 삭제한다. 회수 행 삭제와 참조 해제가 한 트랜잭션으로 커밋되므로 실패하면 둘 다 되돌아가고
+   * 호출자가 나중에 다시 시도한다.
+   */
+  @Transactional(rollbackFor = IOException.class)
+  public void reclaim(FileReclaim task) throws IOException {
+    String contentHash = task.getContentHash();
+    if (contentHash == null) {
+      deletePhysicalFile(Paths.get(task.getFilePath()));
+      eventPublisher.publishEvent(new StoredFileDeletedEvent(task.getStoredFileName()));
+      return;
+    }
+    if (fileReclaimRepository.deleteClaimed(task.getId(), task.getClaimToken()) == 0) {
+      return;
+    }
+    Optional<FileBlob> blob = fileBlobRepository.findForUpdate(contentHash);
+    if (!task.isBlobReleased()) {
+      blob.ifPresent(FileBlob::release);
+    }
+    if (blob.isPresent() && blob.get().getRefCount() > 0) {
+      return;
+    }
+    // 행 잠금을 쥔 채로 지우므로 같은 내용을 올리는 쪽은 커밋을 기다린 뒤 파일이 없으면 다시 옮겨 놓는다
+    deletePhysicalFile(fileStorageLocation.resolve(task.getStoredFileName()));
+    blob.ifPresent(fileBlobRepository::delete);
+    eventPublisher.publishEvent(new StoredFileDeletedEvent(task.getStoredFileName()));
   }
 
   protected void deletePhysicalFile(Path path) throws IOException {
     Files.deleteIfExists(path);
   }
 
-  @Transactional(readOnly = true)
-  @Cacheable(value = "files", key = "#storedFileName")
-  public CompletableFuture<Resource> loadFileAsResource(String storedFileName) {
-    return CompletableFuture.supplyAsync(() -> {
-      try {
-        Path filePath = this.fileStorageLocation.resolve(storedFileName).normalize();
-        Resource resource = new UrlResource(filePath.toUri());
-        if (resource.exists()) {
-          return resource;
-        } else {
-          throw new FileStorageException("File not found " + storedFileName);
-        }
-      } catch (Exception ex) {
-        throw new FileStorageException("File not found " + storedFileName, ex);
-      }
-    });
+  public Path resolveStoredFile(String storedFileName) {
+    Path filePath = this.fileStorageLocation.resolve(storedFileName).normalize();
+    if (!filePath.startsWith(this.fileStorageLocation) || !Files.isRegularFile(filePath)) {
+      throw new FileNotFoundException("File not found " + storedFileName);
+    }
+    return filePath;
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "fileDto", key = "#fileId")
+  @Cacheable(value = "fileDto", key = "#fileId", sync = true)
   public FileDto getFileDtoById(Long fileId) {
     File file = fileRepository.findById(fileId)
         .orElseThrow(() -> new FileStorageException("File not found with id " + fileId));
@@ -147,6 +344,19 @@ public class FileStorageService {
         .originalFileName(file.getOriginalFileName())
         .storedFileName(file.getStoredFileName())
         .filePath(file.getFilePath())
+        .contentHash(file.getContentHash())
+        .size(file.getSize())
         .build();
   }
+
+  @Getter
+  @AllArgsConstructor
+  private static class StoredFile {
+
+    private final String storedFileName;
+    private final String contentHash;
+    private final long size;
+    // 내용 주소 저장 파일을 저장소로 옮기기 전까지 머무는 임시 파일
+    private final Path stagedFile;
+  }
 }
@@ -0,0 +1,228 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.config.FileUploadProperties;
+import com.example.noticeapi.exception.UploadRejectedException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class FileUploadExecutor implements MeterBinder, AutoCloseable {
+
+  private static final Logger logger = LoggerFactory.getLogger(FileUploadExecutor.class);
+
+  private final ExecutorService executorService;
+
+  // 제출한 스레드의 라우팅 키와 MDC 를 실행 스레드로 옮긴다
+  private final Executor executor;
+
+  private final ThreadPoolExecutor platformPool;
+
+  private final long maxInFlightBytes;
+
+  private final long acquireTimeoutNanos;
+
+  private final ReentrantLock budgetLock = new ReentrantLock();
+
+  private final Condition budgetReleased = budgetLock.newCondition();
+
+  private long inFlightBytes;
+
+  private int waitingUploads;
+
+  private final AtomicInteger runningWrites = new AtomicInteger();
+
+  private final LongAdder bytesWritten = new LongAdder();
+
+  private final LongAdder completedWrites = new LongAdder();
+
+  private final LongAdder rejectedUploads = new LongAdder();
+
+  // 레지스트리에 바인딩되기 전에 끝난 쓰기는 기록하지 않는다
+  private volatile Timer writeTimer;
+
+  public FileUploadExecutor(FileUploadProperties properties, TaskDecorator taskDecorator) {
+    this.maxInFlightBytes = properties.getMaxInFlightBytes();
+    this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+    ExecutorService virtualThreadExecutor =
+        properties.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+    if (virtualThreadExecutor != null) {
+      this.executorService = virtualThreadExecutor;
+      this.platformPool = null;
+    } else {
+      this.platformPool = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+          60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+          namedThreadFactory());
+      this.executorService = platformPool;
+    }
+    this.executor = task -> executorService.execute(taskDecorator.decorate(task));
+  }
+
+  // 가상 스레드는 JDK 21 이상에서만 사용할 수 있으므로 리플렉션으로 확인한다
+  private static ExecutorService newVirtualThreadExecutor() {
+    try {
+      return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+    } catch (ReflectiveOperationException ex) {
+      logger.info("Virtual threads are not available, using a bounded platform thread pool");
+      return null;
+    }
+  }
+
+  private static ThreadFactory namedThreadFactory() {
+    AtomicInteger sequence = new AtomicInteger();
+    return runnable -> {
+      Thread thread = new Thread(runnable, "file-io-" + sequence.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+
+  public <T> CompletableFuture<T> submit(long bytes, Supplier<T> write) {
+    // 예산보다 큰 파일은 단독으로만 쓰이도록 예산 전체를 점유한다
+    long permits = Math.max(0, Math.min(bytes, maxInFlightBytes));
+    acquire(permits);
+    try {
+      return CompletableFuture.supplyAsync(() -> {
+        runningWrites.incrementAndGet();
+        long startNanos = System.nanoTime();
+        try {
+          T result = write.get();
+          Timer timer = writeTimer;
+          if (timer != null) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+          }
+          bytesWritten.add(bytes);
+          completedWrites.increment();
+          return result;
+        } finally {
+          runningWrites.decrementAndGet();
+          release(permits);
+        }
+      }, executor);
+    } catch (RejectedExecutionException ex) {
+      release(permits);
+      rejectedUploads.increment();
+      throw new UploadRejectedException("File I/O queue is full. Please try again later.");
+    }
+  }
+
+  public CompletableFuture<Void> runAsync(Runnable task) {
+    try {
+      return CompletableFuture.runAsync(task, executor);
+    } catch (RejectedExecutionException ex) {
+      rejectedUploads.increment();
+      throw new UploadRejectedException("File I/O queue is full. Please try again later.");
+    }
+  }
+
+  private void acquire(long permits) {
+    budgetLock.lock();
+    try {
+      long remainingNanos = acquireTimeoutNanos;
+      waitingUploads++;
+      try {
+        while (inFlightBytes + permits > maxInFlightBytes) {
+          if (remainingNanos <= 0) {
+            rejectedUploads.increment();
+            throw new UploadRejectedException(
+                "Too many uploads in progress. Please try again later.");
+          }
+          remainingNanos = budgetReleased.awaitNanos(remainingNanos);
+        }
+      } finally {
+        waitingUploads--;
+      }
+      inFlightBytes += permits;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new UploadRejectedException("Interrupted while waiting for upload capacity");
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  private void release(long permits) {
+    budgetLock.lock();
+    try {
+      inFlightBytes -= permits;
+      budgetReleased.signalAll();
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  public long getInFlightBytes() {
+    budgetLock.lock();
+    try {
+      return inFlightBytes;
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  public int getQueueDepth() {
+    budgetLock.lock();
+    try {
+      int queued = platformPool != null ? platformPool.getQueue().size() : 0;
+      return waitingUploads + queued;
+    } finally {
+      budgetLock.unlock();
+    }
+  }
+
+  public long getBytesWritten() {
+    return bytesWritten.sum();
+  }
+
+  public long getRejectedUploads() {
+    return rejectedUploads.sum();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("file.upload.queue.depth", this, FileUploadExecutor::getQueueDepth)
+        .description("Uploads waiting for byte budget or an I/O thread")
+        .register(registry);
+    Gauge.builder("file.upload.in.flight.bytes", this, FileUploadExecutor::getInFlightBytes)
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("file.upload.running", runningWrites, AtomicInteger::get)
+        .register(registry);
+    FunctionCounter.builder("file.upload.written.bytes", bytesWritten, LongAdder::sum)
+        .baseUnit("bytes")
+        .register(registry);
+    FunctionCounter.builder("file.upload.completed", completedWrites, LongAdder::sum)
+        .register(registry);
+    FunctionCounter.builder("file.upload.rejected", rejectedUploads, LongAdder::sum)
+        .register(registry);
+    writeTimer = Timer.builder("file.upload.write.duration")
+        .publishPercentileHistogram()
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    executorService.shutdown();
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.config.NoticeExportProperties;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.export.NoticeExportFormat;
+import com.example.noticeapi.export.NoticeExportWriter;
+import com.example.noticeapi.repository.NoticeRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class NoticeExportService implements MeterBinder {
+
+  private final NoticeRepository noticeRepository;
+
+  private final EntityManager entityManager;
+
+  private final NoticeExportProperties properties;
+
+  private final AtomicInteger runningExports = new AtomicInteger();
+
+  private final LongAdder exportedRows = new LongAdder();
+
+  /**
+   * 조건에 맞는 공지를 id 순으로 스트림에 쓴다. 읽은 엔티티는 바로 영속성 컨텍스트에서 떼어 내므로
+   * 전체 건수와 관계없이 fetch size 만큼만 메모리에 올라간다.
+   */
+  @Transactional(readOnly = true)
+  public long export(NoticeExportFormat format, LocalDateTime from, LocalDateTime to,
+      OutputStream out) throws IOException {
+    int fetchSize = properties.getFetchSize();
+    long rows = 0;
+    runningExports.incrementAndGet();
+    try (Stream<Notice> notices = noticeRepository.streamForExport(from, to, fetchSize)) {
+      NoticeExportWriter writer = format.open(out);
+      Iterator<Notice> iterator = notices.iterator();
+      while (iterator.hasNext()) {
+        Notice notice = iterator.next();
+        writer.write(notice);
+        entityManager.detach(notice);
+        if (++rows % fetchSize == 0) {
+          // 한 묶음마다 클라이언트로 내보내 응답 버퍼가 커지지 않게 한다
+          writer.flush();
+          out.flush();
+          exportedRows.add(fetchSize);
+        }
+      }
+      writer.flush();
+      exportedRows.add(rows % fetchSize);
+    } finally {
+      runningExports.decrementAndGet();
+    }
+    return rows;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("notice.export.running", runningExports, AtomicInteger::get)
+        .register(registry);
+    FunctionCounter.builder("notice.export.rows", exportedRows, LongAdder::sum)
+        .register(registry);
+  }
+}
@@ -0,0 +1,41 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.dto.NoticeCreateDto;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.NoticesImportedEvent;
+import com.example.noticeapi.mapper.NoticeMapper;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class NoticeImportService {
+
+  private final EntityManager entityManager;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 한 묶음을 하나의 트랜잭션으로 저장한다. id 는 시퀀스(pooled-lo)로 미리 받아 두므로 INSERT 는
+   * {@code jdbcBatchSize} 건씩 묶여 나간다. 목록 캐시 무효화는 호출자가 전체 적재가 끝난 뒤 한 번 한다.
+   */
+  @Transactional
+  public int importChunk(List<NoticeCreateDto> chunk, int jdbcBatchSize) {
+    entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+    List<Notice> notices = new ArrayList<>(chunk.size());
+    for (NoticeCreateDto noticeCreateDto : chunk) {
+      Notice notice = NoticeMapper.toEntity(noticeCreateDto);
+      entityManager.persist(notice);
+      notices.add(notice);
+    }
+    entityManager.flush();
+    eventPublisher.publishEvent(new NoticesImportedEvent(notices));
+    return notices.size();
+  }
+}
@@ -0,0 +1,38 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.repository.NoticeRepository;
+import com.example.noticeapi.search.NoticeSearchIndex;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class NoticeSearchIndexService {
+
+  private final NoticeRepository noticeRepository;
+
+  private final NoticeSearchIndex noticeSearchIndex;
+
+  @Transactional(readOnly = true)
+  public List<Notice> loadBatch(Long afterId, int size) {
+    return noticeRepository.findByIsDeletedFalseAndIdGreaterThanOrderByIdAsc(afterId,
+        PageRequest.of(0, size));
+  }
+
+  @Transactional
+  public void reindex(List<Long> noticeIds) {
+    // 다른 노드의 변경 알림은 복제 지연을 피하기 위해 마스터에서 다시 읽는다
+    Set<Long> missing = new HashSet<>(noticeIds);
+    for (Notice notice : noticeRepository.findAllById(noticeIds)) {
+      noticeSearchIndex.index(notice);
+      missing.remove(notice.getId());
+    }
+    missing.forEach(noticeSearchIndex::remove);
+  }
+}
@@ -1,53 +1,85 @@
 package com.example.noticeapi.service;
 
+import com.example.noticeapi.cache.NoticeListGeneration;
+import com.example.noticeapi.config.DataSourceContextHolder;
 import com.example.noticeapi.dto.NoticeCreateDto;
+import com.example.noticeapi.dto.NoticeCursor;
 import com.example.noticeapi.dto.NoticeDetailResponseDto;
 import com.example.noticeapi.dto.NoticeResponseDto;
 import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.dto.NoticeSliceResponseDto;
 import com.example.noticeapi.dto.NoticeUpdateDto;
 import com.example.noticeapi.entity.File;
 import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.NoticeChangedEvent;
 import com.example.noticeapi.exception.NoticeNotFoundException;
+import com.example.noticeapi.feed.ActiveNoticeFeed;
 import com.example.noticeapi.mapper.NoticeMapper;
 import com.example.noticeapi.repository.NoticeRepository;
+import com.example.noticeapi.search.NoticeSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
+@Timed(value = "notice.service", histogram = true)
 public class NoticeService {
 
+  // 일관성 토큰을 가진 요청은 캐시를 읽지도 채우지도 않고, 그 커밋을 반영한 복제본이나 마스터에서 읽는다
+  private static final String NO_READ_AFTER =
+      "T(com.example.noticeapi.config.DataSourceContextHolder).getReadAfter() == null";
+
   private final NoticeRepository noticeRepository;
 
   private final FileStorageService fileStorageService;
 
+  private final NoticeListGeneration noticeListGeneration;
+
+  private final NoticeSearchIndex noticeSearchIndex;
+
+  private final ActiveNoticeFeed activeNoticeFeed;
+
+  private final ActiveNoticeFeedService activeNoticeFeedService;
+
+  private final ApplicationEventPublisher eventPublisher;
+
+  private final CacheManager cacheManager;
+
   @Transactional
-  @CacheEvict(value = "notices", allEntries = true)
   public NoticeResponseDto createNotice(NoticeCreateDto noticeCreateDto,
       List<MultipartFile> files) {
     Notice notice = NoticeMapper.toEntity(noticeCreateDto);
-    CompletableFuture<List<File>> futureAttachments = fileStorageService.processFiles(files,
-        notice);
-    List<File> attachments = futureAttachments.join();
+    List<File> attachments = fileStorageService.processFiles(files, notice);
     notice.getAttachments().addAll(attachments);
     notice = noticeRepository.save(notice);
+    noticeListGeneration.advance();
+    eventPublisher.publishEvent(new NoticeChangedEvent(notice));
     return NoticeMapper.toDto(notice);
   }
 
   @Transactional(readOnly = true)
-  @Cacheable(value = "notices", key = "#id")
+  @Cacheable(value = "notices", key = "#id", condition = NO_READ_AFTER, sync = true)
   public NoticeDetailResponseDto getNoticeDetailById(Long id) {
     Notice notice = noticeRepository.findById(id)
         .filter(n -> !n.isDeleted())
@@ -57,16 +89,75 @@ public class NoticeService {
 
   @Transactional(readOnly = true)
   public List<NoticeResponseDto> getAllNotices(int page, int size) {
-    Pageable pageable = PageRequest.of(page, size);
-    Page<Notice> notices = noticeRepository.findByIsDeletedFalse(pageable);
-    return notices.stream()
+    return cachedPage(loaded -> idsOf(noticeRepository.findByIsDeletedFalse(
+        PageRequest.of(page, size)), loaded), "pageIds", page, size);
+  }
+
+  public long getNoticeListLastModified() {
+    return noticeListGeneration.lastModified();
+  }
+
+  // 피드는 id 만 들고 있으므로 본문은 목록과 같이 상세 캐시에서 가져온다
+  @Transactional(readOnly = true)
+  public List<NoticeResponseDto> getActiveNotices(int page, int size) {
+    if (!activeNoticeFeed.isReady()) {
+      return activeNoticeFeedService.findActiveNotices(LocalDateTime.now(), page, size);
+    }
+    return resolveDetails(activeNoticeFeed.page(page, size), new HashMap<>());
+  }
+
+  @Transactional(readOnly = true)
+  public NoticeSliceResponseDto getNoticesByCursor(String cursor, int size) {
+    Pageable pageable = PageRequest.of(0, size);
+    Slice<Notice> notices;
+    if (cursor == null || cursor.isEmpty()) {
+      notices = noticeRepository.findByIsDeletedFalseOrderByCreatedAtDescIdDesc(pageable);
+    } else {
+      NoticeCursor noticeCursor = NoticeCursor.decode(cursor);
+      notices = noticeRepository.findNextSlice(noticeCursor.getCreatedAt(), noticeCursor.getId(),
+          pageable);
+    }
+
+    List<NoticeResponseDto> content = notices.stream()
         .map(NoticeMapper::toDto)
         .collect(Collectors.toList());
+    String nextCursor = null;
+    if (notices.hasNext() && !content.isEmpty()) {
+      NoticeResponseDto last = content.get(content.size() - 1);
+      nextCursor = new NoticeCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return NoticeSliceResponseDto.builder()
+        .notices(content)
+        .nextCursor(nextCursor)
+        .hasNext(notices.hasNext())
+        .build();
   }
 
   @Transactional(readOnly = true)
   public List<NoticeResponseDto> searchNotices(NoticeSearchDto noticeSearchDto, int page,
       int size) {
+    return cachedPage(loaded -> searchIds(noticeSearchDto, page, size, loaded), "searchIds",
+        noticeSearchDto.getTitle(), noticeSearchDto.getContent(), noticeSearchDto.getAuthor(),
+        noticeSearchDto.getStartDate(), noticeSearchDto.getEndDate(), page, size);
+  }
+
+  private List<Long> searchIds(NoticeSearchDto noticeSearchDto, int page, int size,
+      Map<Long, NoticeDetailResponseDto> loaded) {
+    if (!hasTextCriteria(noticeSearchDto)) {
+      // 작성일 조건만 있으면 (is_deleted, created_at, id) 인덱스를 타는 범위 조회로 처리한다
+      return idsOf(noticeRepository.findCreatedBetween(noticeSearchDto.getStartDate(),
+          noticeSearchDto.getEndDate(), PageRequest.of(page, size)), loaded);
+    }
+    if (!noticeSearchIndex.isReady()) {
+      return idsOf(searchNoticesByLikeQuery(noticeSearchDto, page, size), loaded);
+    }
+    // 색인이 페이지의 id 를 확정해 주므로 본문은 상세 캐시에서 가져온다
+    return noticeSearchIndex.search(noticeSearchDto, page, size);
+  }
+
+  // 색인 초기 적재가 끝나기 전에만 사용하는 경로
+  private Page<Notice> searchNoticesByLikeQuery(NoticeSearchDto noticeSearchDto, int page,
+      int size) {
     Pageable pageable = PageRequest.of(page, size);
 
     String title = Optional.ofNullable(noticeSearchDto.getTitle()).orElse("");
@@ -77,40 +168,133 @@ public class NoticeService {
     LocalDateTime endDate = Optional.ofNullable(noticeSearchDto.getEndDate())
         .orElse(LocalDateTime.MAX);
 
-    Page<Notice> notices = noticeRepository.findByTitleContainingAndContentContainingAndAuthorContainingAndCreatedAtBetween(
+    return noticeRepository.findByTitleContainingAndContentContainingAndAuthorContainingAndCreatedAtBetween(
         title, content, author, startDate, endDate, pageable);
-    return notices.stream()
+  }
+
+  /**
+   * 목록 캐시에는 페이지의 공지 id 만 두고, 본문과 조회수는 상세 캐시({@code notices})에서 가져온다. 조회수
+   * 반영은 상세 캐시만 비우므로 목록 세대는 공지가 등록, 수정, 삭제될 때만 넘어간다. 목록을 DB 에서 읽었으면
+   * 읽은 공지를 {@code loaded}에 담아 같은 공지를 다시 조회하지 않는다.
+   */
+  private List<NoticeResponseDto> cachedPage(
+      Function<Map<Long, NoticeDetailResponseDto>, List<Long>> loader, Object... keyParts) {
+    Map<Long, NoticeDetailResponseDto> loaded = new HashMap<>();
+    Cache listCache = readThroughCache(NoticeListGeneration.CACHE_NAME);
+    if (listCache == null) {
+      return resolveDetails(loader.apply(loaded), loaded);
+    }
+    // JSON 으로 저장된 id 는 Integer 로 읽힐 수 있다
+    List<? extends Number> cachedIds = listCache.get(noticeListGeneration.key(keyParts),
+        () -> loader.apply(loaded));
+    List<Long> noticeIds = cachedIds.stream()
+        .map(Number::longValue)
+        .collect(Collectors.toList());
+    return resolveDetails(noticeIds, loaded);
+  }
+
+  private static List<Long> idsOf(Slice<Notice> notices,
+      Map<Long, NoticeDetailResponseDto> loaded) {
+    List<Long> noticeIds = new ArrayList<>(notices.getNumberOfElements());
+    for (Notice notice : notices) {
+      noticeIds.add(notice.getId());
+      loaded.put(notice.getId(), NoticeMapper.toDetailDto(notice));
+    }
+    return noticeIds;
+  }
+
+  // 상세 캐시에서 채우고, 캐시에 없는 공지만 한 번에 읽는다. 모두 캐시에 있으면 커넥션을 가져오지 않는다
+  private List<NoticeResponseDto> resolveDetails(List<Long> noticeIds,
+      Map<Long, NoticeDetailResponseDto> loaded) {
+    Cache cache = readThroughCache("notices");
+    Map<Long, NoticeDetailResponseDto> details = new HashMap<>();
+    List<Long> missing = new ArrayList<>();
+    for (Long noticeId : noticeIds) {
+      NoticeDetailResponseDto detail = loaded.get(noticeId);
+      if (detail != null) {
+        // 목록과 함께 읽은 공지는 다음 적중 때 다시 읽지 않도록 상세 캐시에도 넣는다
+        if (cache != null) {
+          cache.put(noticeId, detail);
+        }
+      } else if (cache != null) {
+        detail = cache.get(noticeId, NoticeDetailResponseDto.class);
+      }
+      if (detail != null) {
+        details.put(noticeId, detail);
+      } else {
+        missing.add(noticeId);
+      }
+    }
+    for (Notice notice : findAllInOrder(missing)) {
+      NoticeDetailResponseDto detail = NoticeMapper.toDetailDto(notice);
+      details.put(notice.getId(), detail);
+      if (cache != null) {
+        cache.put(notice.getId(), detail);
+      }
+    }
+    return noticeIds.stream()
+        .map(details::get)
+        .filter(Objects::nonNull)
         .map(NoticeMapper::toDto)
         .collect(Collectors.toList());
   }
 
+  private Cache readThroughCache(String name) {
+    return DataSourceContextHolder.getReadAfter() == null ? cacheManager.getCache(name) : null;
+  }
+
+  private List<Notice> findAllInOrder(List<Long> noticeIds) {
+    if (noticeIds.isEmpty()) {
+      return new ArrayList<>();
+    }
+    Map<Long, Notice> noticesById = noticeRepository.findAllById(noticeIds).stream()
+        .collect(Collectors.toMap(Notice::getId, Function.identity()));
+    return noticeIds.stream()
+        .map(noticesById::get)
+        .filter(Objects::nonNull)
+        .filter(notice -> !notice.isDeleted())
+        .collect(Collectors.toList());
+  }
+
+  private static boolean hasTextCriteria(NoticeSearchDto criteria) {
+    return hasText(criteria.getTitle()) || hasText(criteria.getContent())
+        || hasText(criteria.getAuthor());
+  }
+
+  private static boolean hasText(String value) {
+    return value != null && !value.isEmpty();
+  }
+
   @Transactional
-  @CacheEvict(value = "notices", allEntries = true)
+  @CacheEvict(value = "notices", key = "#id")
   public NoticeResponseDto updateNotice(Long id, NoticeUpdateDto noticeUpdateDto,
       List<MultipartFile> files) {
     Notice notice = noticeRepository.findById(id)
         .orElseThrow(() -> new NoticeNotFoundException("Notice not found with id " + id));
-    NoticeMapper.updateEntity(noticeUpdateDto, notice);
 
-    fileStorageService.deleteFilesByNotice(notice).join(); // 비동기 작업 결과를 기다림
+    // 첨부 목록을 바꾸기 전에 회수 행을 남긴다. 목록을 먼저 비우면 orphanRemoval 이 조회 전 flush 에서
+    // 기존 행을 지워 회수할 파일을 찾지 못한다. 실제 파일은 커밋 뒤 회수기가 지운다
+    fileStorageService.deleteFilesByNotice(notice);
 
-    CompletableFuture<List<File>> futureAttachments = fileStorageService.processFiles(files,
-        notice);
-    List<File> attachments = futureAttachments.join(); // 비동기 작업 결과를 기다림
-    notice.update(notice.getTitle(), notice.getContent(), notice.getStartDate(),
-        notice.getEndDate(), attachments);
+    // 파일 쓰기는 병렬로 하고, 참조 수는 이 트랜잭션에서 늘린다
+    List<File> attachments = fileStorageService.processFiles(files, notice);
+    NoticeMapper.updateEntity(noticeUpdateDto, notice, attachments);
 
     notice = noticeRepository.save(notice);
+    noticeListGeneration.advance();
+    eventPublisher.publishEvent(new NoticeChangedEvent(notice));
     return NoticeMapper.toDto(notice);
   }
 
   @Transactional
-  @CacheEvict(value = "notices", allEntries = true)
+  @CacheEvict(value = "notices", key = "#id")
   public void deleteNotice(Long id) {
     Notice notice = noticeRepository.findById(id)
         .orElseThrow(() -> new NoticeNotFoundException("Notice not found with id " + id));
-    fileStorageService.deleteFilesByNotice(notice).join();
+    fileStorageService.deleteFilesByNotice(notice);
     notice.delete();
     noticeRepository.save(notice);
+    noticeListGeneration.advance();
+    eventPublisher.publishEvent(new NoticeChangedEvent(notice));
   }
 }
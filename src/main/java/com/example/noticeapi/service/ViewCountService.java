@@ -0,0 +1,117 @@
+package com.example.noticeapi.service;
+
+import com.example.noticeapi.repository.NoticeRepository;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+  private static final Logger logger = LoggerFactory.getLogger(ViewCountService.class);
+
+  // 공지마다 LongAdder 를 두어 인기 공지의 조회가 맵의 한 칸 잠금을 두고 다투지 않게 한다.
+  // 반영이 끝나 0 이 된 항목은 지워서 조회된 적 있는 공지 수만큼 맵이 자라지 않게 한다
+  private final ConcurrentHashMap<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+
+  // DB 에는 반영했지만 상세 캐시를 아직 비우지 못한 공지. 다음 반영 때 다시 비운다
+  private final Set<Long> unevictedNotices = new HashSet<>();
+
+  private final NoticeRepository noticeRepository;
+
+  private final CacheManager cacheManager;
+
+  public long recordView(Long noticeId) {
+    LongAdder pending = pendingViews.get(noticeId);
+    if (pending == null) {
+      pending = pendingViews.computeIfAbsent(noticeId, id -> new LongAdder());
+    }
+    pending.increment();
+    return pending.sum();
+  }
+
+  public long getPendingViews(Long noticeId) {
+    LongAdder pending = pendingViews.get(noticeId);
+    return pending != null ? pending.sum() : 0L;
+  }
+
+  int getTrackedNoticeCount() {
+    return pendingViews.size();
+  }
+
+  @Scheduled(fixedDelayString = "${view-count.flush-interval-ms:5000}")
+  public synchronized void flush() {
+    Map<Long, Long> deltas = new HashMap<>();
+    pendingViews.forEach((noticeId, pending) -> {
+      long delta = pending.sum();
+      if (delta != 0) {
+        deltas.put(noticeId, delta);
+      }
+    });
+
+    if (!deltas.isEmpty()) {
+      try {
+        noticeRepository.addViewCounts(deltas);
+      } catch (RuntimeException ex) {
+        logger.warn("Could not flush view counts for {} notices", deltas.size(), ex);
+        return;
+      }
+      // 캐시를 비우기 전에 차감한다. 반대로 하면 그 사이 조회가 새 DB 값에 같은 누적값을 한 번 더 더한다.
+      // 읽은 만큼만 차감하므로 flush 중 들어온 조회수는 남는다
+      deltas.forEach(this::subtract);
+      unevictedNotices.addAll(deltas.keySet());
+    }
+    // 목록/검색 캐시는 공지 id 만 들고 조회수는 상세 캐시에서 가져오므로 목록 세대는 넘기지 않는다
+    evictFlushedNotices();
+  }
+
+  private void subtract(Long noticeId, long delta) {
+    LongAdder pending = pendingViews.get(noticeId);
+    pending.add(-delta);
+    if (pending.sum() != 0 || !pendingViews.remove(noticeId, pending)) {
+      return;
+    }
+    // 지우기 직전에 이 LongAdder 를 집어 간 조회가 있으면 새 항목으로 옮긴다
+    long late = pending.sumThenReset();
+    if (late != 0) {
+      pendingViews.computeIfAbsent(noticeId, id -> new LongAdder()).add(late);
+    }
+  }
+
+  private void evictFlushedNotices() {
+    Cache noticeCache = cacheManager.getCache("notices");
+    if (noticeCache == null) {
+      unevictedNotices.clear();
+      return;
+    }
+    for (Iterator<Long> it = unevictedNotices.iterator(); it.hasNext(); ) {
+      Long noticeId = it.next();
+      try {
+        noticeCache.evict(noticeId);
+      } catch (RuntimeException ex) {
+        logger.warn("Could not evict {} notices after flushing view counts, retrying later",
+            unevictedNotices.size(), ex);
+        return;
+      }
+      it.remove();
+    }
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flush();
+  }
+}
@@ -0,0 +1,153 @@
+package com.example.noticeapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.config.RedisCacheConfig;
+import com.example.noticeapi.dto.FileDto;
+import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeResponseDto;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+class CompactCacheSerializerTest {
+
+  private final GenericJackson2JsonRedisSerializer json = RedisCacheConfig.cacheValueSerializer();
+
+  private final CompactCacheSerializer serializer = new CompactCacheSerializer(json, 1024);
+
+  private NoticeDetailResponseDto notice(String content) {
+    return NoticeDetailResponseDto.builder()
+        .id(1L)
+        .title("점검 안내")
+        .content(content)
+        .startDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .endDate(null)
+        .createdAt(LocalDateTime.of(2024, 1, 1, 9, 30, 15, 123_000_000))
+        .viewCount(42)
+        .author("운영팀")
+        .version(3L)
+        .updatedAt(LocalDateTime.of(2024, 1, 2, 10, 0))
+        // 서비스는 Collectors.toList() 로 만든 ArrayList 를 캐시한다
+        .attachments(new ArrayList<>(List.of(
+            FileDto.builder().id(7L).originalFileName("a.pdf").storedFileName("ab/cd/hash")
+                .filePath("/data/ab/cd/hash").contentHash("hash").size(2048L).build(),
+            FileDto.builder().id(8L).originalFileName("b.txt").storedFileName("uuid_b.txt")
+                .filePath("/data/uuid_b.txt").build())))
+        .build();
+  }
+
+  private static void assertSameNotice(NoticeDetailResponseDto expected,
+      NoticeDetailResponseDto actual) {
+    assertEquals(expected.getId(), actual.getId());
+    assertEquals(expected.getTitle(), actual.getTitle());
+    assertEquals(expected.getContent(), actual.getContent());
+    assertEquals(expected.getStartDate(), actual.getStartDate());
+    assertNull(actual.getEndDate());
+    assertEquals(expected.getCreatedAt(), actual.getCreatedAt());
+    assertEquals(expected.getViewCount(), actual.getViewCount());
+    assertEquals(expected.getAuthor(), actual.getAuthor());
+    assertEquals(expected.getVersion(), actual.getVersion());
+    assertEquals(expected.getUpdatedAt(), actual.getUpdatedAt());
+    assertEquals(2, actual.getAttachments().size());
+    FileDto first = actual.getAttachments().get(0);
+    assertEquals("ab/cd/hash", first.getStoredFileName());
+    assertEquals(2048L, first.getSize());
+    FileDto second = actual.getAttachments().get(1);
+    assertNull(second.getContentHash());
+    assertNull(second.getSize());
+  }
+
+  @Test
+  @DisplayName("작은 값은 압축 없이 버전 바이트와 함께 저장되고 그대로 복원된다")
+  void roundTrip_SmallValueIsStoredUncompressed() {
+    NoticeDetailResponseDto notice = notice("본문");
+
+    byte[] bytes = serializer.serialize(notice);
+
+    assertEquals(CompactCacheSerializer.VERSION, bytes[0]);
+    assertEquals(0, bytes[1]);
+    assertTrue(bytes.length < json.serialize(notice).length);
+    assertSameNotice(notice, (NoticeDetailResponseDto) serializer.deserialize(bytes));
+  }
+
+  @Test
+  @DisplayName("임계값을 넘는 값은 압축되어 원본보다 작게 저장된다")
+  void roundTrip_LargeValueIsDeflated() {
+    NoticeDetailResponseDto notice = notice("점검 시간 동안 서비스 이용이 제한됩니다. ".repeat(2_000));
+
+    byte[] bytes = serializer.serialize(notice);
+
+    assertEquals(1, bytes[1]);
+    assertTrue(bytes.length < notice.getContent().length());
+    assertSameNotice(notice, (NoticeDetailResponseDto) serializer.deserialize(bytes));
+  }
+
+  @Test
+  @DisplayName("목록 페이지와 태그가 없는 타입도 복원된다")
+  void roundTrip_ListAndFallbackTypes() {
+    List<NoticeResponseDto> page = List.of(
+        NoticeResponseDto.builder().id(1L).title("첫째").attachments(List.of()).build(),
+        NoticeResponseDto.builder().id(2L).title("둘째").build());
+
+    List<?> restored = (List<?>) serializer.deserialize(serializer.serialize(page));
+
+    assertEquals(2, restored.size());
+    NoticeResponseDto first = assertInstanceOf(NoticeResponseDto.class, restored.get(0));
+    assertEquals("첫째", first.getTitle());
+    assertTrue(first.getAttachments().isEmpty());
+    assertNull(((NoticeResponseDto) restored.get(1)).getAttachments());
+
+    Object other = serializer.deserialize(
+        serializer.serialize(new HashMap<>(Map.of("key", "value"))));
+    assertEquals(Map.of("key", "value"), other);
+  }
+
+  @Test
+  @DisplayName("배포 중 섞여 있는 JSON 값은 읽고, 알 수 없는 버전은 캐시 미스로 처리한다")
+  void deserialize_ReadsLegacyJsonAndSkipsUnknownVersions() {
+    NoticeDetailResponseDto notice = notice("본문");
+
+    Object legacy = serializer.deserialize(json.serialize(notice));
+    assertSameNotice(notice, (NoticeDetailResponseDto) legacy);
+
+    byte[] future = serializer.serialize(notice);
+    future[0] = (byte) (CompactCacheSerializer.VERSION + 1);
+    assertNull(serializer.deserialize(future));
+  }
+
+  @Test
+  @DisplayName("JSON 쓰기 모드는 기존 노드가 읽는 JSON 으로 저장하고, compact 값도 읽는다")
+  void jsonWriteMode_WritesJsonAndReadsBothFormats() {
+    CompactCacheSerializer jsonWriter = new CompactCacheSerializer(json, 1024, false);
+    NoticeDetailResponseDto notice = notice("본문");
+
+    byte[] written = jsonWriter.serialize(notice);
+    assertSameNotice(notice, (NoticeDetailResponseDto) json.deserialize(written));
+    assertSameNotice(notice,
+        (NoticeDetailResponseDto) jsonWriter.deserialize(serializer.serialize(notice)));
+  }
+
+  @Test
+  @DisplayName("만료 시각과 계산 시간을 담은 캐시 항목도 두 형식 모두에서 복원된다")
+  void roundTrip_CacheEntry() {
+    CacheEntry entry = new CacheEntry(notice("본문"), 1_700_000_000_000L, 35);
+
+    for (Object restored : List.of(serializer.deserialize(serializer.serialize(entry)),
+        json.deserialize(json.serialize(entry)))) {
+      CacheEntry actual = assertInstanceOf(CacheEntry.class, restored);
+      assertEquals(entry.getExpiresAt(), actual.getExpiresAt());
+      assertEquals(entry.getComputeMillis(), actual.getComputeMillis());
+      assertSameNotice((NoticeDetailResponseDto) entry.getValue(),
+          (NoticeDetailResponseDto) actual.getValue());
+    }
+  }
+}
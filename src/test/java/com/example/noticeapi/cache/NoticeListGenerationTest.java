@@ -0,0 +1,68 @@
+package com.example.noticeapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+class NoticeListGenerationTest {
+
+  private NoticeListGeneration noticeListGeneration;
+
+  @BeforeEach
+  void setUp() {
+    noticeListGeneration = new NoticeListGeneration(new ConcurrentMapCacheManager());
+  }
+
+  @Test
+  @DisplayName("쓰기가 없으면 같은 세대 키를 유지")
+  void key_StableWithoutWrites() {
+    String first = noticeListGeneration.key("page", 0, 10);
+    String second = noticeListGeneration.key("page", 0, 10);
+
+    assertEquals(first, second);
+    assertTrue(first.endsWith(":page:0:10"));
+  }
+
+  @Test
+  @DisplayName("구분자를 포함한 조건끼리 키가 겹치지 않음")
+  void key_EscapesSeparator() {
+    assertNotEquals(noticeListGeneration.key("search", "a:b", "c"),
+        noticeListGeneration.key("search", "a", "b:c"));
+  }
+
+  @Test
+  @DisplayName("없는 조건과 문자열 null 조건의 키가 다름")
+  void key_DistinguishesNullFromLiteral() {
+    assertNotEquals(noticeListGeneration.key("search", null, 0),
+        noticeListGeneration.key("search", "null", 0));
+    assertNotEquals(noticeListGeneration.key("search", null, 0),
+        noticeListGeneration.key("search", "~", 0));
+  }
+
+  @Test
+  @DisplayName("세대 변경 후 이전 목록 키에 도달 불가")
+  void advance_ChangesGeneration() {
+    String before = noticeListGeneration.key("page", 0, 10);
+
+    noticeListGeneration.advance();
+
+    assertNotEquals(before, noticeListGeneration.key("page", 0, 10));
+  }
+
+  @Test
+  @DisplayName("세대가 바뀌어도 목록의 마지막 변경 시각은 뒤로 가지 않음")
+  void lastModified_FollowsGeneration() {
+    long before = System.currentTimeMillis();
+    long first = noticeListGeneration.lastModified();
+
+    noticeListGeneration.advance();
+
+    assertTrue(first >= before);
+    assertTrue(noticeListGeneration.lastModified() >= first);
+  }
+}
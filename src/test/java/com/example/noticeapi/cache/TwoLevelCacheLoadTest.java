@@ -0,0 +1,211 @@
+package com.example.noticeapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class TwoLevelCacheLoadTest {
+
+  private static final CacheInvalidationBus NO_BUS = new CacheInvalidationBus() {
+    @Override
+    public void publish(String cacheName, String key) {
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+    }
+  };
+
+  private final ConcurrentMapCache remoteCache = new ConcurrentMapCache("notices");
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(16);
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  private TwoLevelCache cache(CacheLoadPolicy policy, CacheLease lease) {
+    return new TwoLevelCache("notices",
+        Caffeine.newBuilder().maximumSize(100).<String, Object>build(), remoteCache, NO_BUS,
+        policy, lease);
+  }
+
+  private static CacheLoadPolicy policy(double beta) {
+    return new CacheLoadPolicy(Duration.ofMinutes(10), 0.1, beta, Duration.ofSeconds(2));
+  }
+
+  @Test
+  @DisplayName("같은 키의 동시 미스는 한 번만 원본을 읽는다")
+  void concurrentMisses_LoadOnce() throws Exception {
+    TwoLevelCache cache = cache(policy(1.0), CacheLease.NONE);
+    AtomicInteger loads = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+
+    List<Future<String>> results = new ArrayList<>();
+    for (int i = 0; i < 16; i++) {
+      results.add(executor.submit(() -> {
+        start.await();
+        return cache.get(1L, () -> {
+          loads.incrementAndGet();
+          Thread.sleep(50);
+          return "v1";
+        });
+      }));
+    }
+    start.countDown();
+
+    for (Future<String> result : results) {
+      assertEquals("v1", result.get(5, TimeUnit.SECONDS));
+    }
+    assertEquals(1, loads.get());
+    assertInstanceOf(CacheEntry.class, remoteCache.get(1L).get());
+  }
+
+  @Test
+  @DisplayName("적재 중인 키의 삭제는 적재를 기다리지 않고, 적재된 값은 L1 에 남지 않는다")
+  void evictDuringLoad_DoesNotBlockAndDropsLoadedValue() throws Exception {
+    com.github.benmanes.caffeine.cache.Cache<String, Object> localCache =
+        Caffeine.newBuilder().maximumSize(100).build();
+    TwoLevelCache cache = new TwoLevelCache("notices", localCache, remoteCache, NO_BUS,
+        policy(1.0), CacheLease.NONE);
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch finishLoad = new CountDownLatch(1);
+
+    Future<String> result = executor.submit(() -> cache.get(1L, () -> {
+      loadStarted.countDown();
+      finishLoad.await();
+      return "v1";
+    }));
+    assertTrue(loadStarted.await(5, TimeUnit.SECONDS));
+
+    Future<?> evicted = executor.submit(() -> cache.evict(1L));
+    evicted.get(1, TimeUnit.SECONDS);
+    finishLoad.countDown();
+
+    assertEquals("v1", result.get(5, TimeUnit.SECONDS));
+    assertNull(localCache.getIfPresent("1"));
+  }
+
+  @Test
+  @DisplayName("다른 노드가 임대를 가지고 있으면 원본 대신 L2 에 올라온 값을 기다려 읽는다")
+  void leaseHeldByOtherNode_WaitsForRemoteValue() throws Exception {
+    CacheLease heldElsewhere = new CacheLease() {
+      @Override
+      public String tryAcquire(String cacheName, String key) {
+        return null;
+      }
+
+      @Override
+      public void release(String cacheName, String key, String token) {
+      }
+    };
+    TwoLevelCache cache = cache(policy(1.0), heldElsewhere);
+    AtomicInteger loads = new AtomicInteger();
+
+    Future<String> result = executor.submit(() -> cache.get(1L, () -> {
+      loads.incrementAndGet();
+      return "local";
+    }));
+    Thread.sleep(100);
+    remoteCache.put(1L, policy(1.0).wrap("remote", 5));
+
+    assertEquals("remote", result.get(5, TimeUnit.SECONDS));
+    assertEquals(0, loads.get());
+    assertEquals(1, cache.getLeaseWaits());
+  }
+
+  @Test
+  @DisplayName("만료 시각에 이른 항목은 한 번만 다시 계산하고 갱신된 값을 L2 에 저장한다")
+  void expiring_RefreshesOnce() {
+    TwoLevelCache cache = cache(policy(1.0), CacheLease.NONE);
+    remoteCache.put(1L, new CacheEntry("v1", System.currentTimeMillis(), 60_000));
+    AtomicInteger loads = new AtomicInteger();
+
+    String first = cache.get(1L, () -> {
+      loads.incrementAndGet();
+      return "v2";
+    });
+    String second = cache.get(1L, () -> {
+      loads.incrementAndGet();
+      return "v3";
+    });
+
+    assertEquals("v2", first);
+    assertEquals("v2", second);
+    assertEquals(1, loads.get());
+    assertEquals(1, cache.getEarlyRefreshes());
+    assertEquals("v2", CacheEntry.unwrap(remoteCache.get(1L).get()));
+  }
+
+  @Test
+  @DisplayName("조기 갱신이 실패하면 기존 값을 그대로 돌려준다")
+  void earlyRefreshFailure_ServesCachedValue() {
+    TwoLevelCache cache = cache(policy(1.0), CacheLease.NONE);
+    remoteCache.put(1L, new CacheEntry("v1", System.currentTimeMillis(), 60_000));
+
+    String value = cache.get(1L, () -> {
+      throw new IllegalStateException("replica unavailable");
+    });
+
+    assertEquals("v1", value);
+  }
+
+  @Test
+  @DisplayName("계산 시간이 짧고 만료가 먼 항목은 미리 갱신하지 않는다")
+  void farFromExpiry_DoesNotRefresh() {
+    CacheLoadPolicy policy = policy(1.0);
+    CacheEntry entry = new CacheEntry("v1", System.currentTimeMillis() + 600_000, 0);
+
+    for (int i = 0; i < 1000; i++) {
+      assertFalse(policy.shouldRefreshEarly(entry));
+    }
+  }
+
+  @Test
+  @DisplayName("TTL 은 지정한 비율 안에서 흩어진다")
+  void ttl_IsJitteredWithinBounds() {
+    CacheLoadPolicy policy = policy(1.0);
+    long base = Duration.ofMinutes(10).toMillis();
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < 1000; i++) {
+      long ttl = policy.jitteredTtlMillis();
+      min = Math.min(min, ttl);
+      max = Math.max(max, ttl);
+    }
+
+    assertTrue(min >= base * 0.9 && max <= base * 1.1);
+    assertTrue(max - min > base * 0.1);
+  }
+
+  @Test
+  @DisplayName("직접 넣은 값은 감싸서 저장하되 조회할 때는 원래 값을 돌려준다")
+  void put_StoresEntryButReturnsValue() {
+    TwoLevelCache cache = cache(policy(1.0), CacheLease.NONE);
+
+    cache.put(1L, "v1");
+
+    assertEquals("v1", cache.get(1L, String.class));
+    assertInstanceOf(CacheEntry.class, remoteCache.get(1L).get());
+    assertEquals("v1", cache.putIfAbsent(1L, "v2").get());
+  }
+}
@@ -0,0 +1,172 @@
+package com.example.noticeapi.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+class TwoLevelCacheManagerTest {
+
+  // 두 노드가 공유하는 Redis 대역: L2 저장소와 pub/sub 채널
+  private static final ConcurrentMapCacheManager sharedRemoteCacheManager =
+      new ConcurrentMapCacheManager();
+  private static final InMemoryInvalidationBroker sharedBroker = new InMemoryInvalidationBroker();
+  private static final AtomicReference<String> database = new AtomicReference<>();
+
+  private AnnotationConfigApplicationContext nodeA;
+  private AnnotationConfigApplicationContext nodeB;
+
+  @BeforeEach
+  void setUp() {
+    sharedRemoteCacheManager.getCacheNames()
+        .forEach(name -> sharedRemoteCacheManager.getCache(name).clear());
+    database.set("v1");
+    nodeA = new AnnotationConfigApplicationContext(NodeConfig.class);
+    nodeB = new AnnotationConfigApplicationContext(NodeConfig.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    nodeA.close();
+    nodeB.close();
+  }
+
+  @Test
+  @DisplayName("다른 노드의 L2 적재 값을 읽고 L1 에 보관")
+  void read_PopulatesLocalTierFromSharedRemote() {
+    NoticeReader readerA = nodeA.getBean(NoticeReader.class);
+    NoticeReader readerB = nodeB.getBean(NoticeReader.class);
+
+    assertEquals("v1", readerA.read(1L));
+    assertEquals("v1", readerB.read(1L));
+    assertEquals("v1", readerB.read(1L));
+
+    assertEquals(1, readerA.getLoads());
+    assertEquals(0, readerB.getLoads());
+    TwoLevelCache cacheB = (TwoLevelCache) nodeB.getBean(TwoLevelCacheManager.class)
+        .getCache("notices");
+    assertEquals(1, cacheB.getLocalStats().getHits());
+    assertEquals(1, cacheB.getLocalStats().getMisses());
+    assertEquals(1, cacheB.getRemoteStats().getHits());
+  }
+
+  @Test
+  @DisplayName("한 노드의 캐시 삭제가 다른 노드의 L1 까지 전파")
+  void evict_InvalidatesLocalTierOnOtherNode() {
+    NoticeReader readerA = nodeA.getBean(NoticeReader.class);
+    NoticeReader readerB = nodeB.getBean(NoticeReader.class);
+    readerA.read(1L);
+    readerB.read(1L);
+
+    readerA.update(1L, "v2");
+
+    assertEquals("v2", readerB.read(1L));
+    assertEquals(1, readerB.getLoads());
+    assertEquals("v2", readerA.read(1L));
+  }
+
+  @Test
+  @DisplayName("캐시 이름별 적중, 미스, 적재, 삭제 횟수를 메트릭으로 노출")
+  void metrics_CountGetsPutsAndEvictionsPerCache() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    nodeA.getBean(TwoLevelCacheManager.class).bindTo(registry);
+    NoticeReader readerA = nodeA.getBean(NoticeReader.class);
+
+    readerA.read(1L);
+    readerA.read(1L);
+    readerA.update(1L, "v2");
+
+    assertEquals(1.0, registry.get("cache.gets").tags("cache", "notices", "result", "hit")
+        .functionCounter().count());
+    assertEquals(1.0, registry.get("cache.gets").tags("cache", "notices", "result", "miss")
+        .functionCounter().count());
+    assertEquals(1.0, registry.get("cache.puts").tag("cache", "notices")
+        .functionCounter().count());
+    assertEquals(1.0, registry.get("cache.evictions").tag("cache", "notices")
+        .functionCounter().count());
+  }
+
+  @Configuration
+  @EnableCaching
+  static class NodeConfig {
+
+    @Bean
+    public TwoLevelCacheManager cacheManager() {
+      Caffeine<Object, Object> localCacheBuilder = Caffeine.newBuilder()
+          .maximumSize(100)
+          .expireAfterWrite(Duration.ofMinutes(1));
+      return new TwoLevelCacheManager(sharedRemoteCacheManager, localCacheBuilder,
+          sharedBroker.join());
+    }
+
+    @Bean
+    public NoticeReader noticeReader() {
+      return new NoticeReader();
+    }
+  }
+
+  public static class NoticeReader {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Cacheable(value = "notices", key = "#id")
+    public String read(Long id) {
+      loads.incrementAndGet();
+      return database.get();
+    }
+
+    @CacheEvict(value = "notices", key = "#id")
+    public void update(Long id, String title) {
+      database.set(title);
+    }
+
+    public int getLoads() {
+      return loads.get();
+    }
+  }
+
+  static class InMemoryInvalidationBroker {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    CacheInvalidationBus join() {
+      String nodeId = UUID.randomUUID().toString();
+      return new CacheInvalidationBus() {
+        @Override
+        public void publish(String cacheName, String key) {
+          CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, cacheName, key);
+          subscriptions.stream()
+              .filter(subscription -> !subscription.nodeId().equals(nodeId))
+              .forEach(subscription -> subscription.listener().accept(message));
+        }
+
+        @Override
+        public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+          subscriptions.add(new Subscription(nodeId, listener));
+        }
+      };
+    }
+
+    private record Subscription(String nodeId, Consumer<CacheInvalidationMessage> listener) {
+
+    }
+  }
+}
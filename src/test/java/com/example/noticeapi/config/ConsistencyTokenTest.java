@@ -0,0 +1,106 @@
+package com.example.noticeapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import jakarta.servlet.http.Cookie;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class ConsistencyTokenTest {
+
+  private DatabaseProperties databaseProperties;
+
+  private ConsistencyTokenFilter filter;
+
+  private ConsistencyTokenIssuer issuer;
+
+  @BeforeEach
+  void setUp() {
+    databaseProperties = new DatabaseProperties();
+    databaseProperties.getReplicaRouting().getReadYourWrites().setEnabled(true);
+    filter = new ConsistencyTokenFilter(databaseProperties);
+    issuer = new ConsistencyTokenIssuer(databaseProperties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    RequestContextHolder.resetRequestAttributes();
+    DataSourceContextHolder.clearReadAfter();
+  }
+
+  private Long readAfterDuring(MockHttpServletRequest request) throws Exception {
+    AtomicReference<Long> readAfter = new AtomicReference<>();
+    filter.doFilter(request, new MockHttpServletResponse(),
+        (req, res) -> readAfter.set(DataSourceContextHolder.getReadAfter()));
+    assertNull(DataSourceContextHolder.getReadAfter());
+    return readAfter.get();
+  }
+
+  @Test
+  @DisplayName("쓰기 트랜잭션 커밋 후 응답에 토큰을 헤더와 쿠키로 내려준다")
+  void afterCommit_StampsResponse() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    TransactionExecution transaction = mock(TransactionExecution.class);
+    when(transaction.isReadOnly()).thenReturn(false);
+
+    issuer.afterCommit(transaction, null);
+
+    String token = response.getHeader("X-Consistency-Token");
+    assertNotNull(token);
+    assertEquals(token, response.getCookie("consistency-token").getValue());
+    assertEquals(Long.valueOf(token), DataSourceContextHolder.getReadAfter());
+  }
+
+  @Test
+  @DisplayName("읽기 전용 트랜잭션은 토큰을 내려주지 않는다")
+  void afterCommit_IgnoresReadOnly() {
+    MockHttpServletResponse response = new MockHttpServletResponse();
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest(), response));
+    TransactionExecution transaction = mock(TransactionExecution.class);
+    when(transaction.isReadOnly()).thenReturn(true);
+
+    issuer.afterCommit(transaction, null);
+
+    assertNull(response.getHeader("X-Consistency-Token"));
+  }
+
+  @Test
+  @DisplayName("일관성 구간 안의 토큰은 헤더나 쿠키로 받아 읽기 기준 시각으로 쓴다")
+  void filter_AppliesRecentToken() throws Exception {
+    long commitTimestamp = System.currentTimeMillis();
+    MockHttpServletRequest headerRequest = new MockHttpServletRequest();
+    headerRequest.addHeader("X-Consistency-Token", Long.toString(commitTimestamp));
+    MockHttpServletRequest cookieRequest = new MockHttpServletRequest();
+    cookieRequest.setCookies(new Cookie("consistency-token", Long.toString(commitTimestamp)));
+
+    assertEquals(commitTimestamp, readAfterDuring(headerRequest));
+    assertEquals(commitTimestamp, readAfterDuring(cookieRequest));
+  }
+
+  @Test
+  @DisplayName("구간이 지났거나 잘못된 토큰은 무시한다")
+  void filter_IgnoresExpiredOrInvalidToken() throws Exception {
+    MockHttpServletRequest expired = new MockHttpServletRequest();
+    expired.addHeader("X-Consistency-Token", Long.toString(System.currentTimeMillis() - 60_000));
+    MockHttpServletRequest invalid = new MockHttpServletRequest();
+    invalid.addHeader("X-Consistency-Token", "not-a-token");
+
+    assertNull(readAfterDuring(expired));
+    assertNull(readAfterDuring(invalid));
+  }
+}
@@ -0,0 +1,102 @@
+package com.example.noticeapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.example.noticeapi.config.ReplicaSelector.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+class HikariPoolSettingsTest {
+
+  private final List<HikariDataSource> pools = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    pools.forEach(HikariDataSource::close);
+  }
+
+  private HikariDataSource pool(String name, DatabaseProperties.DataSourceProperties properties) {
+    HikariDataSource dataSource = DatabaseConfig.createDataSource(name, properties);
+    pools.add(dataSource);
+    return dataSource;
+  }
+
+  private DatabaseProperties.DataSourceProperties h2(String name) {
+    DatabaseProperties.DataSourceProperties properties = new DatabaseProperties.DataSourceProperties();
+    properties.setUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+    properties.setUsername("sa");
+    properties.setDriverClassName("org.h2.Driver");
+    properties.setMaximumPoolSize(3);
+    properties.setMinimumIdle(1);
+    return properties;
+  }
+
+  @Test
+  @DisplayName("역할별 풀 설정이 Hikari 에 그대로 적용된다")
+  void testPoolSettingsApplied() {
+    DatabaseProperties.DataSourceProperties properties = h2("settings");
+    properties.setConnectionTimeout(Duration.ofSeconds(2));
+    properties.setIdleTimeout(Duration.ofMinutes(5));
+    properties.setMaxLifetime(Duration.ofMinutes(20));
+    properties.setLeakDetectionThreshold(Duration.ofSeconds(15));
+    properties.setStatementCacheSize(250);
+    properties.setStatementCacheSqlLimit(2048);
+
+    HikariDataSource dataSource = pool("master", properties);
+
+    assertEquals("master", dataSource.getPoolName());
+    assertEquals(3, dataSource.getMaximumPoolSize());
+    assertEquals(1, dataSource.getMinimumIdle());
+    assertEquals(2000, dataSource.getConnectionTimeout());
+    assertEquals(300_000, dataSource.getIdleTimeout());
+    assertEquals(1_200_000, dataSource.getMaxLifetime());
+    assertEquals(15_000, dataSource.getLeakDetectionThreshold());
+    assertEquals("true", dataSource.getDataSourceProperties().get("cachePrepStmts"));
+    assertEquals(250, dataSource.getDataSourceProperties().get("prepStmtCacheSize"));
+    assertEquals(2048, dataSource.getDataSourceProperties().get("prepStmtCacheSqlLimit"));
+  }
+
+  @Test
+  @DisplayName("라우팅 뒤의 모든 풀이 pool 태그로 메트릭과 엔드포인트에 노출된다")
+  void testPoolMetricsExposed() throws SQLException {
+    HikariDataSource master = pool(ReplicationRoutingDataSource.MASTER, h2("master"));
+    HikariDataSource replica = pool("replica-0", h2("replica"));
+    ReplicaSelector replicaSelector = new ReplicaSelector(
+        List.of(new Replica("replica-0", replica)), ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource routingDataSource =
+        new ReplicationRoutingDataSource(replicaSelector);
+    routingDataSource.setTargetDataSources(Map.of(
+        ReplicationRoutingDataSource.MASTER, master, "replica-0", replica));
+    routingDataSource.setDefaultTargetDataSource(master);
+    routingDataSource.afterPropertiesSet();
+    DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new DatabaseConfig().hikariPoolMetrics(dataSource).bindTo(registry);
+    try (Connection ignored = master.getConnection()) {
+      assertEquals(1.0, registry.get("hikaricp.connections.active")
+          .tag("pool", ReplicationRoutingDataSource.MASTER).gauge().value());
+    }
+    try (Connection ignored = replica.getConnection()) {
+      assertNotNull(registry.get("hikaricp.connections.acquire").tag("pool", "replica-0").timer());
+    }
+
+    Map<String, Map<String, Object>> snapshot = new DataSourcePoolsEndpoint(dataSource).pools();
+    assertEquals(List.of(ReplicationRoutingDataSource.MASTER, "replica-0"),
+        List.copyOf(snapshot.keySet()));
+    assertEquals(3, snapshot.get("replica-0").get("maximumPoolSize"));
+    assertEquals(0, snapshot.get(ReplicationRoutingDataSource.MASTER).get("active"));
+  }
+}
@@ -0,0 +1,274 @@
+package com.example.noticeapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.config.ReplicaSelector.Replica;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplicationRoutingDataSourceTest {
+
+  private static final String LAG_QUERY = "SELECT seconds FROM replication_lag";
+
+  private final List<HikariDataSource> pools = new ArrayList<>();
+
+  private HikariDataSource master;
+
+  private List<Replica> replicas;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    master = embeddedDatabase("master");
+    replicas = List.of(new Replica("replica-0", embeddedDatabase("replica-0")),
+        new Replica("replica-1", embeddedDatabase("replica-1")));
+  }
+
+  @AfterEach
+  void tearDown() {
+    DataSourceContextHolder.clearDataSourceType();
+    DataSourceContextHolder.clearReadAfter();
+    pools.forEach(HikariDataSource::close);
+  }
+
+  private HikariDataSource embeddedDatabase(String name) throws SQLException {
+    HikariDataSource dataSource = new HikariDataSource();
+    dataSource.setPoolName(name);
+    dataSource.setJdbcUrl("jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+    dataSource.setUsername("sa");
+    dataSource.setMaximumPoolSize(2);
+    dataSource.setConnectionTimeout(1000);
+    pools.add(dataSource);
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE node (name VARCHAR(32))");
+      statement.execute("INSERT INTO node VALUES ('" + name + "')");
+      statement.execute("CREATE TABLE replication_lag (seconds BIGINT)");
+      statement.execute("INSERT INTO replication_lag VALUES (0)");
+    }
+    return dataSource;
+  }
+
+  private ReplicationRoutingDataSource routingDataSource(ReplicaSelector replicaSelector) {
+    ReplicationRoutingDataSource routingDataSource =
+        new ReplicationRoutingDataSource(replicaSelector);
+    Map<Object, Object> targets = new HashMap<>();
+    targets.put(ReplicationRoutingDataSource.MASTER, master);
+    replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+    routingDataSource.setTargetDataSources(targets);
+    routingDataSource.setDefaultTargetDataSource(master);
+    routingDataSource.afterPropertiesSet();
+    return routingDataSource;
+  }
+
+  private ReplicaHealthChecker healthChecker(ReplicaSelector replicaSelector) {
+    return healthChecker(replicaSelector, false);
+  }
+
+  private ReplicaHealthChecker healthChecker(ReplicaSelector replicaSelector,
+      boolean tolerateUnreadableLag) {
+    return new ReplicaHealthChecker(replicaSelector, Duration.ofSeconds(1), 10, LAG_QUERY,
+        tolerateUnreadableLag);
+  }
+
+  private void dropLagTable(Replica replica) throws SQLException {
+    try (Connection connection = replica.getDataSource().getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE replication_lag");
+    }
+  }
+
+  private static String readNode(ReplicationRoutingDataSource dataSource) throws SQLException {
+    try (Connection connection = dataSource.getConnection();
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT name FROM node")) {
+      resultSet.next();
+      return resultSet.getString(1);
+    }
+  }
+
+  private void setLag(Replica replica, long seconds) throws SQLException {
+    try (Connection connection = replica.getDataSource().getConnection();
+        Statement statement = connection.createStatement()) {
+      statement.execute("UPDATE replication_lag SET seconds = " + seconds);
+    }
+  }
+
+  @Test
+  @DisplayName("읽기 전용 요청은 복제본에 번갈아 분산되고 복제본별로 집계된다")
+  void slaveReads_RoundRobinAcrossReplicas() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    List<String> nodes = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      nodes.add(readNode(dataSource));
+    }
+
+    assertEquals(List.of("replica-0", "replica-1", "replica-0", "replica-1"), nodes);
+    assertEquals(2, replicas.get(0).getRoutedCount());
+    assertEquals(2, replicas.get(1).getRoutedCount());
+  }
+
+  @Test
+  @DisplayName("쓰기 요청은 복제본을 고르지 않고 마스터로 간다")
+  void masterWrites_SkipReplicas() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.MASTER);
+
+    assertEquals("master", readNode(routingDataSource(replicaSelector)));
+    assertEquals(0, replicas.get(0).getRoutedCount() + replicas.get(1).getRoutedCount());
+  }
+
+  @Test
+  @DisplayName("복제 지연이 기준을 넘은 복제본은 라우팅에서 제외되고, 따라잡으면 복귀한다")
+  void healthCheck_RemovesLaggingReplica() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    ReplicaHealthChecker healthChecker = healthChecker(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    setLag(replicas.get(1), 60);
+    healthChecker.check();
+
+    assertFalse(replicas.get(1).isHealthy());
+    assertEquals(60, replicas.get(1).getLagSeconds());
+    for (int i = 0; i < 3; i++) {
+      assertEquals("replica-0", readNode(dataSource));
+    }
+
+    setLag(replicas.get(1), 0);
+    healthChecker.check();
+    assertTrue(replicas.get(1).isHealthy());
+  }
+
+  @Test
+  @DisplayName("접속할 수 없는 복제본은 제외되고, 건강한 복제본이 없으면 마스터에서 읽는다")
+  void healthCheck_FallsBackToMasterWhenNoReplicaIsHealthy() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    ReplicaHealthChecker healthChecker = healthChecker(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    ((HikariDataSource) replicas.get(0).getDataSource()).close();
+    setLag(replicas.get(1), 60);
+    healthChecker.check();
+
+    assertFalse(replicas.get(0).isHealthy());
+    assertFalse(replicas.get(1).isHealthy());
+    assertEquals("master", readNode(dataSource));
+    assertEquals(1, replicaSelector.getMasterFallbacks());
+  }
+
+  @Test
+  @DisplayName("지연을 읽을 수 없는 복제본은 기본적으로 라우팅에서 제외된다")
+  void healthCheck_RemovesReplicaWhenLagIsUnreadable() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(List.of(replicas.get(0)),
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    ReplicaHealthChecker healthChecker = healthChecker(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    dropLagTable(replicas.get(0));
+    healthChecker.check();
+
+    assertFalse(replicas.get(0).isHealthy());
+    assertTrue(replicas.get(0).isLagUnreadable());
+    assertEquals("master", readNode(dataSource));
+  }
+
+  @Test
+  @DisplayName("허용하면 지연을 읽을 수 없는 복제본을 라우팅에 남기고 read-your-writes 대상에서만 뺀다")
+  void healthCheck_KeepsReplicaWhenUnreadableLagIsTolerated() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(List.of(replicas.get(0)),
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    ReplicaHealthChecker healthChecker = healthChecker(replicaSelector, true);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    dropLagTable(replicas.get(0));
+    healthChecker.check();
+
+    assertTrue(replicas.get(0).isHealthy());
+    assertTrue(replicas.get(0).isLagUnreadable());
+    assertEquals(-1, replicas.get(0).getLagSeconds());
+    assertEquals("replica-0", readNode(dataSource));
+
+    DataSourceContextHolder.setReadAfter(System.currentTimeMillis() - 60_000);
+    assertEquals("master", readNode(dataSource));
+  }
+
+  @Test
+  @DisplayName("least-active 전략은 사용 중인 커넥션이 적은 복제본을 고른다")
+  void leastActive_PrefersIdleReplica() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.LEAST_ACTIVE);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    try (Connection busy = replicas.get(0).getDataSource().getConnection()) {
+      assertEquals("replica-1", readNode(dataSource));
+      assertEquals("replica-1", readNode(dataSource));
+    }
+  }
+
+  @Test
+  @DisplayName("직전 쓰기 이후로는 그 커밋을 반영했다고 확인된 복제본이나 마스터에서만 읽는다")
+  void readAfterWrite_RoutesToMasterUntilReplicaCatchesUp() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    ReplicaHealthChecker healthChecker = healthChecker(replicaSelector);
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+
+    long commitTimestamp = System.currentTimeMillis();
+    DataSourceContextHolder.setReadAfter(commitTimestamp);
+    healthChecker.check();
+
+    assertEquals("master", readNode(dataSource));
+    assertEquals(1, replicaSelector.getReadYourWritesFallbacks());
+
+    DataSourceContextHolder.setReadAfter(commitTimestamp - 60_000);
+    assertTrue(readNode(dataSource).startsWith("replica-"));
+
+    DataSourceContextHolder.clearReadAfter();
+    assertTrue(readNode(dataSource).startsWith("replica-"));
+  }
+
+  @Test
+  @DisplayName("감사 모드는 SQL 문마다 요청된 라우팅 키와 실제 풀을 집계한다")
+  void audit_RecordsRequestedAndActualPool() throws SQLException {
+    ReplicaSelector replicaSelector = new ReplicaSelector(replicas,
+        ReplicaSelector.Strategy.ROUND_ROBIN);
+    ReplicationRoutingDataSource dataSource = routingDataSource(replicaSelector);
+    RoutingAudit routingAudit = new RoutingAudit(() -> null);
+    dataSource.setRoutingAudit(routingAudit);
+
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+    readNode(dataSource);
+    readNode(dataSource);
+    DataSourceContextHolder.clearDataSourceType();
+    assertEquals("master", readNode(dataSource));
+
+    assertEquals(Map.of("slave->replica-0", 1L, "slave->replica-1", 1L, "unset->master", 1L),
+        routingAudit.getStatementCounts());
+  }
+}
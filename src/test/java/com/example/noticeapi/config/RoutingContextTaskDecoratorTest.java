@@ -0,0 +1,72 @@
+package com.example.noticeapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+class RoutingContextTaskDecoratorTest {
+
+  private final RoutingContextTaskDecorator taskDecorator = new RoutingContextTaskDecorator();
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newSingleThreadExecutor();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+    DataSourceContextHolder.clearDataSourceType();
+    DataSourceContextHolder.clearReadAfter();
+    MDC.clear();
+  }
+
+  @Test
+  @DisplayName("제출한 스레드의 라우팅 키와 MDC 가 실행 스레드에 전달된다")
+  void decorate_PropagatesContext() throws Exception {
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.SLAVE);
+    DataSourceContextHolder.setReadAfter(1234L);
+    MDC.put("traceId", "abc");
+    String[] seen = new String[3];
+
+    Runnable task = taskDecorator.decorate(() -> {
+      seen[0] = DataSourceContextHolder.getDataSourceType();
+      seen[1] = String.valueOf(DataSourceContextHolder.getReadAfter());
+      seen[2] = MDC.get("traceId");
+    });
+    CompletableFuture.runAsync(task, executor).get(1, TimeUnit.SECONDS);
+
+    assertEquals(ReplicationRoutingDataSource.SLAVE, seen[0]);
+    assertEquals("1234", seen[1]);
+    assertEquals("abc", seen[2]);
+  }
+
+  @Test
+  @DisplayName("작업이 끝나면 실행 스레드의 컨텍스트는 원래대로 돌아간다")
+  void decorate_RestoresWorkerContext() throws Exception {
+    DataSourceContextHolder.setDataSourceType(ReplicationRoutingDataSource.MASTER);
+    Runnable task = taskDecorator.decorate(() -> { });
+    DataSourceContextHolder.clearDataSourceType();
+
+    CompletableFuture.runAsync(task, executor).get(1, TimeUnit.SECONDS);
+    String[] after = new String[2];
+    CompletableFuture.runAsync(() -> {
+      after[0] = DataSourceContextHolder.getDataSourceType();
+      after[1] = MDC.get("traceId");
+    }, executor).get(1, TimeUnit.SECONDS);
+
+    assertNull(after[0]);
+    assertNull(after[1]);
+  }
+}
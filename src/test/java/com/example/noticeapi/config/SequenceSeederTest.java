@@ -0,0 +1,57 @@
+package com.example.noticeapi.config;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.repository.NoticeRepository;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 시퀀스 재시작은 DDL 이라 바로 커밋되므로 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(SequenceSeeder.class)
+class SequenceSeederTest {
+
+  @Autowired
+  private SequenceSeeder sequenceSeeder;
+
+  @Autowired
+  private NoticeRepository noticeRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @AfterEach
+  void tearDown() {
+    noticeRepository.deleteAllInBatch();
+  }
+
+  @Test
+  @DisplayName("IDENTITY 로 쌓인 기존 id 보다 시퀀스가 뒤처져 있으면 MAX(id) 위로 당겨 맞춤")
+  void seed_AdvancesSequencePastExistingIds() {
+    Timestamp createdAt = Timestamp.valueOf(LocalDateTime.of(2024, 1, 1, 0, 0));
+    jdbcTemplate.update("INSERT INTO notice (id, title, content, author, created_at, "
+        + "updated_at, view_count, is_deleted, version) "
+        + "VALUES (1000, 'Legacy', 'Content', 'Author', ?, ?, 0, FALSE, 0)", createdAt, createdAt);
+
+    sequenceSeeder.seed();
+    Notice saved = noticeRepository.saveAndFlush(Notice.builder()
+        .title("New")
+        .content("Content")
+        .author("Author")
+        .createdAt(LocalDateTime.now())
+        .build());
+
+    assertTrue(saved.getId() > 1000);
+  }
+}
@@ -1,5 +1,11 @@
 package com.example.noticeapi.controller;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -7,59 +13,151 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.noticeapi.download.CachedFile;
+import com.example.noticeapi.download.FileRangeSender;
+import com.example.noticeapi.download.HotFileCache;
 import com.example.noticeapi.dto.FileDto;
 import com.example.noticeapi.exception.FileNotFoundException;
 import com.example.noticeapi.service.FileStorageService;
-import java.util.concurrent.CompletableFuture;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 @WebMvcTest(FileDownloadController.class)
+@Import(FileRangeSender.class)
 public class FileDownloadControllerTest {
 
+  private static final String CONTENT = "This is a test file content";
+
+  private static final String ETAG = "\"0123abcd\"";
+
   @Autowired
   private MockMvc mockMvc;
 
   @MockBean
   private FileStorageService fileStorageService;
 
-  @InjectMocks
-  private FileDownloadController fileDownloadController;
+  @MockBean
+  private HotFileCache hotFileCache;
+
+  @TempDir
+  Path tempDir;
 
   @BeforeEach
-  public void setUp(WebApplicationContext webApplicationContext) {
+  public void setUp(WebApplicationContext webApplicationContext) throws Exception {
     this.mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
-  }
 
-  @Test
-  public void downloadFile_Success() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("test.txt"), CONTENT);
     FileDto fileDto = FileDto.builder()
         .id(1L)
         .originalFileName("test.txt")
         .storedFileName("test.txt")
-        .filePath("path/to/test.txt")
+        .filePath(file.toString())
+        .contentHash("0123abcd")
         .build();
-
-    Resource resource = new ByteArrayResource("This is a test file content".getBytes());
-
     when(fileStorageService.getFileDtoById(1L)).thenReturn(fileDto);
-    when(fileStorageService.loadFileAsResource("test.txt")).thenReturn(
-        CompletableFuture.completedFuture(resource));
+    when(fileStorageService.resolveStoredFile("test.txt")).thenReturn(file);
+  }
 
+  @Test
+  public void downloadFile_Success() throws Exception {
     mockMvc.perform(get("/files/download/1"))
         .andExpect(status().isOk())
-        .andExpect(content().contentType("application/json"))
-        .andExpect(header().string("Content-Disposition", "attachment; filename=\"test.txt\""))
-        .andExpect(content().bytes("This is a test file content".getBytes()));
+        .andExpect(content().contentType("text/plain"))
+        .andExpect(header().string("Content-Disposition",
+            containsString("filename*=UTF-8''test.txt")))
+        .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENT.length()))
+        .andExpect(content().bytes(CONTENT.getBytes()));
+  }
+
+  @Test
+  public void downloadFile_EncodesNonAsciiFileName() throws Exception {
+    when(fileStorageService.getFileDtoById(2L)).thenReturn(FileDto.builder()
+        .id(2L)
+        .originalFileName("공지 \"안내\".txt")
+        .storedFileName("test.txt")
+        .contentHash("0123abcd")
+        .build());
+
+    mockMvc.perform(get("/files/download/2"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Disposition", containsString(
+            "filename*=UTF-8''%EA%B3%B5%EC%A7%80%20%22%EC%95%88%EB%82%B4%22.txt")));
+  }
+
+  @Test
+  public void downloadFile_NotModified() throws Exception {
+    mockMvc.perform(get("/files/download/1").header(HttpHeaders.IF_NONE_MATCH, ETAG))
+        .andExpect(status().isNotModified())
+        .andExpect(content().bytes(new byte[0]));
+  }
+
+  @Test
+  public void downloadFile_SingleRange() throws Exception {
+    mockMvc.perform(get("/files/download/1").header(HttpHeaders.RANGE, "bytes=5-6"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+            "bytes 5-6/" + CONTENT.length()))
+        .andExpect(content().bytes("is".getBytes()));
+  }
+
+  @Test
+  public void downloadFile_MultipleRanges() throws Exception {
+    MvcResult result = mockMvc.perform(get("/files/download/1")
+            .header(HttpHeaders.RANGE, "bytes=0-3,-7"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE,
+            startsWith("multipart/byteranges; boundary=")))
+        .andReturn();
+
+    String body = result.getResponse().getContentAsString(StandardCharsets.US_ASCII);
+    assertTrue(body.contains("Content-Range: bytes 0-3/" + CONTENT.length() + "\r\n\r\nThis\r\n"));
+    assertTrue(body.contains("Content-Range: bytes 20-26/" + CONTENT.length()
+        + "\r\n\r\ncontent\r\n"));
+  }
+
+  @Test
+  public void downloadFile_IfRangeMismatchSendsWholeFile() throws Exception {
+    mockMvc.perform(get("/files/download/1")
+            .header(HttpHeaders.RANGE, "bytes=5-6")
+            .header(HttpHeaders.IF_RANGE, "\"stale\""))
+        .andExpect(status().isOk())
+        .andExpect(content().bytes(CONTENT.getBytes()));
+  }
+
+  @Test
+  public void downloadFile_RangeNotSatisfiable() throws Exception {
+    mockMvc.perform(get("/files/download/1").header(HttpHeaders.RANGE, "bytes=100-200"))
+        .andExpect(status().isRequestedRangeNotSatisfiable())
+        .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENT.length()));
+  }
+
+  @Test
+  public void downloadFile_ServedFromHotCacheWithoutFilesystem() throws Exception {
+    CachedFile cachedFile = new CachedFile(ByteBuffer.wrap(CONTENT.getBytes()), 1_000L);
+    when(hotFileCache.getIfPresent("test.txt")).thenReturn(cachedFile);
+
+    mockMvc.perform(get("/files/download/1").header(HttpHeaders.RANGE, "bytes=0-3"))
+        .andExpect(status().isPartialContent())
+        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+        .andExpect(content().bytes("This".getBytes()));
+
+    verify(fileStorageService, never()).resolveStoredFile(anyString());
   }
 
   @Test
@@ -1,9 +1,12 @@
 package com.example.noticeapi.controller;
 
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -12,30 +15,39 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.noticeapi.dto.NoticeCreateDto;
 import com.example.noticeapi.dto.NoticeDetailResponseDto;
+import com.example.noticeapi.dto.NoticeImportFailureDto;
+import com.example.noticeapi.dto.NoticeImportResultDto;
 import com.example.noticeapi.dto.NoticeResponseDto;
 import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.dto.NoticeSliceResponseDto;
 import com.example.noticeapi.dto.NoticeUpdateDto;
-import com.example.noticeapi.entity.File;
 import com.example.noticeapi.entity.Notice;
 import com.example.noticeapi.exception.GlobalExceptionHandler;
+import com.example.noticeapi.exception.InvalidCursorException;
 import com.example.noticeapi.exception.NoticeNotFoundException;
+import com.example.noticeapi.importer.NoticeImporter;
 import com.example.noticeapi.service.FileStorageService;
+import com.example.noticeapi.service.NoticeExportService;
 import com.example.noticeapi.service.NoticeService;
+import com.example.noticeapi.service.ViewCountService;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -49,6 +61,15 @@ class NoticeControllerTest {
   @Mock
   private FileStorageService fileStorageService;
 
+  @Mock
+  private ViewCountService viewCountService;
+
+  @Mock
+  private NoticeExportService noticeExportService;
+
+  @Mock
+  private NoticeImporter noticeImporter;
+
   @InjectMocks
   private NoticeController noticeController;
 
@@ -61,12 +82,8 @@ class NoticeControllerTest {
         .setControllerAdvice(new GlobalExceptionHandler())
         .build();
 
-    CompletableFuture<Void> mockFutureVoid = CompletableFuture.completedFuture(null);
-    CompletableFuture<List<File>> mockFutureFiles = CompletableFuture.completedFuture(
-        Collections.emptyList());
-
-    when(fileStorageService.deleteFilesByNotice(any(Notice.class))).thenReturn(mockFutureVoid);
-    when(fileStorageService.processFiles(anyList(), any(Notice.class))).thenReturn(mockFutureFiles);
+    when(fileStorageService.processFiles(anyList(), any(Notice.class)))
+        .thenReturn(Collections.emptyList());
   }
 
   @Test
@@ -197,6 +214,72 @@ class NoticeControllerTest {
     verify(noticeService, times(1)).getAllNotices(anyInt(), anyInt());
   }
 
+  @Test
+  @DisplayName("커서 기반 공지사항 조회 성공 테스트")
+  void getNoticesByCursor_Success() throws Exception {
+    NoticeResponseDto noticeResponseDto = NoticeResponseDto.builder()
+        .id(1L)
+        .title("Title")
+        .content("Content")
+        .author("Author")
+        .createdAt(LocalDateTime.now())
+        .viewCount(0)
+        .attachments(Collections.emptyList())
+        .build();
+    NoticeSliceResponseDto slice = NoticeSliceResponseDto.builder()
+        .notices(Collections.singletonList(noticeResponseDto))
+        .nextCursor("next")
+        .hasNext(true)
+        .build();
+
+    when(noticeService.getNoticesByCursor(isNull(), eq(10))).thenReturn(slice);
+
+    mockMvc.perform(get("/notices/cursor")
+            .param("size", "10"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.notices[0].title").value("Title"))
+        .andExpect(jsonPath("$.nextCursor").value("next"))
+        .andExpect(jsonPath("$.hasNext").value(true));
+  }
+
+  @Test
+  @DisplayName("커서 기반 공지사항 조회 실패 테스트 - 잘못된 커서")
+  void getNoticesByCursor_InvalidCursor() throws Exception {
+    when(noticeService.getNoticesByCursor(eq("broken"), anyInt())).thenThrow(
+        new InvalidCursorException("Invalid cursor: broken"));
+
+    mockMvc.perform(get("/notices/cursor")
+            .param("cursor", "broken"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("InvalidCursor"));
+  }
+
+  @Test
+  @DisplayName("공지사항 일괄 등록 결과 응답")
+  void importNotices_ReturnsResult() throws Exception {
+    when(noticeImporter.importNotices(any())).thenReturn(NoticeImportResultDto.builder()
+        .imported(2)
+        .failed(1)
+        .failures(List.of(new NoticeImportFailureDto(2, "Title is required")))
+        .build());
+
+    mockMvc.perform(post("/notices/import")
+            .contentType("application/x-ndjson")
+            .content("{}\n{}\n{}"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.failed").value(1))
+        .andExpect(jsonPath("$.failures[0].line").value(2));
+  }
+
+  @Test
+  @DisplayName("지원하지 않는 내보내기 형식은 400 응답")
+  void exportNotices_InvalidFormat() throws Exception {
+    mockMvc.perform(get("/notices/export").param("format", "xml"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.error").value("InvalidExportFormat"));
+  }
+
   @Test
   @DisplayName("공지사항 상세 조회 성공 테스트")
   void getNoticeById_Success() throws Exception {
@@ -212,12 +295,15 @@ class NoticeControllerTest {
         .build();
 
     when(noticeService.getNoticeDetailById(anyLong())).thenReturn(noticeDetailResponseDto);
+    when(viewCountService.recordView(1L)).thenReturn(3L);
 
     mockMvc.perform(get("/notices/{id}", 1L))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$.title").value("Title"));
+        .andExpect(jsonPath("$.title").value("Title"))
+        .andExpect(jsonPath("$.viewCount").value(3));
 
     verify(noticeService, times(1)).getNoticeDetailById(anyLong());
+    verify(viewCountService, times(1)).recordView(1L);
   }
 
   @Test
@@ -234,6 +320,59 @@ class NoticeControllerTest {
     verify(noticeService, times(1)).getNoticeDetailById(anyLong());
   }
 
+  @Test
+  @DisplayName("상세 조회 - ETag 가 일치하면 본문 없이 304 응답")
+  void getNoticeById_NotModified() throws Exception {
+    NoticeDetailResponseDto noticeDetailResponseDto = NoticeDetailResponseDto.builder()
+        .id(1L)
+        .title("Title")
+        .createdAt(LocalDateTime.of(2024, 1, 1, 9, 0))
+        .updatedAt(LocalDateTime.of(2024, 1, 2, 9, 0))
+        .version(4L)
+        .build();
+    when(noticeService.getNoticeDetailById(1L)).thenReturn(noticeDetailResponseDto);
+
+    String etag = mockMvc.perform(get("/notices/{id}", 1L))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"1-4\""))
+        .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    mockMvc.perform(get("/notices/{id}", 1L).header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+  }
+
+  @Test
+  @DisplayName("목록 조회 - 목록의 공지 버전이 바뀌면 ETag 도 바뀜")
+  void getAllNotices_NotModifiedUntilVersionChanges() throws Exception {
+    NoticeResponseDto notice = NoticeResponseDto.builder().id(1L).title("Title").version(1L)
+        .build();
+    when(noticeService.getAllNotices(0, 10)).thenReturn(List.of(notice));
+
+    String etag = mockMvc.perform(get("/notices"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    mockMvc.perform(get("/notices").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified());
+
+    when(noticeService.getAllNotices(0, 10))
+        .thenReturn(List.of(notice.toBuilder().version(2L).build()));
+    mockMvc.perform(get("/notices").header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].version").value(2));
+  }
+
+  @Test
+  @DisplayName("목록 ETag 는 공지 순서가 바뀌어도 달라짐")
+  void listEtag_DependsOnOrder() {
+    NoticeResponseDto first = NoticeResponseDto.builder().id(1L).version(1L).build();
+    NoticeResponseDto second = NoticeResponseDto.builder().id(2L).version(1L).build();
+
+    assertNotEquals(NoticeValidators.etag(List.of(first, second)),
+        NoticeValidators.etag(List.of(second, first)));
+  }
+
   @Test
   @DisplayName("공지사항 검색 성공 테스트")
   void searchNotices_Success() throws Exception {
@@ -0,0 +1,91 @@
+package com.example.noticeapi.download;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.example.noticeapi.cache.CacheInvalidationBus;
+import com.example.noticeapi.cache.CacheInvalidationMessage;
+import com.example.noticeapi.config.HotFileCacheProperties;
+import com.example.noticeapi.event.StoredFileDeletedEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+class HotFileCacheTest {
+
+  @TempDir
+  Path tempDir;
+
+  private CacheInvalidationBus invalidationBus;
+
+  private HotFileCache hotFileCache;
+
+  @BeforeEach
+  void setUp() {
+    HotFileCacheProperties properties = new HotFileCacheProperties();
+    properties.setMaxFileSize(16);
+    invalidationBus = mock(CacheInvalidationBus.class);
+    hotFileCache = new HotFileCache(properties, invalidationBus);
+    hotFileCache.subscribe();
+  }
+
+  @Test
+  @DisplayName("작은 파일은 읽어서 캐시에 올리고 이후에는 캐시에서 돌려준다")
+  void load_CachesSmallFile() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("small.txt"), "hello");
+
+    CachedFile loaded = hotFileCache.load("small.txt", file);
+
+    assertNotNull(loaded);
+    assertEquals(5, loaded.getLength());
+    assertSame(loaded, hotFileCache.getIfPresent("small.txt"));
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘는 파일은 캐시하지 않는다")
+  void load_SkipsLargeFile() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("large.txt"), "this is more than sixteen bytes");
+
+    assertNull(hotFileCache.load("large.txt", file));
+    assertNull(hotFileCache.getIfPresent("large.txt"));
+  }
+
+  @Test
+  @DisplayName("실제 파일 삭제 시 캐시에서 제거하고 다른 노드에 전파한다")
+  void onStoredFileDeleted_InvalidatesAndPublishes() throws Exception {
+    Path file = Files.writeString(tempDir.resolve("small.txt"), "hello");
+    hotFileCache.load("small.txt", file);
+
+    hotFileCache.onStoredFileDeleted(new StoredFileDeletedEvent("small.txt"));
+
+    assertNull(hotFileCache.getIfPresent("small.txt"));
+    verify(invalidationBus).publish(HotFileCache.CACHE_NAME, "small.txt");
+  }
+
+  @Test
+  @DisplayName("다른 노드의 삭제 메시지를 받으면 캐시에서 제거한다")
+  @SuppressWarnings("unchecked")
+  void remoteInvalidation_Invalidates() throws Exception {
+    ArgumentCaptor<Consumer<CacheInvalidationMessage>> listener = forClass(Consumer.class);
+    verify(invalidationBus).subscribe(listener.capture());
+    Path file = Files.writeString(tempDir.resolve("small.txt"), "hello");
+    hotFileCache.load("small.txt", file);
+
+    listener.getValue().accept(new CacheInvalidationMessage("other-node", "notices", "small.txt"));
+    assertNotNull(hotFileCache.getIfPresent("small.txt"));
+
+    listener.getValue().accept(
+        new CacheInvalidationMessage("other-node", HotFileCache.CACHE_NAME, "small.txt"));
+    assertNull(hotFileCache.getIfPresent("small.txt"));
+  }
+}
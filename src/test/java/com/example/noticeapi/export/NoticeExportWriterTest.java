@@ -0,0 +1,66 @@
+package com.example.noticeapi.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.entity.Notice;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoticeExportWriterTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+  private static Notice notice(Long id, String title, String content) {
+    return Notice.builder()
+        .id(id)
+        .title(title)
+        .content(content)
+        .author("Author")
+        .createdAt(CREATED_AT)
+        .updatedAt(CREATED_AT)
+        .viewCount(3)
+        .version(2)
+        .build();
+  }
+
+  private static String export(NoticeExportFormat format, Notice... notices) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    NoticeExportWriter writer = format.open(out);
+    for (Notice notice : notices) {
+      writer.write(notice);
+    }
+    writer.flush();
+    return out.toString(StandardCharsets.UTF_8);
+  }
+
+  @Test
+  @DisplayName("NDJSON 은 한 줄에 한 건씩 쓴다")
+  void ndjson_WritesOneObjectPerLine() throws IOException {
+    String body = export(NoticeExportFormat.NDJSON,
+        notice(1L, "첫 줄\n둘째 줄", "Content"), notice(2L, "Title", "Content"));
+
+    assertTrue(body.endsWith("\n"));
+    String[] lines = body.split("\n");
+    assertEquals(2, lines.length);
+    assertEquals("{\"id\":1,\"title\":\"첫 줄\\n둘째 줄\",\"content\":\"Content\","
+        + "\"author\":\"Author\",\"startDate\":null,\"endDate\":null,"
+        + "\"createdAt\":\"2024-01-01T09:00\",\"updatedAt\":\"2024-01-01T09:00\","
+        + "\"viewCount\":3,\"version\":2}", lines[0]);
+  }
+
+  @Test
+  @DisplayName("CSV 는 구분자, 따옴표, 줄바꿈이 들어간 값만 따옴표로 감싼다")
+  void csv_QuotesSpecialCharacters() throws IOException {
+    String body = export(NoticeExportFormat.CSV,
+        notice(1L, "a, \"b\"", "line1\nline2"), notice(2L, "Title", "Content"));
+
+    assertEquals(CsvNoticeExportWriter.HEADER + "\r\n"
+        + "1,\"a, \"\"b\"\"\",\"line1\nline2\",Author,,,2024-01-01T09:00,2024-01-01T09:00,3,2\r\n"
+        + "2,Title,Content,Author,,,2024-01-01T09:00,2024-01-01T09:00,3,2\r\n", body);
+  }
+}
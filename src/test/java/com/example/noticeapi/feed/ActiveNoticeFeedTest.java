@@ -0,0 +1,99 @@
+package com.example.noticeapi.feed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ActiveNoticeFeedTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+  private ActiveNoticeFeed activeNoticeFeed;
+
+  @BeforeEach
+  void setUp() {
+    activeNoticeFeed = new ActiveNoticeFeed();
+    activeNoticeFeed.markReady();
+  }
+
+  private static ActiveNoticeFeed.Entry notice(Long id, LocalDateTime startDate,
+      LocalDateTime endDate) {
+    return new ActiveNoticeFeed.Entry(id, NOW.minusDays(10).plusMinutes(id), startDate, endDate);
+  }
+
+  private List<Long> activeIds() {
+    return activeNoticeFeed.page(0, 100);
+  }
+
+  @Test
+  @DisplayName("게시 기간에 있는 공지만 최신순으로 노출")
+  void put_KeepsOnlyNoticesWithinWindow() {
+    activeNoticeFeed.put(notice(1L, NOW.minusDays(1), NOW.plusDays(1)), NOW);
+    activeNoticeFeed.put(notice(2L, null, null), NOW);
+    activeNoticeFeed.put(notice(3L, NOW.plusHours(1), NOW.plusDays(1)), NOW);
+    activeNoticeFeed.put(notice(4L, NOW.minusDays(2), NOW), NOW);
+
+    assertEquals(List.of(2L, 1L), activeIds());
+    assertEquals(Optional.of(NOW.plusHours(1)), activeNoticeFeed.nextBoundary());
+  }
+
+  @Test
+  @DisplayName("경계 시각이 지나면 시작한 공지는 추가되고 끝난 공지는 빠진다")
+  void advance_AppliesDueBoundaries() {
+    activeNoticeFeed.put(notice(1L, NOW.minusDays(1), NOW.plusMinutes(30)), NOW);
+    activeNoticeFeed.put(notice(2L, NOW.plusMinutes(10), null), NOW);
+
+    assertTrue(activeNoticeFeed.advance(NOW.plusMinutes(5)).isEmpty());
+    assertEquals(List.of(1L), activeIds());
+
+    assertEquals(List.of(2L), activeNoticeFeed.advance(NOW.plusMinutes(10)));
+    assertEquals(List.of(2L, 1L), activeIds());
+    assertEquals(Optional.of(NOW.plusMinutes(30)), activeNoticeFeed.nextBoundary());
+
+    activeNoticeFeed.advance(NOW.plusMinutes(30));
+    assertEquals(List.of(2L), activeIds());
+    assertEquals(Optional.empty(), activeNoticeFeed.nextBoundary());
+  }
+
+  @Test
+  @DisplayName("게시 기간을 바꾸면 이전 경계는 버리고 새 경계로 다시 예약")
+  void put_ReplacesPreviousBoundaries() {
+    activeNoticeFeed.put(notice(1L, NOW.plusMinutes(10), null), NOW);
+    activeNoticeFeed.put(notice(1L, NOW.plusHours(2), NOW.plusHours(3)), NOW);
+
+    assertTrue(activeNoticeFeed.advance(NOW.plusHours(1)).isEmpty());
+    assertTrue(activeIds().isEmpty());
+    assertEquals(Optional.of(NOW.plusHours(2)), activeNoticeFeed.nextBoundary());
+
+    activeNoticeFeed.remove(1L);
+    assertEquals(Optional.empty(), activeNoticeFeed.nextBoundary());
+  }
+
+  @Test
+  @DisplayName("한 번에 시작과 종료가 모두 지난 공지는 새로 시작한 공지로 보고하지 않음")
+  void advance_SkipsNoticesThatAlreadyEnded() {
+    activeNoticeFeed.put(notice(1L, NOW.plusMinutes(10), NOW.plusMinutes(20)), NOW);
+
+    assertTrue(activeNoticeFeed.advance(NOW.plusMinutes(30)).isEmpty());
+    assertTrue(activeIds().isEmpty());
+  }
+
+  @Test
+  @DisplayName("초기 적재 중 변경된 공지는 적재기가 읽은 이전 값으로 덮어쓰지 않음")
+  void putIfUnchanged_DoesNotOverwriteConcurrentChange() {
+    ActiveNoticeFeed building = new ActiveNoticeFeed();
+    building.remove(1L);
+    building.putIfUnchanged(notice(1L, null, null), NOW);
+    building.putIfUnchanged(notice(2L, null, null), NOW);
+    building.markReady();
+
+    assertEquals(1, building.size());
+    assertEquals(List.of(2L), building.page(0, 10));
+  }
+}
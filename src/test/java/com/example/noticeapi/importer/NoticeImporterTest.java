@@ -0,0 +1,141 @@
+package com.example.noticeapi.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.noticeapi.cache.NoticeListGeneration;
+import com.example.noticeapi.config.NoticeImportProperties;
+import com.example.noticeapi.dto.NoticeImportFailureDto;
+import com.example.noticeapi.dto.NoticeImportResultDto;
+import com.example.noticeapi.repository.NoticeRepository;
+import com.example.noticeapi.service.NoticeImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 묶음마다 실제로 커밋되는지 보기 위해 테스트 트랜잭션으로 감싸지 않는다
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(NoticeImportService.class)
+class NoticeImporterTest {
+
+  @Autowired
+  private NoticeImportService noticeImportService;
+
+  @Autowired
+  private NoticeRepository noticeRepository;
+
+  private NoticeListGeneration noticeListGeneration;
+
+  private NoticeImporter noticeImporter;
+
+  @BeforeEach
+  void setUp() {
+    noticeListGeneration = mock(NoticeListGeneration.class);
+    NoticeImportProperties properties = new NoticeImportProperties();
+    properties.setChunkSize(3);
+    noticeImporter = importer(properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    noticeRepository.deleteAllInBatch();
+  }
+
+  private NoticeImporter importer(NoticeImportProperties properties) {
+    return new NoticeImporter(noticeImportService, noticeListGeneration,
+        new ObjectMapper().registerModule(new JavaTimeModule()),
+        Validation.buildDefaultValidatorFactory().getValidator(), properties);
+  }
+
+  private static String line(String title) {
+    return "{\"title\":\"" + title + "\",\"content\":\"Content\",\"author\":\"Author\","
+        + "\"startDate\":\"2024-01-01T00:00:00\",\"endDate\":\"2024-12-31T00:00:00\"}";
+  }
+
+  private static ByteArrayInputStream body(List<String> lines) {
+    return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  @DisplayName("검증에 실패한 줄은 줄 번호와 함께 보고하고 나머지는 저장")
+  void importNotices_ReportsInvalidLines() throws IOException {
+    NoticeImportResultDto result = noticeImporter.importNotices(body(List.of(
+        line("A"),
+        "{\"title\":\"B\"}",
+        "",
+        "not json",
+        line("C"),
+        line("D"),
+        line("E"))));
+
+    assertEquals(4, result.getImported());
+    assertEquals(2, result.getFailed());
+    assertEquals(List.of(2L, 4L), result.getFailures().stream()
+        .map(NoticeImportFailureDto::getLine)
+        .collect(Collectors.toList()));
+    assertEquals("Author is required, Content is required, End date is required, "
+        + "Start date is required", result.getFailures().get(0).getMessage());
+    assertEquals(4, noticeRepository.count());
+    // 묶음이 여러 개여도 목록 캐시는 한 번만 무효화한다
+    verify(noticeListGeneration, times(1)).advance();
+  }
+
+  @Test
+  @DisplayName("저장 중 실패한 묶음은 한 건씩 다시 저장해 실패한 줄만 보고")
+  void importNotices_IsolatesRecordsThatFailToSave() throws IOException {
+    NoticeImportResultDto result = noticeImporter.importNotices(body(List.of(
+        line("A"), line("x".repeat(300)), line("C"), line("D"))));
+
+    assertEquals(3, result.getImported());
+    assertEquals(1, result.getFailed());
+    assertEquals(2L, result.getFailures().get(0).getLine());
+    // 예외 이름만이 아니라 DB 가 알려 준 원인을 보고한다
+    String message = result.getFailures().get(0).getMessage();
+    assertTrue(message.toLowerCase().contains("too long"), message);
+    assertEquals(3, noticeRepository.count());
+  }
+
+  // 벽시계 시간에 의존하므로 기본 test 에서는 빼고 ./gradlew performanceTest 로만 실행한다
+  @Test
+  @Tag("performance")
+  @DisplayName("H2 에서 초당 1만 건 이상 적재")
+  void importNotices_Throughput() throws IOException {
+    NoticeImporter bulkImporter = importer(new NoticeImportProperties());
+    int warmup = 5_000;
+    int count = 50_000;
+    bulkImporter.importNotices(body(lines(0, warmup)));
+
+    long startNanos = System.nanoTime();
+    NoticeImportResultDto result = bulkImporter.importNotices(body(lines(warmup, count)));
+    double seconds = (System.nanoTime() - startNanos) / 1e9;
+
+    assertEquals(count, result.getImported());
+    assertTrue(count / seconds >= 10_000, "imported " + (long) (count / seconds) + " notices/s");
+  }
+
+  private static List<String> lines(int from, int count) {
+    return IntStream.range(from, from + count)
+        .mapToObj(i -> line("Notice " + i))
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.noticeapi.reclaim;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.noticeapi.config.FileReclaimProperties;
+import com.example.noticeapi.entity.FileReclaim;
+import com.example.noticeapi.service.FileReclaimService;
+import com.example.noticeapi.service.FileStorageService;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class FileReclaimerTest {
+
+  private final FileReclaimService fileReclaimService = mock(FileReclaimService.class);
+
+  private final FileStorageService fileStorageService = mock(FileStorageService.class);
+
+  private final FileReclaimProperties properties = new FileReclaimProperties();
+
+  private FileReclaimer fileReclaimer;
+
+  @BeforeEach
+  void setUp() {
+    properties.setBatchSize(2);
+    fileReclaimer = new FileReclaimer(fileReclaimService, fileStorageService, properties);
+  }
+
+  @AfterEach
+  void tearDown() {
+    fileReclaimer.close();
+  }
+
+  private static FileReclaim task(Long id, int attempts) {
+    return FileReclaim.builder()
+        .id(id)
+        .storedFileName(id + ".txt")
+        .filePath("/tmp/" + id + ".txt")
+        .attempts(attempts)
+        .build();
+  }
+
+  @Test
+  @DisplayName("가져온 묶음이 가득 차 있으면 남은 행이 없을 때까지 이어서 처리")
+  void drain_ProcessesUntilBatchIsNotFull() {
+    when(fileReclaimService.claim(any(LocalDateTime.class), any(Duration.class), anyInt()))
+        .thenReturn(List.of(task(1L, 0), task(2L, 0)), List.of(task(3L, 0)));
+
+    assertEquals(3, fileReclaimer.drain());
+
+    verify(fileReclaimService).complete(List.of(1L, 2L));
+    verify(fileReclaimService).complete(List.of(3L));
+  }
+
+  @Test
+  @DisplayName("삭제에 실패한 행은 완료 처리하지 않고 백오프 뒤로 미룬다")
+  void drain_RetriesFailedTasksLater() throws IOException {
+    FileReclaim failing = task(1L, 2);
+    when(fileReclaimService.claim(any(LocalDateTime.class), any(Duration.class), anyInt()))
+        .thenReturn(List.of(failing));
+    doThrow(new IOException("disk busy")).when(fileStorageService).reclaim(failing);
+
+    assertEquals(0, fileReclaimer.drain());
+
+    ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(fileReclaimService).retryLater(eq(1L), nextAttemptAt.capture());
+    verify(fileReclaimService).complete(List.of());
+    // 세 번째 시도이므로 초기 백오프의 4배
+    assertTrue(nextAttemptAt.getValue().isAfter(LocalDateTime.now().plusSeconds(30)));
+    verify(fileReclaimService, never()).complete(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 파일의 행은 회수 트랜잭션이 지우므로 묶음 완료에서 빼고 센다")
+  void drain_LeavesContentAddressedRowsToReclaimTransaction() {
+    FileReclaim blobTask = FileReclaim.builder()
+        .id(2L)
+        .storedFileName("ab/cd/abcd")
+        .contentHash("abcd")
+        .build();
+    when(fileReclaimService.claim(any(LocalDateTime.class), any(Duration.class), anyInt()))
+        .thenReturn(List.of(task(1L, 0), blobTask), List.of());
+
+    assertEquals(2, fileReclaimer.drain());
+
+    verify(fileReclaimService).complete(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("백오프는 실패할 때마다 두 배로 늘고 최대값을 넘지 않는다")
+  void backoff_DoublesUpToMaximum() {
+    assertEquals(Duration.ofSeconds(10), fileReclaimer.backoff(0));
+    assertEquals(Duration.ofSeconds(40), fileReclaimer.backoff(2));
+    assertEquals(Duration.ofHours(1), fileReclaimer.backoff(30));
+  }
+}
@@ -0,0 +1,176 @@
+package com.example.noticeapi.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.dto.NoticeResponseDto;
+import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.mapper.NoticeMapper;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+    "spring.jpa.properties.hibernate.order_inserts=true"
+})
+class NoticeRepositoryTest {
+
+  private static final int NOTICE_COUNT = 20;
+
+  private static final int ATTACHMENTS_PER_NOTICE = 3;
+
+  @Autowired
+  private NoticeRepository noticeRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  private final List<Long> noticeIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    for (int i = 0; i < NOTICE_COUNT; i++) {
+      Notice notice = Notice.builder()
+          .title("Title " + i)
+          .content("Content " + i)
+          .author("Author")
+          .createdAt(createdAt.plusMinutes(i))
+          .isDeleted(false)
+          .build();
+      for (int j = 0; j < ATTACHMENTS_PER_NOTICE; j++) {
+        notice.getAttachments().add(File.builder()
+            .originalFileName("file" + j + ".txt")
+            .storedFileName(i + "-" + j + ".txt")
+            .filePath("/tmp/" + i + "-" + j + ".txt")
+            .notice(notice)
+            .build());
+      }
+      noticeIds.add(entityManager.persist(notice).getId());
+    }
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+  }
+
+  @Test
+  @DisplayName("전체 조회 페이지의 첨부파일을 한 번에 로딩")
+  void findByIsDeletedFalse_LoadsAttachmentsInOneQuery() {
+    List<NoticeResponseDto> notices = noticeRepository.findByIsDeletedFalse(PageRequest.of(0, 10))
+        .stream()
+        .map(NoticeMapper::toDto)
+        .collect(Collectors.toList());
+
+    assertEquals(10, notices.size());
+    notices.forEach(notice -> assertEquals(ATTACHMENTS_PER_NOTICE, notice.getAttachments().size()));
+    // 페이지 조회 + COUNT(*) + 첨부파일 배치 조회
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("커서 조회 페이지의 첨부파일을 한 번에 로딩")
+  void findByIsDeletedFalseOrderByCreatedAtDescIdDesc_LoadsAttachmentsInOneQuery() {
+    List<NoticeResponseDto> notices = noticeRepository
+        .findByIsDeletedFalseOrderByCreatedAtDescIdDesc(PageRequest.of(0, 10))
+        .stream()
+        .map(NoticeMapper::toDto)
+        .collect(Collectors.toList());
+
+    assertEquals(10, notices.size());
+    // 슬라이스 조회 + 첨부파일 배치 조회
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("검색 결과 id 목록 조회 시 첨부파일을 한 번에 로딩")
+  void findAllById_LoadsAttachmentsInOneQuery() {
+    List<NoticeResponseDto> notices = noticeRepository.findAllById(noticeIds.subList(0, 10))
+        .stream()
+        .map(NoticeMapper::toDto)
+        .collect(Collectors.toList());
+
+    assertEquals(10, notices.size());
+    // id 목록 조회 + 첨부파일 배치 조회
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("작성일 범위 검색은 최신순으로 요청한 페이지만 조회")
+  void findCreatedBetween_ReturnsNewestFirstPage() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    List<Long> page = noticeRepository.findCreatedBetween(createdAt.plusMinutes(5), null,
+            PageRequest.of(1, 4))
+        .stream()
+        .map(Notice::getId)
+        .collect(Collectors.toList());
+
+    assertEquals(List.of(noticeIds.get(15), noticeIds.get(14), noticeIds.get(13),
+        noticeIds.get(12)), page);
+  }
+
+  @Test
+  @DisplayName("내보내기 스트림은 기간 안의 공지를 id 순으로 한 번의 쿼리로 읽는다")
+  void streamForExport_ReadsRangeInOneQuery() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    List<Long> exported;
+    try (Stream<Notice> notices = noticeRepository.streamForExport(createdAt.plusMinutes(5),
+        createdAt.plusMinutes(14), 4)) {
+      exported = notices.map(Notice::getId).collect(Collectors.toList());
+    }
+
+    assertEquals(noticeIds.subList(5, 15), exported);
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  @DisplayName("공지사항과 첨부파일을 cascade 로 저장하면 첨부파일 수와 관계없이 배치 INSERT")
+  void save_BatchesAttachmentInserts() {
+    Notice notice = Notice.builder()
+        .title("Batch")
+        .content("Content")
+        .author("Author")
+        .createdAt(LocalDateTime.now())
+        .isDeleted(false)
+        .build();
+    for (int j = 0; j < 20; j++) {
+      notice.getAttachments().add(File.builder()
+          .originalFileName("file" + j + ".txt")
+          .storedFileName("batch-" + j + ".txt")
+          .filePath("/tmp/batch-" + j + ".txt")
+          .notice(notice)
+          .build());
+    }
+
+    noticeRepository.save(notice);
+    entityManager.flush();
+
+    assertEquals(21, statistics.getEntityInsertCount());
+    // 공지사항 INSERT + 첨부파일 배치 INSERT, 할당 범위를 다 쓴 경우 시퀀스 조회가 추가된다
+    assertTrue(statistics.getPrepareStatementCount() <= 4);
+  }
+}
@@ -0,0 +1,149 @@
+package com.example.noticeapi.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.entity.Notice;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class NoticeSearchIndexTest {
+
+  private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+  private NoticeSearchIndex noticeSearchIndex;
+
+  @BeforeEach
+  void setUp() {
+    noticeSearchIndex = new NoticeSearchIndex();
+    noticeSearchIndex.index(notice(1L, "서버 점검 안내", "새벽 2시부터 점검합니다", "운영팀", 0));
+    noticeSearchIndex.index(notice(2L, "신규 기능 안내", "검색 기능이 개선되었습니다", "개발팀", 1));
+    noticeSearchIndex.index(notice(3L, "Release Notes", "Search is faster", "Dev Team", 2));
+    noticeSearchIndex.markReady();
+  }
+
+  @Test
+  @DisplayName("한글 부분 문자열 검색 - 최신순 정렬")
+  void search_KoreanSubstring() {
+    List<Long> result = noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("안내").build(), 0, 10);
+
+    assertEquals(List.of(2L, 1L), result);
+  }
+
+  @Test
+  @DisplayName("여러 필드 조건 교집합 검색")
+  void search_IntersectsFields() {
+    List<Long> result = noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("안내").author("개발").build(), 0, 10);
+
+    assertEquals(List.of(2L), result);
+  }
+
+  @Test
+  @DisplayName("긴 질의는 색인 안에서 원문 부분 일치까지 확인")
+  void search_LongQueryVerifiedInIndex() {
+    noticeSearchIndex.index(notice(4L, "시스템 점검 안내", "내용", "운영팀", 3));
+    noticeSearchIndex.index(notice(5L, "점검 시스템 안내", "내용", "운영팀", 4));
+
+    assertEquals(List.of(3L), noticeSearchIndex.search(
+        NoticeSearchDto.builder().content("search").build(), 0, 10));
+    // 두 공지 모두 gram 은 갖지만 "점검 시스템" 을 그대로 포함한 공지만 남는다
+    assertEquals(List.of(5L), noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("점검 시스템").build(), 0, 10));
+  }
+
+  @Test
+  @DisplayName("결과의 요청한 페이지만 반환")
+  void search_ReturnsRequestedPage() {
+    NoticeSearchDto criteria = NoticeSearchDto.builder().title("안내").build();
+
+    assertEquals(List.of(2L), noticeSearchIndex.search(criteria, 0, 1));
+    assertEquals(List.of(1L), noticeSearchIndex.search(criteria, 1, 1));
+    assertTrue(noticeSearchIndex.search(criteria, 2, 1).isEmpty());
+  }
+
+  @Test
+  @DisplayName("흔한 gram 검색도 작성일 범위 안에서 최신순으로 요청한 페이지를 반환")
+  void search_CommonGramWithinDateRange() {
+    for (long id = 10; id < 40; id++) {
+      noticeSearchIndex.index(notice(id, "정기 안내 " + id, "내용", "운영팀", (int) id));
+    }
+    NoticeSearchDto criteria = NoticeSearchDto.builder()
+        .title("안내")
+        .startDate(BASE.plusDays(20))
+        .endDate(BASE.plusDays(30))
+        .build();
+
+    assertEquals(List.of(27L, 26L, 25L), noticeSearchIndex.search(criteria, 1, 3));
+    assertEquals(List.of(21L, 20L), noticeSearchIndex.search(criteria, 3, 3));
+  }
+
+  @Test
+  @DisplayName("구분자만으로 된 질의는 원문 부분 일치로만 확인")
+  void search_SeparatorOnlyQuery() {
+    List<Long> result = noticeSearchIndex.search(
+        NoticeSearchDto.builder().title(" ").author("팀").build(), 0, 10);
+
+    assertEquals(List.of(2L, 1L), result);
+  }
+
+  @Test
+  @DisplayName("대소문자 구분 없이 검색")
+  void search_IgnoresCase() {
+    List<Long> result = noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("RELEASE").build(), 0, 10);
+
+    assertEquals(List.of(3L), result);
+  }
+
+  @Test
+  @DisplayName("작성일 범위 필터")
+  void search_FiltersByCreatedAt() {
+    List<Long> result = noticeSearchIndex.search(NoticeSearchDto.builder()
+        .startDate(BASE.plusDays(1))
+        .endDate(BASE.plusDays(2))
+        .build(), 0, 10);
+
+    assertEquals(List.of(3L, 2L), result);
+  }
+
+  @Test
+  @DisplayName("수정과 삭제가 색인에 반영")
+  void index_UpdatesAndRemoves() {
+    noticeSearchIndex.index(notice(1L, "서버 증설 완료", "완료되었습니다", "운영팀", 0));
+    noticeSearchIndex.remove(2L);
+
+    assertEquals(List.of(1L), noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("서버").build(), 0, 10));
+    assertTrue(noticeSearchIndex.search(
+        NoticeSearchDto.builder().title("안내").build(), 0, 10).isEmpty());
+  }
+
+  @Test
+  @DisplayName("초기 적재 중 변경된 공지는 적재기가 덮어쓰지 않음")
+  void indexIfUnchanged_SkipsNoticesChangedDuringBuild() {
+    NoticeSearchIndex buildingIndex = new NoticeSearchIndex();
+    buildingIndex.remove(5L);
+
+    buildingIndex.indexIfUnchanged(notice(5L, "삭제된 공지", "내용", "작성자", 0));
+
+    assertEquals(0, buildingIndex.size());
+  }
+
+  private static Notice notice(Long id, String title, String content, String author,
+      int daysAfterBase) {
+    return Notice.builder()
+        .id(id)
+        .title(title)
+        .content(content)
+        .author(author)
+        .createdAt(BASE.plusDays(daysAfterBase))
+        .isDeleted(false)
+        .build();
+  }
+}
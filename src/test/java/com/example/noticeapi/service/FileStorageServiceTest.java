@@ -5,16 +5,28 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.noticeapi.config.FileUploadProperties;
+import com.example.noticeapi.config.RoutingContextTaskDecorator;
 import com.example.noticeapi.dto.FileDto;
 import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.FileBlob;
+import com.example.noticeapi.entity.FileReclaim;
 import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.event.FilesReleasedEvent;
+import com.example.noticeapi.event.StoredFileDeletedEvent;
 import com.example.noticeapi.exception.FileStorageException;
 import com.example.noticeapi.exception.InvalidFileNameException;
+import com.example.noticeapi.repository.FileBlobRepository;
+import com.example.noticeapi.repository.FileReclaimRepository;
 import com.example.noticeapi.repository.FileRepository;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -23,12 +35,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.core.io.Resource;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
 
 class FileStorageServiceTest {
@@ -36,6 +50,18 @@ class FileStorageServiceTest {
   @Mock
   private FileRepository fileRepository;
 
+  @Mock
+  private FileBlobRepository fileBlobRepository;
+
+  @Mock
+  private FileReclaimRepository fileReclaimRepository;
+
+  @Mock
+  private FileReclaimService fileReclaimService;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private FileStorageService fileStorageService;
 
   private final Path fileStorageLocation = Paths.get("D:/TEST").toAbsolutePath().normalize();
@@ -44,7 +70,14 @@ class FileStorageServiceTest {
   void setUp() throws Exception {
     MockitoAnnotations.openMocks(this);
     Files.createDirectories(fileStorageLocation);
-    fileStorageService = new FileStorageService(fileStorageLocation.toString(), fileRepository);
+    fileStorageService = newFileStorageService(false);
+  }
+
+  private FileStorageService newFileStorageService(boolean contentAddressed) {
+    return new FileStorageService(fileStorageLocation.toString(), contentAddressed,
+        fileRepository, fileBlobRepository, fileReclaimRepository, fileReclaimService,
+        new FileUploadExecutor(new FileUploadProperties(), new RoutingContextTaskDecorator()),
+        eventPublisher);
   }
 
   @Test
@@ -72,34 +105,6 @@ class FileStorageServiceTest {
     assertTrue(thrown.getCause() instanceof InvalidFileNameException);
   }
 
-  @Test
-  @DisplayName("파일 로드 성공 테스트")
-  void loadFileAsResource_Success() throws Exception {
-    String storedFileName = "test.txt";
-    Path filePath = fileStorageLocation.resolve(storedFileName).normalize();
-    Files.createFile(filePath);
-
-    try {
-      Resource resource = fileStorageService.loadFileAsResource(storedFileName).join();
-      assertNotNull(resource);
-      assertTrue(resource.exists());
-    } finally {
-      Files.deleteIfExists(filePath);
-    }
-  }
-
-  @Test
-  @DisplayName("파일 로드 실패 테스트 - 파일 없음")
-  void loadFileAsResource_FileNotFound() {
-    String storedFileName = "nonexistent.txt";
-
-    CompletionException thrown = assertThrows(CompletionException.class, () -> {
-      fileStorageService.loadFileAsResource(storedFileName).join();
-    });
-
-    assertTrue(thrown.getCause() instanceof FileStorageException);
-  }
-
   @Test
   @DisplayName("파일 DTO 조회 성공 테스트")
   void getFileDtoById_Success() {
@@ -142,35 +147,210 @@ class FileStorageServiceTest {
         "Hello, World!".getBytes());
     Notice notice = Notice.builder().id(1L).build();
 
-    when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
-
     List<File> processedFiles = fileStorageService.processFiles(Collections.singletonList(file),
-        notice).join();
+        notice);
 
     assertNotNull(processedFiles);
     assertEquals(1, processedFiles.size());
     assertEquals("test.txt", processedFiles.get(0).getOriginalFileName());
+    assertEquals(notice, processedFiles.get(0).getNotice());
+    // 저장은 호출한 트랜잭션에서 공지사항과 함께 배치로 수행된다
+    verify(fileRepository, never()).save(any(File.class));
+    Files.deleteIfExists(fileStorageLocation.resolve(processedFiles.get(0).getStoredFileName()));
   }
 
   @Test
-  @DisplayName("공지사항의 파일 삭제 성공 테스트")
+  @DisplayName("공지사항의 파일 삭제 성공 테스트 - 삭제 표시와 회수 대상 기록만 하고 파일은 남긴다")
   void deleteFilesByNotice_Success() throws Exception {
     Notice notice = Notice.builder().id(1L).build();
+    Path stored = Files.writeString(fileStorageLocation.resolve("test_stored.txt"), "content");
 
     File mockFile = File.builder()
         .id(1L)
         .originalFileName("test.txt")
         .storedFileName("test_stored.txt")
-        .filePath(fileStorageLocation.resolve("test_stored.txt").toString())
+        .filePath(stored.toString())
         .isDeleted(false)
         .notice(notice)
         .build();
 
-    when(fileRepository.findByNoticeId(anyLong())).thenReturn(Collections.singletonList(mockFile));
+    when(fileRepository.findByNoticeIdAndIsDeletedFalse(anyLong()))
+        .thenReturn(Collections.singletonList(mockFile));
+
+    try {
+      fileStorageService.deleteFilesByNotice(notice);
+
+      verify(fileRepository, times(1)).markDeletedByNoticeId(1L);
+      verify(fileRepository, never()).save(any(File.class));
+      verify(fileReclaimRepository, times(1)).saveAll(anyList());
+      verify(eventPublisher, times(1)).publishEvent(any(FilesReleasedEvent.class));
+      verify(eventPublisher, never()).publishEvent(any(StoredFileDeletedEvent.class));
+      assertTrue(Files.exists(stored));
+    } finally {
+      Files.deleteIfExists(stored);
+    }
+  }
+
+  @Test
+  @DisplayName("회수 - 기존 UUID 저장 파일은 바로 지운다")
+  void reclaim_DeletesUniquelyNamedFile() throws Exception {
+    Path stored = Files.writeString(fileStorageLocation.resolve("reclaim_stored.txt"), "content");
+    FileReclaim task = FileReclaim.builder()
+        .id(1L)
+        .storedFileName("reclaim_stored.txt")
+        .filePath(stored.toString())
+        .build();
+
+    try {
+      fileStorageService.reclaim(task);
+
+      assertTrue(Files.notExists(stored));
+      verify(eventPublisher, times(1)).publishEvent(any(StoredFileDeletedEvent.class));
+    } finally {
+      Files.deleteIfExists(stored);
+    }
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 - 같은 내용은 한 번만 저장되고 참조 수는 호출한 트랜잭션에서 늘어난다")
+  void processFiles_ContentAddressed_Deduplicates() throws Exception {
+    FileStorageService service = newFileStorageService(true);
+    FileBlob blob = FileBlob.builder().contentHash("hash").refCount(0).build();
+    when(fileReclaimService.guardPlacement(anyString(), anyString(), anyString()))
+        .thenReturn(10L, 11L);
+    when(fileBlobRepository.existsById(anyString())).thenReturn(false, true);
+    when(fileBlobRepository.findForUpdate(anyString())).thenReturn(Optional.of(blob));
+
+    List<File> attachments = service.processFiles(List.of(
+        new MockMultipartFile("file", "a.pdf", "application/pdf", "same content".getBytes()),
+        new MockMultipartFile("file", "b.pdf", "application/pdf", "same content".getBytes())),
+        Notice.builder().id(1L).build());
+    Path stored = fileStorageLocation.resolve(attachments.get(0).getStoredFileName());
+
+    try {
+      assertEquals(attachments.get(0).getStoredFileName(),
+          attachments.get(1).getStoredFileName());
+      assertTrue(Files.exists(stored));
+      assertEquals(2, blob.getRefCount());
+      verify(fileReclaimService, times(1)).createBlob(anyString(), anyString(), anyLong());
+      // 커밋되면 롤백 대비로 남긴 회수 행도 함께 지워진다
+      verify(fileReclaimRepository).deleteAllByIdInBatch(List.of(10L));
+      verify(fileReclaimRepository).deleteAllByIdInBatch(List.of(11L));
+      try (Stream<Path> staged = Files.list(fileStorageLocation.resolve(".tmp"))) {
+        assertEquals(0, staged.count());
+      }
+    } finally {
+      Files.deleteIfExists(stored);
+    }
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 - 다른 노드가 먼저 등록한 해시는 잠근 행의 참조 수만 늘린다")
+  void processFiles_ContentAddressed_BlobCreatedConcurrently() throws Exception {
+    FileStorageService service = newFileStorageService(true);
+    FileBlob blob = FileBlob.builder().contentHash("hash").refCount(1).build();
+    when(fileBlobRepository.existsById(anyString())).thenReturn(false);
+    doThrow(new DataIntegrityViolationException("duplicate"))
+        .when(fileReclaimService).createBlob(anyString(), anyString(), anyLong());
+    when(fileBlobRepository.findForUpdate(anyString())).thenReturn(Optional.of(blob));
+
+    List<File> attachments = service.processFiles(List.of(new MockMultipartFile("file", "a.pdf",
+        "application/pdf", "racing content".getBytes())), Notice.builder().id(1L).build());
+
+    try {
+      assertEquals(2, blob.getRefCount());
+    } finally {
+      Files.deleteIfExists(fileStorageLocation.resolve(attachments.get(0).getStoredFileName()));
+    }
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 - 잠근 행의 마지막 참조가 사라질 때만 실제 파일과 행을 지운다")
+  void reclaim_ContentAddressed_UnlinksOnLastReference() throws Exception {
+    FileStorageService service = newFileStorageService(true);
+    Path stored = writeBlob("ab/cd/abcd-last");
+    FileBlob blob = FileBlob.builder().contentHash("abcd-last").refCount(2).build();
+    when(fileReclaimRepository.deleteClaimed(anyLong(), anyString())).thenReturn(1);
+    when(fileBlobRepository.findForUpdate("abcd-last")).thenReturn(Optional.of(blob));
+    FileReclaim task = contentAddressedTask("abcd-last", false);
+
+    try {
+      service.reclaim(task);
+      assertTrue(Files.exists(stored));
+      assertEquals(1, blob.getRefCount());
+      verify(fileBlobRepository, never()).delete(any(FileBlob.class));
+
+      service.reclaim(task);
+
+      assertTrue(Files.notExists(stored));
+      verify(fileBlobRepository, times(1)).delete(blob);
+      verify(eventPublisher, times(1)).publishEvent(any(StoredFileDeletedEvent.class));
+    } finally {
+      Files.deleteIfExists(stored);
+    }
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 - 롤백 대비 회수 행은 참조를 줄이지 않고 다시 쓰이는 파일은 남긴다")
+  void reclaim_ContentAddressed_PlacementKeepsReferencedBlob() throws Exception {
+    FileStorageService service = newFileStorageService(true);
+    Path stored = writeBlob("ab/cd/abcd-kept");
+    FileBlob blob = FileBlob.builder().contentHash("abcd-kept").refCount(1).build();
+    when(fileReclaimRepository.deleteClaimed(anyLong(), anyString())).thenReturn(1);
+    when(fileBlobRepository.findForUpdate("abcd-kept")).thenReturn(Optional.of(blob));
+
+    try {
+      service.reclaim(contentAddressedTask("abcd-kept", true));
+
+      assertTrue(Files.exists(stored));
+      assertEquals(1, blob.getRefCount());
+      verify(eventPublisher, never()).publishEvent(any(StoredFileDeletedEvent.class));
+    } finally {
+      Files.deleteIfExists(stored);
+    }
+  }
+
+  @Test
+  @DisplayName("내용 주소 저장 - 다른 노드가 다시 가져간 회수 행은 참조를 줄이지 않는다")
+  void reclaim_ContentAddressed_SkipsTaskClaimedElsewhere() throws Exception {
+    FileStorageService service = newFileStorageService(true);
+    when(fileReclaimRepository.deleteClaimed(anyLong(), anyString())).thenReturn(0);
+
+    service.reclaim(contentAddressedTask("abcd-lost", false));
+
+    verify(fileBlobRepository, never()).findForUpdate(anyString());
+    verify(eventPublisher, never()).publishEvent(any(StoredFileDeletedEvent.class));
+  }
+
+  private Path writeBlob(String storedFileName) throws Exception {
+    Path stored = fileStorageLocation.resolve(storedFileName);
+    Files.createDirectories(stored.getParent());
+    return Files.writeString(stored, "content");
+  }
+
+  private FileReclaim contentAddressedTask(String contentHash, boolean blobReleased) {
+    String storedFileName = "ab/cd/" + contentHash;
+    return FileReclaim.builder()
+        .id(1L)
+        .storedFileName(storedFileName)
+        .filePath(fileStorageLocation.resolve(storedFileName).toString())
+        .contentHash(contentHash)
+        .blobReleased(blobReleased)
+        .claimToken("token")
+        .build();
+  }
+
+  @Test
+  @DisplayName("이미 삭제된 첨부파일은 다시 참조를 해제하지 않는다")
+  void deleteFilesByNotice_SkipsDeletedAttachments() {
+    Notice notice = Notice.builder().id(1L).build();
+    when(fileRepository.findByNoticeIdAndIsDeletedFalse(anyLong()))
+        .thenReturn(Collections.emptyList());
 
-    fileStorageService.deleteFilesByNotice(notice).join();
+    fileStorageService.deleteFilesByNotice(notice);
 
-    verify(fileRepository, times(1)).save(any(File.class));
-    assertTrue(mockFile.isDeleted());
+    verify(fileReclaimRepository, never()).saveAll(anyList());
+    verify(fileRepository, never()).markDeletedByNoticeId(anyLong());
+    verify(eventPublisher, never()).publishEvent(any(FilesReleasedEvent.class));
   }
 }
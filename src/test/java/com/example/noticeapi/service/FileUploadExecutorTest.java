@@ -0,0 +1,89 @@
+package com.example.noticeapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.noticeapi.config.FileUploadProperties;
+import com.example.noticeapi.config.RoutingContextTaskDecorator;
+import com.example.noticeapi.exception.UploadRejectedException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FileUploadExecutorTest {
+
+  private FileUploadExecutor uploadExecutor;
+
+  @AfterEach
+  void tearDown() {
+    uploadExecutor.close();
+  }
+
+  private FileUploadExecutor executor(long maxInFlightBytes, Duration acquireTimeout) {
+    FileUploadProperties properties = new FileUploadProperties();
+    properties.setVirtualThreads(false);
+    properties.setThreads(2);
+    properties.setMaxInFlightBytes(maxInFlightBytes);
+    properties.setAcquireTimeout(acquireTimeout);
+    return new FileUploadExecutor(properties, new RoutingContextTaskDecorator());
+  }
+
+  @Test
+  @DisplayName("바이트 예산을 넘는 업로드는 대기 시간이 없으면 즉시 거절된다")
+  void submit_RejectsWhenBudgetExhausted() throws Exception {
+    uploadExecutor = executor(100, Duration.ZERO);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> running = uploadExecutor.submit(80, () -> {
+      await(release);
+      return "first";
+    });
+
+    assertEquals(80, uploadExecutor.getInFlightBytes());
+    assertThrows(UploadRejectedException.class, () -> uploadExecutor.submit(30, () -> "second"));
+    assertEquals(1, uploadExecutor.getRejectedUploads());
+
+    release.countDown();
+    assertEquals("first", running.get(1, TimeUnit.SECONDS));
+    assertEquals(0, uploadExecutor.getInFlightBytes());
+    assertEquals(80, uploadExecutor.getBytesWritten());
+  }
+
+  @Test
+  @DisplayName("대기 시간이 있으면 예산이 반환될 때까지 기다렸다가 업로드한다")
+  void submit_WaitsForBudget() throws Exception {
+    uploadExecutor = executor(100, Duration.ofSeconds(5));
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<String> first = uploadExecutor.submit(100, () -> {
+      await(release);
+      return "first";
+    });
+    CompletableFuture<String> second = CompletableFuture.supplyAsync(
+        () -> uploadExecutor.submit(50, () -> "second").join());
+
+    release.countDown();
+    assertEquals("first", first.get(1, TimeUnit.SECONDS));
+    assertEquals("second", second.get(5, TimeUnit.SECONDS));
+    assertEquals(150, uploadExecutor.getBytesWritten());
+  }
+
+  @Test
+  @DisplayName("예산보다 큰 파일도 단독으로는 업로드할 수 있다")
+  void submit_AllowsOversizedFileAlone() {
+    uploadExecutor = executor(100, Duration.ZERO);
+
+    assertEquals("large", uploadExecutor.submit(500, () -> "large").join());
+    assertEquals(0, uploadExecutor.getInFlightBytes());
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
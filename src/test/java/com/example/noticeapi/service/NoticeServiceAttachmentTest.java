@@ -0,0 +1,93 @@
+package com.example.noticeapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.noticeapi.cache.NoticeListGeneration;
+import com.example.noticeapi.config.FileUploadProperties;
+import com.example.noticeapi.config.RoutingContextTaskDecorator;
+import com.example.noticeapi.dto.NoticeUpdateDto;
+import com.example.noticeapi.entity.File;
+import com.example.noticeapi.entity.FileReclaim;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.feed.ActiveNoticeFeed;
+import com.example.noticeapi.repository.FileReclaimRepository;
+import com.example.noticeapi.search.NoticeSearchIndex;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "file.storage.location=${java.io.tmpdir}/noticeapi-test"
+})
+@Import({NoticeService.class, FileStorageService.class, FileUploadExecutor.class,
+    FileUploadProperties.class, RoutingContextTaskDecorator.class})
+class NoticeServiceAttachmentTest {
+
+  @Autowired
+  private NoticeService noticeService;
+
+  @Autowired
+  private FileReclaimRepository fileReclaimRepository;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @MockBean
+  private NoticeListGeneration noticeListGeneration;
+
+  @MockBean
+  private NoticeSearchIndex noticeSearchIndex;
+
+  @MockBean
+  private ActiveNoticeFeed activeNoticeFeed;
+
+  @MockBean
+  private ActiveNoticeFeedService activeNoticeFeedService;
+
+  @MockBean
+  private FileReclaimService fileReclaimService;
+
+  @MockBean
+  private CacheManager cacheManager;
+
+  @Test
+  @DisplayName("첨부파일이 있는 공지를 수정하면 기존 첨부파일마다 회수 행이 남음")
+  void updateNotice_RecordsReclaimForExistingAttachments() {
+    Notice notice = Notice.builder()
+        .title("Title")
+        .content("Content")
+        .author("Author")
+        .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .build();
+    for (int i = 0; i < 2; i++) {
+      notice.getAttachments().add(File.builder()
+          .originalFileName("file" + i + ".txt")
+          .storedFileName("stored-" + i + ".txt")
+          .filePath("/tmp/stored-" + i + ".txt")
+          .notice(notice)
+          .build());
+    }
+    Long noticeId = entityManager.persistAndFlush(notice).getId();
+    entityManager.clear();
+
+    noticeService.updateNotice(noticeId, new NoticeUpdateDto("Updated Title", "Updated Content",
+        LocalDateTime.now(), LocalDateTime.now().plusDays(1)), Collections.emptyList());
+    entityManager.flush();
+
+    List<String> reclaimed = fileReclaimRepository.findAll().stream()
+        .map(FileReclaim::getStoredFileName)
+        .sorted()
+        .collect(Collectors.toList());
+    assertEquals(List.of("stored-0.txt", "stored-1.txt"), reclaimed);
+  }
+}
@@ -0,0 +1,172 @@
+package com.example.noticeapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.noticeapi.cache.NoticeListGeneration;
+import com.example.noticeapi.config.DataSourceContextHolder;
+import com.example.noticeapi.dto.NoticeResponseDto;
+import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.feed.ActiveNoticeFeed;
+import com.example.noticeapi.repository.NoticeRepository;
+import com.example.noticeapi.search.NoticeSearchIndex;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+class NoticeServiceCacheTest {
+
+  private AnnotationConfigApplicationContext context;
+
+  private NoticeService noticeService;
+
+  private NoticeRepository noticeRepository;
+
+  private CacheManager cacheManager;
+
+  @BeforeEach
+  void setUp() {
+    context = new AnnotationConfigApplicationContext(CacheConfig.class);
+    noticeService = context.getBean(NoticeService.class);
+    noticeRepository = context.getBean(NoticeRepository.class);
+    cacheManager = context.getBean(CacheManager.class);
+    when(noticeRepository.findById(1L)).thenReturn(Optional.of(Notice.builder()
+        .id(1L)
+        .title("Title")
+        .content("Content")
+        .author("Author")
+        .createdAt(LocalDateTime.now())
+        .build()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    DataSourceContextHolder.clearReadAfter();
+    context.close();
+  }
+
+  @Test
+  @DisplayName("토큰 없는 상세 조회는 캐시에서 응답")
+  void getNoticeDetailById_UsesCacheWithoutToken() {
+    noticeService.getNoticeDetailById(1L);
+    noticeService.getNoticeDetailById(1L);
+
+    verify(noticeRepository, times(1)).findById(1L);
+  }
+
+  @Test
+  @DisplayName("일관성 토큰이 있는 상세 조회는 캐시를 읽지도 채우지도 않음")
+  void getNoticeDetailById_BypassesCacheWithToken() {
+    DataSourceContextHolder.setReadAfter(System.currentTimeMillis());
+
+    assertEquals("Title", noticeService.getNoticeDetailById(1L).getTitle());
+    noticeService.getNoticeDetailById(1L);
+
+    verify(noticeRepository, times(2)).findById(1L);
+    assertNull(cacheManager.getCache("notices").get(1L));
+  }
+
+  @Test
+  @DisplayName("게시 중 공지 페이지는 상세 캐시에서 채우고, 캐시에 없는 공지만 한 번에 읽어 캐시에 넣음")
+  void getActiveNotices_ResolvesThroughDetailCache() {
+    ActiveNoticeFeed activeNoticeFeed = context.getBean(ActiveNoticeFeed.class);
+    when(activeNoticeFeed.isReady()).thenReturn(true);
+    when(activeNoticeFeed.page(0, 10)).thenReturn(List.of(2L, 1L));
+    when(noticeRepository.findAllById(List.of(2L))).thenReturn(List.of(Notice.builder()
+        .id(2L)
+        .title("Second")
+        .viewCount(7)
+        .createdAt(LocalDateTime.now())
+        .build()));
+    noticeService.getNoticeDetailById(1L);
+
+    List<NoticeResponseDto> notices = noticeService.getActiveNotices(0, 10);
+
+    assertEquals(List.of(2L, 1L), notices.stream()
+        .map(NoticeResponseDto::getId)
+        .collect(Collectors.toList()));
+    assertEquals(7, notices.get(0).getViewCount());
+    verify(noticeRepository, times(1)).findAllById(List.of(2L));
+    verify(noticeRepository, times(1)).findById(1L);
+    assertNotNull(cacheManager.getCache("notices").get(2L));
+  }
+
+  @Test
+  @DisplayName("목록 캐시는 id 만 두므로 상세 캐시가 비워지면 목록을 다시 읽지 않고 새 조회수를 보여 줌")
+  void getAllNotices_ReadsViewCountsThroughDetailCache() {
+    when(noticeRepository.findByIsDeletedFalse(PageRequest.of(0, 10)))
+        .thenReturn(new PageImpl<>(List.of(Notice.builder()
+            .id(2L)
+            .title("Second")
+            .viewCount(3)
+            .createdAt(LocalDateTime.now())
+            .build())));
+    when(noticeRepository.findAllById(List.of(2L))).thenReturn(List.of(Notice.builder()
+        .id(2L)
+        .title("Second")
+        .viewCount(5)
+        .createdAt(LocalDateTime.now())
+        .build()));
+
+    assertEquals(3, noticeService.getAllNotices(0, 10).get(0).getViewCount());
+    cacheManager.getCache("notices").evict(2L);
+    List<NoticeResponseDto> notices = noticeService.getAllNotices(0, 10);
+
+    assertEquals(5, notices.get(0).getViewCount());
+    verify(noticeRepository, times(1)).findByIsDeletedFalse(PageRequest.of(0, 10));
+  }
+
+  @Configuration
+  @EnableCaching
+  static class CacheConfig {
+
+    @Bean
+    CacheManager cacheManager() {
+      return new ConcurrentMapCacheManager();
+    }
+
+    @Bean
+    NoticeRepository noticeRepository() {
+      return mock(NoticeRepository.class);
+    }
+
+    @Bean
+    ActiveNoticeFeed activeNoticeFeed() {
+      return mock(ActiveNoticeFeed.class);
+    }
+
+    @Bean
+    NoticeListGeneration noticeListGeneration(CacheManager cacheManager) {
+      return new NoticeListGeneration(cacheManager);
+    }
+
+    @Bean
+    NoticeService noticeService(NoticeRepository noticeRepository,
+        NoticeListGeneration noticeListGeneration, ActiveNoticeFeed activeNoticeFeed,
+        CacheManager cacheManager) {
+      return new NoticeService(noticeRepository, mock(FileStorageService.class),
+          noticeListGeneration, mock(NoticeSearchIndex.class), activeNoticeFeed,
+          mock(ActiveNoticeFeedService.class), mock(ApplicationEventPublisher.class),
+          cacheManager);
+    }
+  }
+}
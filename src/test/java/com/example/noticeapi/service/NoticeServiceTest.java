@@ -1,38 +1,50 @@
 package com.example.noticeapi.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.example.noticeapi.cache.NoticeListGeneration;
 import com.example.noticeapi.dto.NoticeCreateDto;
+import com.example.noticeapi.dto.NoticeCursor;
 import com.example.noticeapi.dto.NoticeDetailResponseDto;
 import com.example.noticeapi.dto.NoticeResponseDto;
 import com.example.noticeapi.dto.NoticeSearchDto;
+import com.example.noticeapi.dto.NoticeSliceResponseDto;
 import com.example.noticeapi.dto.NoticeUpdateDto;
 import com.example.noticeapi.entity.Notice;
+import com.example.noticeapi.exception.InvalidCursorException;
 import com.example.noticeapi.exception.NoticeNotFoundException;
 import com.example.noticeapi.mapper.NoticeMapper;
 import com.example.noticeapi.repository.NoticeRepository;
+import com.example.noticeapi.search.NoticeSearchIndex;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 class NoticeServiceTest {
 
@@ -42,6 +54,18 @@ class NoticeServiceTest {
   @Mock
   private FileStorageService fileStorageService;
 
+  @Mock
+  private NoticeListGeneration noticeListGeneration;
+
+  @Mock
+  private NoticeSearchIndex noticeSearchIndex;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private CacheManager cacheManager;
+
   @InjectMocks
   private NoticeService noticeService;
 
@@ -67,7 +91,7 @@ class NoticeServiceTest {
         .build();
 
     when(fileStorageService.processFiles(anyList(), any(Notice.class)))
-        .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
+        .thenReturn(Collections.emptyList());
     when(noticeRepository.save(any(Notice.class))).thenReturn(savedNotice);
 
     NoticeResponseDto responseDto = noticeService.createNotice(noticeCreateDto,
@@ -76,6 +100,7 @@ class NoticeServiceTest {
     assertNotNull(responseDto);
     assertEquals("Title", responseDto.getTitle());
     verify(noticeRepository, times(1)).save(any(Notice.class));
+    verify(noticeListGeneration, times(1)).advance();
   }
 
   @Test
@@ -119,6 +144,51 @@ class NoticeServiceTest {
     verify(noticeRepository, times(1)).findByIsDeletedFalse(any());
   }
 
+  @Test
+  @DisplayName("커서 기반 첫 페이지 조회 테스트")
+  void getNoticesByCursor_FirstSlice() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    Notice newer = Notice.builder().id(2L).title("Newer").createdAt(createdAt.plusHours(1))
+        .build();
+    Notice older = Notice.builder().id(1L).title("Older").createdAt(createdAt).build();
+    when(noticeRepository.findByIsDeletedFalseOrderByCreatedAtDescIdDesc(any()))
+        .thenReturn(new SliceImpl<>(List.of(newer, older), PageRequest.of(0, 2), true));
+
+    NoticeSliceResponseDto slice = noticeService.getNoticesByCursor(null, 2);
+
+    assertEquals(2, slice.getNotices().size());
+    assertTrue(slice.isHasNext());
+    NoticeCursor nextCursor = NoticeCursor.decode(slice.getNextCursor());
+    assertEquals(createdAt, nextCursor.getCreatedAt());
+    assertEquals(1L, nextCursor.getId());
+  }
+
+  @Test
+  @DisplayName("커서 기반 다음 페이지 조회 테스트")
+  void getNoticesByCursor_NextSlice() {
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    Notice notice = Notice.builder().id(1L).title("Last").createdAt(createdAt.minusDays(1))
+        .build();
+    String cursor = new NoticeCursor(createdAt, 5L).encode();
+    when(noticeRepository.findNextSlice(any(LocalDateTime.class), anyLong(), any()))
+        .thenReturn(new SliceImpl<>(List.of(notice), PageRequest.of(0, 10), false));
+
+    NoticeSliceResponseDto slice = noticeService.getNoticesByCursor(cursor, 10);
+
+    assertEquals(1, slice.getNotices().size());
+    assertFalse(slice.isHasNext());
+    assertNull(slice.getNextCursor());
+    verify(noticeRepository, times(1)).findNextSlice(createdAt, 5L, PageRequest.of(0, 10));
+  }
+
+  @Test
+  @DisplayName("커서 기반 조회 실패 테스트 - 잘못된 커서")
+  void getNoticesByCursor_InvalidCursor() {
+    assertThrows(InvalidCursorException.class, () -> {
+      noticeService.getNoticesByCursor("not-a-cursor", 10);
+    });
+  }
+
   @Test
   @DisplayName("공지사항 검색 성공 테스트")
   void searchNotices_Success() {
@@ -143,6 +213,38 @@ class NoticeServiceTest {
         any());
   }
 
+  @Test
+  @DisplayName("색인 기반 공지사항 검색 테스트")
+  void searchNotices_FromIndex() {
+    Notice older = Notice.builder().id(1L).title("공지 변경").isDeleted(false).build();
+    NoticeSearchDto searchDto = NoticeSearchDto.builder().title("공지").build();
+    when(noticeSearchIndex.isReady()).thenReturn(true);
+    when(noticeSearchIndex.search(searchDto, 1, 1)).thenReturn(List.of(1L));
+    when(noticeRepository.findAllById(List.of(1L))).thenReturn(List.of(older));
+
+    List<NoticeResponseDto> responseDtos = noticeService.searchNotices(searchDto, 1, 1);
+
+    assertEquals(1, responseDtos.size());
+    assertEquals("공지 변경", responseDtos.get(0).getTitle());
+    verify(noticeRepository, times(1)).findAllById(List.of(1L));
+  }
+
+  @Test
+  @DisplayName("작성일 조건만 있는 검색은 색인 대신 범위 조회 사용")
+  void searchNotices_DateOnly_UsesRangeQuery() {
+    LocalDateTime startDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+    Notice notice = Notice.builder().id(1L).title("Title").createdAt(startDate.plusDays(1))
+        .isDeleted(false).build();
+    NoticeSearchDto searchDto = NoticeSearchDto.builder().startDate(startDate).build();
+    when(noticeRepository.findCreatedBetween(startDate, null, PageRequest.of(2, 10)))
+        .thenReturn(new SliceImpl<>(List.of(notice), PageRequest.of(2, 10), false));
+
+    List<NoticeResponseDto> responseDtos = noticeService.searchNotices(searchDto, 2, 10);
+
+    assertEquals(1, responseDtos.size());
+    verify(noticeSearchIndex, never()).search(any(), anyInt(), anyInt());
+  }
+
   @Test
   @DisplayName("공지사항 업데이트 성공 테스트")
   void updateNotice_Success() throws Exception {
@@ -152,9 +254,7 @@ class NoticeServiceTest {
         LocalDateTime.now(), LocalDateTime.now().plusDays(1));
     when(noticeRepository.findById(anyLong())).thenReturn(Optional.of(notice));
     when(fileStorageService.processFiles(anyList(), any(Notice.class)))
-        .thenReturn(CompletableFuture.completedFuture(Collections.emptyList()));
-    when(fileStorageService.deleteFilesByNotice(any(Notice.class)))
-        .thenReturn(CompletableFuture.completedFuture(null));
+        .thenReturn(Collections.emptyList());
     when(noticeRepository.save(any(Notice.class))).thenReturn(notice);
 
     NoticeResponseDto responseDto = noticeService.updateNotice(1L, noticeUpdateDto,
@@ -162,7 +262,9 @@ class NoticeServiceTest {
 
     assertNotNull(responseDto);
     assertEquals("Updated Title", responseDto.getTitle());
+    verify(fileStorageService, times(1)).deleteFilesByNotice(notice);
     verify(noticeRepository, times(1)).save(any(Notice.class));
+    verify(noticeListGeneration, times(1)).advance();
   }
 
   @Test
@@ -185,13 +287,13 @@ class NoticeServiceTest {
     Notice notice = Notice.builder().id(1L).title("Title").content("Content").isDeleted(false)
         .build();
     when(noticeRepository.findById(anyLong())).thenReturn(Optional.of(notice));
-    when(fileStorageService.deleteFilesByNotice(any(Notice.class)))
-        .thenReturn(CompletableFuture.completedFuture(null));
 
     noticeService.deleteNotice(1L);
 
     assertTrue(notice.isDeleted());
+    verify(fileStorageService, times(1)).deleteFilesByNotice(notice);
     verify(noticeRepository, times(1)).save(any(Notice.class));
+    verify(noticeListGeneration, times(1)).advance();
   }
 
   @Test
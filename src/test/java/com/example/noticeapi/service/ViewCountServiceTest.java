@@ -0,0 +1,142 @@
+package com.example.noticeapi.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.noticeapi.repository.NoticeRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+class ViewCountServiceTest {
+
+  @Mock
+  private NoticeRepository noticeRepository;
+
+  @Mock
+  private CacheManager cacheManager;
+
+  @Mock
+  private Cache noticeCache;
+
+  @InjectMocks
+  private ViewCountService viewCountService;
+
+  @BeforeEach
+  void setUp() {
+    MockitoAnnotations.openMocks(this);
+    when(cacheManager.getCache("notices")).thenReturn(noticeCache);
+  }
+
+  @Test
+  @DisplayName("조회수 누적 테스트")
+  void recordView_AccumulatesPendingViews() {
+    viewCountService.recordView(1L);
+    viewCountService.recordView(1L);
+    long pending = viewCountService.recordView(1L);
+
+    assertEquals(3L, pending);
+    assertEquals(3L, viewCountService.getPendingViews(1L));
+    assertEquals(0L, viewCountService.getPendingViews(2L));
+  }
+
+  @Test
+  @DisplayName("조회수 일괄 반영 테스트")
+  void flush_WritesAggregatedDeltas() {
+    viewCountService.recordView(1L);
+    viewCountService.recordView(1L);
+    viewCountService.recordView(2L);
+
+    viewCountService.flush();
+
+    verify(noticeRepository).addViewCounts(Map.of(1L, 2L, 2L, 1L));
+    verify(noticeCache).evict(1L);
+    verify(noticeCache).evict(2L);
+    assertEquals(0L, viewCountService.getPendingViews(1L));
+    assertEquals(0L, viewCountService.getPendingViews(2L));
+    assertEquals(0, viewCountService.getTrackedNoticeCount());
+  }
+
+  @Test
+  @DisplayName("누적값을 차감한 뒤에 캐시를 비우는지 테스트")
+  void flush_SubtractsBeforeEvicting() {
+    viewCountService.recordView(1L);
+    viewCountService.recordView(1L);
+    List<Long> pendingAtEviction = new ArrayList<>();
+    doAnswer(invocation -> {
+      pendingAtEviction.add(viewCountService.getPendingViews(1L));
+      return null;
+    }).when(noticeCache).evict(1L);
+
+    viewCountService.flush();
+
+    assertEquals(List.of(0L), pendingAtEviction);
+    assertEquals(0L, viewCountService.getPendingViews(1L));
+  }
+
+  @Test
+  @DisplayName("캐시 비우기에 실패한 공지는 다음 반영 때 DB 에 다시 쓰지 않고 캐시만 다시 비움")
+  void flush_RetriesEvictionAfterCacheFailure() {
+    viewCountService.recordView(1L);
+    doThrow(new IllegalStateException("redis down")).doNothing().when(noticeCache).evict(1L);
+
+    viewCountService.flush();
+    viewCountService.flush();
+
+    verify(noticeRepository, times(1)).addViewCounts(Map.of(1L, 1L));
+    verify(noticeCache, times(2)).evict(1L);
+    assertEquals(0L, viewCountService.getPendingViews(1L));
+  }
+
+  @Test
+  @DisplayName("반영 중 들어온 조회수는 남기는지 테스트")
+  void flush_KeepsViewsRecordedDuringFlush() {
+    viewCountService.recordView(1L);
+    doAnswer(invocation -> {
+      viewCountService.recordView(1L);
+      return null;
+    }).when(noticeRepository).addViewCounts(anyMap());
+
+    viewCountService.flush();
+
+    verify(noticeRepository).addViewCounts(Map.of(1L, 1L));
+    assertEquals(1L, viewCountService.getPendingViews(1L));
+    assertEquals(1, viewCountService.getTrackedNoticeCount());
+  }
+
+  @Test
+  @DisplayName("반영할 조회수가 없으면 DB에 쓰지 않음")
+  void flush_NothingPending() {
+    viewCountService.flush();
+
+    verify(noticeRepository, never()).addViewCounts(anyMap());
+  }
+
+  @Test
+  @DisplayName("조회수 반영 실패 시 누적값 복구 테스트")
+  void flush_Failure_RestoresPendingViews() {
+    viewCountService.recordView(1L);
+    doThrow(new DataAccessResourceFailureException("master down"))
+        .when(noticeRepository).addViewCounts(anyMap());
+
+    viewCountService.flush();
+
+    assertEquals(1L, viewCountService.getPendingViews(1L));
+    verify(noticeCache, never()).evict(1L);
+  }
+}